@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import ro.pippo.core.Application;
+import ro.pippo.core.PippoRuntimeException;
+import ro.pippo.core.util.ExecutorUtils;
+import ro.pippo.jetty.JettyServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of a route that blocks (simulated I/O of {@link #BLOCKING_TIME} ms) on Jetty with
+ * a bounded pool of {@link #PLATFORM_THREADS} platform threads versus virtual threads
+ * ({@code server.virtualThreads}). The client uses {@link #CLIENTS} concurrent connections, more than the
+ * platform threads, so the throughput with platform threads is bounded by the pool size.
+ * The virtual threads require JDK 21+ (on older JDKs the server falls back to the platform threads):
+ * <pre>
+ * java -jar target/benchmarks.jar BlockingRouteBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(BlockingRouteBenchmark.CLIENTS)
+@Fork(1)
+public class BlockingRouteBenchmark {
+
+    static final int CLIENTS = 256;
+    static final int PLATFORM_THREADS = 64;
+    static final int BLOCKING_TIME = 20;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private JettyServer server;
+    private URL url;
+
+    @Setup
+    public void setUp() throws Exception {
+        if (virtualThreads && !ExecutorUtils.isVirtualThreadsSupported()) {
+            throw new PippoRuntimeException("Virtual threads are not supported by Java {}", System.getProperty("java.version"));
+        }
+
+        Application application = new Application();
+        application.GET("/blocking", routeContext -> {
+            try {
+                Thread.sleep(BLOCKING_TIME);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            routeContext.text().send("done");
+        });
+
+        int port = getFreePort();
+        server = new JettyServer();
+        server.init(application);
+        server.getSettings()
+            .maxThreads(PLATFORM_THREADS)
+            .virtualThreads(virtualThreads)
+            .port(port);
+        server.start();
+
+        url = new URL("http://localhost:" + port + "/blocking");
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Benchmark
+    public int blockingRoute() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        int length = 0;
+        try (InputStream input = connection.getInputStream()) {
+            byte[] buffer = new byte[256];
+            int n;
+            while ((n = input.read(buffer)) != -1) {
+                length += n;
+            }
+        }
+
+        return length;
+    }
+
+    private static int getFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ro.pippo.controller.Controller;
+import ro.pippo.controller.ControllerMethodInvoker;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the invocation of a controller method with reflection ({@link Method#invoke(Object, Object...)})
+ * and with {@link ControllerMethodInvoker} (used by {@code ControllerHandler}).
+ * <pre>
+ * java -jar target/benchmarks.jar ControllerInvokerBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControllerInvokerBenchmark {
+
+    private HelloController controller;
+    private Method method;
+    private ControllerMethodInvoker invoker;
+    private Object[] arguments;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        controller = new HelloController();
+        method = HelloController.class.getMethod("hello", String.class, int.class);
+        invoker = new ControllerMethodInvoker(method);
+        arguments = new Object[] { "pippo", 3 };
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return method.invoke(controller, arguments);
+    }
+
+    @Benchmark
+    public Object invoker() throws Exception {
+        return invoker.invoke(controller, arguments);
+    }
+
+    public static class HelloController extends Controller {
+
+        public int hello(String name, int times) {
+            return name.length() * times;
+        }
+
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ro.pippo.core.Application;
+import ro.pippo.core.HttpConstants;
+import ro.pippo.core.Request;
+import ro.pippo.core.Response;
+import ro.pippo.core.route.DefaultRouter;
+import ro.pippo.core.route.RouteDispatcher;
+import ro.pippo.core.route.RouteMatchCache;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a request through {@link RouteDispatcher} (a filter route and a route with a path parameter).
+ * Run it with the GC profiler to see the bytes allocated per request ({@code gc.alloc.rate.norm}):
+ * <pre>
+ * java -jar target/benchmarks.jar DispatchBenchmark -prof gc
+ * </pre>
+ * The servlet request/response are minimal stubs, so the result is dominated by the Pippo code.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+
+    @Param({"false", "true"})
+    private boolean matchCache;
+
+    private Application application;
+    private RouteDispatcher routeDispatcher;
+    private HttpServletRequest httpServletRequest;
+    private HttpServletResponse httpServletResponse;
+
+    @Setup
+    public void setUp() {
+        application = new Application();
+        application.ANY("/.*", routeContext -> routeContext.next());
+        application.GET("/hello/{name}", routeContext -> routeContext.getResponse().ok());
+        if (matchCache) {
+            ((DefaultRouter) application.getRouter()).setRouteMatchCache(new RouteMatchCache(100));
+        }
+
+        routeDispatcher = new RouteDispatcher(application);
+        routeDispatcher.init();
+
+        httpServletRequest = stub(HttpServletRequest.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getMethod":
+                    return HttpConstants.Method.GET;
+                case "getRequestURI":
+                    return "/hello/pippo";
+                case "getRequestURL":
+                    return new StringBuffer("http://localhost/hello/pippo");
+                case "getContextPath":
+                    return "";
+                case "getParameterNames":
+                    return Collections.emptyEnumeration();
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+        httpServletResponse = stub(HttpServletResponse.class, (proxy, method, args) -> defaultValue(method.getReturnType()));
+    }
+
+    @Benchmark
+    public Response dispatch() throws Exception {
+        Request request = new Request(httpServletRequest, application);
+        Response response = new Response(httpServletResponse, application);
+        routeDispatcher.dispatch(request, response);
+
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(DispatchBenchmark.class.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ro.pippo.core.HttpConstants;
+import ro.pippo.core.route.DefaultRouter;
+import ro.pippo.core.route.Route;
+import ro.pippo.core.route.RouteHandler;
+import ro.pippo.core.route.RouteMatch;
+import ro.pippo.core.route.Router;
+import ro.pippo.core.route.TrieRouter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link DefaultRouter} and {@link TrieRouter} on {@link Router#findRoutes(String, String)}.
+ * Each route group contributes a static route, a route with a path parameter, a route with a regex path parameter
+ * and a route for another request method; one filter route ({@code ANY /.*}) matches all requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouterBenchmark {
+
+    private static final RouteHandler emptyHandler = routeContext -> {};
+
+    @Param({"10", "100", "1000"})
+    private int routes;
+
+    @Param({"default", "trie"})
+    private String router;
+
+    private Router instance;
+    private String staticUri;
+    private String parameterUri;
+    private String notFoundUri;
+
+    @Setup
+    public void setUp() {
+        instance = "trie".equals(router) ? new TrieRouter() : new DefaultRouter();
+        instance.addRoute(Route.ANY("/.*", emptyHandler));
+
+        int groups = Math.max(1, routes / 4);
+        for (int i = 0; i < groups; i++) {
+            instance.addRoute(Route.GET("/api/v1/items" + i, emptyHandler));
+            instance.addRoute(Route.GET("/api/v1/items" + i + "/{id}", emptyHandler));
+            instance.addRoute(Route.GET("/api/v1/items" + i + "/{id: [0-9]+}/details", emptyHandler));
+            instance.addRoute(Route.POST("/api/v1/items" + i, emptyHandler));
+        }
+        instance.compileRoutes();
+
+        // the worst case for a linear scan is a route defined at the end
+        int last = groups - 1;
+        staticUri = "/api/v1/items" + last;
+        parameterUri = "/api/v1/items" + last + "/1234";
+        notFoundUri = "/api/v2/unknown";
+    }
+
+    @Benchmark
+    public List<RouteMatch> staticRoute() {
+        return instance.findRoutes(HttpConstants.Method.GET, staticUri);
+    }
+
+    @Benchmark
+    public List<RouteMatch> parameterRoute() {
+        return instance.findRoutes(HttpConstants.Method.GET, parameterUri);
+    }
+
+    @Benchmark
+    public List<RouteMatch> notFound() {
+        return instance.findRoutes(HttpConstants.Method.GET, notFoundUri);
+    }
+
+}
@@ -26,14 +26,22 @@ import org.slf4j.LoggerFactory;
 import ro.pippo.core.Application;
 import ro.pippo.core.ContentTypeEngine;
 import ro.pippo.core.ParameterValue;
+import ro.pippo.core.PippoRuntimeException;
 import ro.pippo.core.util.ClassUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.nio.charset.Charset;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -123,10 +131,43 @@ public class CsvEngine implements ContentTypeEngine {
 
     @Override
     public String toString(Object object) {
+        return toCsv(toRecords(object));
+    }
+
+    @Override
+    public void toStream(Object object, OutputStream output, Charset charset) {
+        Csv[] records = toRecords(object);
+        if (records.length > 0) {
+            Writer writer = new OutputStreamWriter(output, charset);
+            try {
+                print(writer, records);
+                writer.flush();
+            } catch (IOException e) {
+                throw new PippoRuntimeException(e, "Failed to generate CSV");
+            }
+        }
+    }
+
+    public String toCsv(Csv... records) {
+        if (records != null && records.length > 0) {
+            StringWriter writer = new StringWriter();
+            try {
+                print(writer, records);
+            } catch (IOException e) {
+                log.error("Failed to generate CSV", e);
+            }
+
+            return writer.toString();
+        }
+
+        return null;
+    }
+
+    private Csv[] toRecords(Object object) {
         if (object instanceof Csv) {
-            return toCsv((Csv) object);
+            return new Csv[] { (Csv) object };
         } else if (object.getClass().isArray() && Csv.class.isAssignableFrom(object.getClass().getComponentType())) {
-            return toCsv((Csv[]) object);
+            return (Csv[]) object;
         } else if (Collection.class.isAssignableFrom(object.getClass())) {
             // Collections are supported for serialization to CSV
             ArrayList<?> list = new ArrayList<>((Collection<?>) object);
@@ -136,42 +177,45 @@ public class CsvEngine implements ContentTypeEngine {
                 }
             }
 
-            return toCsv(list.toArray(new Csv[list.size()]));
+            return list.toArray(new Csv[list.size()]);
         }
 
         throw new RuntimeException("Unexpected object type " + object.getClass().getName());
     }
 
-    public String toCsv(Csv... records) {
-        if (records != null && records.length > 0) {
-            String[] header = records[0].getCsvHeader();
-            StringWriter writer = new StringWriter();
-            try (CSVPrinter printer = getCSVFormat().withHeader(header).print(writer)) {
-                for (Csv record : records) {
-                    Object [] data = record.getCsvData();
-                    if (data == null || data.length == 0) {
-                        log.debug("Skipping null or empty record");
-                        continue;
-                    }
-
-                    for (Object column : data) {
-                        printer.print(objectToString(column));
-                    }
-                    printer.println();
-                }
-            } catch (IOException e) {
-                log.error("Failed to generate CSV", e);
+    /*
+     * The printer is not closed (it would close the output).
+     */
+    private void print(Appendable output, Csv... records) throws IOException {
+        String[] header = records[0].getCsvHeader();
+        CSVPrinter printer = getCSVFormat().withHeader(header).print(output);
+        for (Csv record : records) {
+            Object [] data = record.getCsvData();
+            if (data == null || data.length == 0) {
+                log.debug("Skipping null or empty record");
+                continue;
             }
 
-            return writer.toString();
+            for (Object column : data) {
+                printer.print(objectToString(column));
+            }
+            printer.println();
         }
+        printer.flush();
+    }
 
-        return null;
+    @Override
+    public <T> T fromString(String content, Class<T> classOfT) {
+        return fromReader(new StringReader(content), classOfT);
     }
 
     @Override
+    public <T> T fromStream(InputStream input, Charset charset, Class<T> classOfT) {
+        return fromReader(new InputStreamReader(input, charset), classOfT);
+    }
+
     @SuppressWarnings("unchecked")
-    public <T> T fromString(String content, Class<T> classOfT) {
+    private <T> T fromReader(Reader reader, Class<T> classOfT) {
         if (!classOfT.isArray()) {
             if (Collection.class.isAssignableFrom(classOfT)) {
                 // Collections are NOT supported for deserialization from CSV
@@ -182,7 +226,8 @@ public class CsvEngine implements ContentTypeEngine {
 
         Class<?> objectType = classOfT.getComponentType();
         int currentLine = 0;
-        try (CSVParser parser = new CSVParser(new StringReader(content), getCSVFormat().withHeader())) {
+        try {
+            CSVParser parser = new CSVParser(reader, getCSVFormat().withHeader());
             Set<String> columns = parser.getHeaderMap().keySet();
             Map<String, Field> fieldMap = getFieldMap(objectType);
 
@@ -21,6 +21,9 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.sql.Date;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -62,6 +65,18 @@ public class CsvEngineTest {
         assertEquals("Products are not the same", Arrays.toString(Product.get()), Arrays.toString(products));
     }
 
+    @Test
+    public void testStream() {
+        CsvEngine csvEngine = new CsvEngine();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        csvEngine.toStream(Product.get(), output, StandardCharsets.UTF_8);
+        String generated = new String(output.toByteArray(), StandardCharsets.UTF_8).replace("\r\n", "\n").trim();
+        assertEquals("Generated CSV is not the same", expected, generated);
+
+        Product[] products = csvEngine.fromStream(new ByteArrayInputStream(output.toByteArray()), StandardCharsets.UTF_8, Product[].class);
+        assertEquals("Products are not the same", Arrays.toString(Product.get()), Arrays.toString(products));
+    }
+
     final String expected = "id,sku,description,uuid,lastRestock\n" +
         "1,12345,Oranges,a0765bce-5d81-4b7c-8d28-b7f1efcb355b,2016-12-12\n" +
         "2,12345,Apples,25bc5325-6ce0-4e68-a5d9-4a5cfc6fb148,2015-12-12\n" +
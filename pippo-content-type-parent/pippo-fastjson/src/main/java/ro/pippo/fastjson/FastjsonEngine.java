@@ -20,9 +20,15 @@ import org.kohsuke.MetaInfServices;
 import ro.pippo.core.Application;
 import ro.pippo.core.ContentTypeEngine;
 import ro.pippo.core.HttpConstants;
+import ro.pippo.core.PippoRuntimeException;
 
 import com.alibaba.fastjson.JSON;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
 /**
  * A JsonEngine based on Fastjson.
  *
@@ -50,4 +56,22 @@ public class FastjsonEngine implements ContentTypeEngine {
         return JSON.parseObject(content, classOfT);
     }
 
+    @Override
+    public <T> T fromStream(InputStream input, Charset charset, Class<T> classOfT) {
+        try {
+            return JSON.parseObject(input, charset, classOfT);
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e, "Error deserializing {}", getContentType());
+        }
+    }
+
+    @Override
+    public void toStream(Object object, OutputStream output, Charset charset) {
+        try {
+            JSON.writeJSONString(output, charset, object, SerializerFeature.UseISO8601DateFormat);
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e, "Error serializing object to {}", getContentType());
+        }
+    }
+
 }
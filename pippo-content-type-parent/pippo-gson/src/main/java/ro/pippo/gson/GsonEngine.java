@@ -28,8 +28,16 @@ import org.kohsuke.MetaInfServices;
 import ro.pippo.core.Application;
 import ro.pippo.core.ContentTypeEngine;
 import ro.pippo.core.HttpConstants;
-
+import ro.pippo.core.PippoRuntimeException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
 import java.sql.Time;
 import java.text.DateFormat;
 import java.text.ParseException;
@@ -71,6 +79,22 @@ public class GsonEngine implements ContentTypeEngine {
         return gson.fromJson(content, classOfT);
     }
 
+    @Override
+    public <T> T fromStream(InputStream input, Charset charset, Class<T> classOfT) {
+        return gson.fromJson(new InputStreamReader(input, charset), classOfT);
+    }
+
+    @Override
+    public void toStream(Object object, OutputStream output, Charset charset) {
+        Writer writer = new OutputStreamWriter(output, charset);
+        gson.toJson(object, writer);
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e, "Error serializing object to {}", getContentType());
+        }
+    }
+
     public static class ISO8601DateTypeAdapter implements JsonSerializer<java.sql.Date>, JsonDeserializer<java.sql.Date> {
         private final DateFormat dateFormat;
 
@@ -15,10 +15,14 @@
  */
 package ro.pippo.jackson;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 import ro.pippo.core.Application;
@@ -26,7 +30,14 @@ import ro.pippo.core.ContentTypeEngine;
 import ro.pippo.core.HttpConstants;
 import ro.pippo.core.PippoRuntimeException;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.TimeZone;
 
 /**
@@ -68,4 +79,56 @@ public abstract class JacksonBaseEngine implements ContentTypeEngine {
         }
     }
 
+    @Override
+    public <T> T fromStream(InputStream input, Charset charset, Class<T> classOfT) {
+        ObjectReader reader = objectMapper.readerFor(classOfT).without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        try {
+            // jackson parses the UTF-8 bytes directly
+            if (StandardCharsets.UTF_8.equals(charset)) {
+                return reader.readValue(input);
+            }
+
+            return reader.readValue(new InputStreamReader(input, charset));
+        } catch (JsonParseException | JsonMappingException e) {
+            throw new PippoRuntimeException(e, "Error deserializing {}", getContentType());
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e, "Invalid {} document", getContentType());
+        }
+    }
+
+    @Override
+    public void toStream(Object object, OutputStream output, Charset charset) {
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // some generators (e.g. YAML) close the target anyway
+        OutputStream target = new NonClosingOutputStream(output);
+        try {
+            if (StandardCharsets.UTF_8.equals(charset)) {
+                writer.writeValue(target, object);
+            } else {
+                // the generator flushes the writer
+                writer.writeValue(new OutputStreamWriter(target, charset), object);
+            }
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e, "Error serializing object to {}", getContentType());
+        }
+    }
+
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream output) {
+            super(output);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+    }
+
 }
@@ -18,6 +18,10 @@ package ro.pippo.jackson;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Calendar;
 import java.util.Date;
 
@@ -61,6 +65,23 @@ public abstract class JacksonBaseEngineTest extends Assert {
         assertTrue(test.date.equals(result.date));
     }
 
+    @Test
+    public void testStream() {
+        MyTest test = new MyTest();
+        test.message = "Hooray! métier";
+
+        JacksonBaseEngine engine = getEngine();
+        engine.init(null);
+
+        for (Charset charset : new Charset[] { StandardCharsets.UTF_8, StandardCharsets.UTF_16 }) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            engine.toStream(test, output, charset);
+
+            MyTest result = engine.fromStream(new ByteArrayInputStream(output.toByteArray()), charset, MyTest.class);
+            assertEquals(test.message, result.message);
+        }
+    }
+
     public static class MyTest {
 
         public String message = "Hooray!";
@@ -28,8 +28,11 @@ import javax.xml.bind.Unmarshaller;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.charset.Charset;
 
 /**
  * An XmlEngine based on JAXB.
@@ -93,6 +96,36 @@ public class JaxbEngine implements ContentTypeEngine {
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T fromStream(InputStream input, Charset charset, Class<T> classOfT) {
+        try {
+            JAXBContext jaxbContext = JAXBContext.newInstance(classOfT);
+
+            XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(input, charset.name());
+
+            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+
+            return (T) unmarshaller.unmarshal(xmlStreamReader);
+        } catch (JAXBException | XMLStreamException e) {
+            throw new PippoRuntimeException(e, "Failed to deserialize content to '{}'", classOfT.getName());
+        }
+    }
+
+    @Override
+    public void toStream(Object object, OutputStream output, Charset charset) {
+        try {
+            JAXBContext jaxbContext = JAXBContext.newInstance(object.getClass());
+            Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
+            jaxbMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, prettyPrint);
+            jaxbMarshaller.setProperty(Marshaller.JAXB_ENCODING, charset.name());
+
+            jaxbMarshaller.marshal(object, output);
+        } catch (JAXBException e) {
+            throw new PippoRuntimeException(e, "Failed to serialize '{}' to XML", object.getClass().getName());
+        }
+    }
+
     /**
      * Create a new instance of the factory with some configurations.
      *
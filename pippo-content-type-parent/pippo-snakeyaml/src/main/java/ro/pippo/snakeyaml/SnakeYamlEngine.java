@@ -20,6 +20,15 @@ import org.yaml.snakeyaml.Yaml;
 import ro.pippo.core.Application;
 import ro.pippo.core.ContentTypeEngine;
 import ro.pippo.core.HttpConstants;
+import ro.pippo.core.PippoRuntimeException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
 
 /**
  * An YAML content-type engine based on SnakeYAML.
@@ -50,4 +59,20 @@ public class SnakeYamlEngine implements ContentTypeEngine {
         return new Yaml().loadAs(content, classOfT);
     }
 
+    @Override
+    public <T> T fromStream(InputStream input, Charset charset, Class<T> classOfT) {
+        return new Yaml().loadAs(new InputStreamReader(input, charset), classOfT);
+    }
+
+    @Override
+    public void toStream(Object object, OutputStream output, Charset charset) {
+        Writer writer = new OutputStreamWriter(output, charset);
+        new Yaml().dump(object, writer);
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e, "Error serializing object to {}", getContentType());
+        }
+    }
+
 }
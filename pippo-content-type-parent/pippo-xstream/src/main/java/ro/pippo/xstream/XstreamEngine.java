@@ -20,8 +20,17 @@ import org.kohsuke.MetaInfServices;
 import ro.pippo.core.Application;
 import ro.pippo.core.ContentTypeEngine;
 import ro.pippo.core.HttpConstants;
+import ro.pippo.core.PippoRuntimeException;
 import ro.pippo.core.util.WhitelistObjectInputStream;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
 /**
  * An XmlEngine based on XStream.
  *
@@ -69,4 +78,21 @@ public class XstreamEngine implements ContentTypeEngine {
         return (T) xstream().fromXML(content);
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T fromStream(InputStream input, Charset charset, Class<T> classOfT) {
+        return (T) xstream().fromXML(new InputStreamReader(input, charset));
+    }
+
+    @Override
+    public void toStream(Object object, OutputStream output, Charset charset) {
+        Writer writer = new OutputStreamWriter(output, charset);
+        xstream().toXML(object, writer);
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e, "Failed to serialize '{}' to XML", object.getClass().getName());
+        }
+    }
+
 }
@@ -24,25 +24,22 @@ import ro.pippo.core.ContentTypeEngines;
 import ro.pippo.core.HttpConstants;
 import ro.pippo.core.PippoRuntimeException;
 import ro.pippo.core.Request;
-import ro.pippo.core.route.DefaultRouteContext;
-import ro.pippo.core.route.Route;
 import ro.pippo.core.route.RouteContext;
 import ro.pippo.core.route.RouteHandler;
-import ro.pippo.core.route.RouteMatch;
 import ro.pippo.core.util.LangUtils;
 import ro.pippo.core.util.StringUtils;
 
 import java.io.File;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletionStage;
 
 /**
  * It's a {@link RouteHandler} that executes the controller's methods.
@@ -54,8 +51,13 @@ public class ControllerHandler implements RouteHandler {
 
     private static final Logger log = LoggerFactory.getLogger(ControllerHandler.class);
 
+    private static final Object[] NO_VALUES = new Object[0];
+
     private final Class<? extends Controller> controllerClass;
     private final Method controllerMethod;
+    private final ControllerMethodInvoker controllerMethodInvoker;
+    private final String controllerMethodName;
+    private final boolean returnsVoid;
 
     private final ControllerApplication application;
 
@@ -64,6 +66,8 @@ public class ControllerHandler implements RouteHandler {
     private final boolean isNoCache;
 
     private List<RouteHandler> interceptors;
+    private InterceptorChain interceptorChain;
+    private MethodParameter[] parameters;
     private MethodParameterExtractor[] extractors;
 
     private Controller controller;
@@ -74,6 +78,9 @@ public class ControllerHandler implements RouteHandler {
 
         this.controllerClass = (Class<? extends Controller>) controllerMethod.getDeclaringClass();
         this.controllerMethod = controllerMethod;
+        this.controllerMethodInvoker = new ControllerMethodInvoker(controllerMethod);
+        this.controllerMethodName = LangUtils.toString(controllerMethod);
+        this.returnsVoid = returnsVoid(controllerMethod);
 
         ContentTypeEngines engines = application.getContentTypeEngines();
 
@@ -86,6 +93,7 @@ public class ControllerHandler implements RouteHandler {
         this.isNoCache = ClassUtils.getAnnotation(controllerMethod, NoCache.class) != null;
 
         initInterceptors();
+        interceptorChain = new InterceptorChain(interceptors);
         initExtractors();
     }
 
@@ -98,7 +106,7 @@ public class ControllerHandler implements RouteHandler {
                 return;
             }
 
-            log.trace("Processing '{}' interceptors", LangUtils.toString(controllerMethod));
+            log.trace("Processing '{}' interceptors", controllerMethodName);
             int preInterceptStatus = routeContext.getResponse().getStatus();
             processRouteInterceptors(routeContext);
             int postInterceptStatus = routeContext.getResponse().getStatus();
@@ -116,10 +124,10 @@ public class ControllerHandler implements RouteHandler {
                 return;
             }
 
-            log.trace("Preparing '{}' parameters from request", LangUtils.toString(controllerMethod));
+            log.trace("Preparing '{}' parameters from request", controllerMethodName);
             Object[] values = prepareMethodParameters(routeContext);
 
-            log.trace("Invoking '{}'", LangUtils.toString(controllerMethod));
+            log.trace("Invoking '{}'", controllerMethodName);
 
             // create the controller instance
             Controller controller = getController();
@@ -127,52 +135,72 @@ public class ControllerHandler implements RouteHandler {
             specifyCacheControls(routeContext);
             specifyContentType(routeContext);
 
-            Object result = controllerMethod.invoke(controller, values);
+            Object result = controllerMethodInvoker.invoke(controller, values);
 
-            if (routeContext.getResponse().isCommitted()) {
-                log.debug("Response committed in {}", LangUtils.toString(controllerMethod));
-            } else {
-                if (!controllerMethod.getReturnType().equals(Void.TYPE)) {
-                    // method declares a Return Type
-                    if (result == null) {
-                        // NULL result, prepare a NOT FOUND (404)
-                        routeContext.getResponse().notFound();
-                    } else {
-                        // send returned result
-                        if (result instanceof CharSequence) {
-                            // send a char sequence (e.g. pre-formatted JSON, XML, YAML, etc)
-                            CharSequence charSequence = (CharSequence) result;
-                            routeContext.send(charSequence);
-                        } else if (result instanceof File) {
-                            // stream a File resource
-                            File file = (File) result;
-                            routeContext.send(file);
-                        } else {
-                            // send an object using a ContentTypeEngine
-                            routeContext.send(result);
-                        }
-                    }
-                }
+            if (result instanceof CompletionStage) {
+                // send the result and continue the chain when the stage completes, without blocking the container thread
+                log.debug("Processing '{}' asynchronously", controllerMethodName);
+                routeContext.async().complete((CompletionStage<?>) result, (context, value) -> {
+                    sendResult(context, value);
+                    context.next();
+                });
+
+                return;
             }
 
+            sendResult(routeContext, result);
+
             routeContext.next();
-        } catch (InvocationTargetException e) {
-            // handles exceptions thrown within the proxied controller method
-            Throwable t = e.getTargetException();
-            if (t instanceof Exception) {
-                Exception target = (Exception) t;
-                handleDeclaredThrownException(target, routeContext);
-            } else if (t instanceof Error) {
-                throw (Error) t;
-            } else {
-                log.error("Failed to handle controller method exception", t);
-            }
         } catch (Exception e) {
-            // handles exceptions thrown within this handle() method
+            // handles exceptions thrown within the controller method or within this handle() method
             handleDeclaredThrownException(e, routeContext);
         }
     }
 
+    protected void sendResult(RouteContext routeContext, Object result) {
+        if (routeContext.getResponse().isCommitted()) {
+            log.debug("Response committed in {}", controllerMethodName);
+        } else {
+            if (!returnsVoid) {
+                // method declares a Return Type
+                if (result == null) {
+                    // NULL result, prepare a NOT FOUND (404)
+                    routeContext.getResponse().notFound();
+                } else {
+                    // send returned result
+                    if (result instanceof CharSequence) {
+                        // send a char sequence (e.g. pre-formatted JSON, XML, YAML, etc)
+                        CharSequence charSequence = (CharSequence) result;
+                        routeContext.send(charSequence);
+                    } else if (result instanceof File) {
+                        // stream a File resource
+                        File file = (File) result;
+                        routeContext.send(file);
+                    } else {
+                        // send an object using a ContentTypeEngine
+                        routeContext.send(result);
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * Returns true for {@code void} and {@code CompletionStage<Void>}.
+     */
+    private static boolean returnsVoid(Method method) {
+        if (method.getReturnType().equals(Void.TYPE)) {
+            return true;
+        }
+
+        Type returnType = method.getGenericReturnType();
+        if (returnType instanceof ParameterizedType && CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+            return Void.class.equals(((ParameterizedType) returnType).getActualTypeArguments()[0]);
+        }
+
+        return false;
+    }
+
     protected Controller getController() {
         if (controller == null) {
             return application.getControllerFactory().createController(controllerClass);
@@ -203,10 +231,15 @@ public class ControllerHandler implements RouteHandler {
      * Init extractors from controller method.
      */
     protected void initExtractors() {
-        Parameter[] parameters = controllerMethod.getParameters();
-        extractors = new MethodParameterExtractor[parameters.length];
-        for (int i = 0; i < parameters.length; i++) {
+        int parameterCount = controllerMethod.getParameterCount();
+        parameters = new MethodParameter[parameterCount];
+        extractors = new MethodParameterExtractor[parameterCount];
+        for (int i = 0; i < parameterCount; i++) {
             MethodParameter parameter = new MethodParameter(controllerMethod, i);
+            // resolve the lazy values now (not on the first request)
+            parameter.getParameterType();
+            parameter.getParameterName();
+            parameters[i] = parameter;
             MethodParameterExtractor extractor = application.getExtractors().stream()
                 .filter(e -> e.isApplicable(parameter))
                 .findFirst()
@@ -215,7 +248,7 @@ public class ControllerHandler implements RouteHandler {
             if (extractor == null) {
                 throw new PippoRuntimeException(
                     "Method '{}' parameter {} of type '{}' does not specify a extractor",
-                    LangUtils.toString(controllerMethod), i + 1, parameter.getParameterType());
+                    controllerMethodName, i + 1, parameter.getParameterType());
             }
 
             extractors[i] = extractor;
@@ -254,10 +287,10 @@ public class ControllerHandler implements RouteHandler {
             if (!contentTypes.contains(consume)) {
                 if (consume.equals(declaredConsume)) {
                     throw new PippoRuntimeException("{} declares @{}(\"{}\") but there is no registered ContentTypeEngine for that type!",
-                            LangUtils.toString(controllerMethod), Consumes.class.getSimpleName(), declaredConsume);
+                            controllerMethodName, Consumes.class.getSimpleName(), declaredConsume);
                 } else {
                     throw new PippoRuntimeException("{} declares @{}(\"{}\") but there is no registered ContentTypeEngine for \"{}\"!",
-                            LangUtils.toString(controllerMethod), Consumes.class.getSimpleName(), declaredConsume, consume);
+                            controllerMethodName, Consumes.class.getSimpleName(), declaredConsume, consume);
                 }
             }
         }
@@ -281,7 +314,7 @@ public class ControllerHandler implements RouteHandler {
 
             if (!contentTypes.contains(produces)) {
                 throw new PippoRuntimeException("{} declares @{}(\"{}\") but there is no registered ContentTypeEngine for that type!",
-                        LangUtils.toString(controllerMethod), Produces.class.getSimpleName(), produces);
+                        controllerMethodName, Produces.class.getSimpleName(), produces);
             }
         }
     }
@@ -293,22 +326,22 @@ public class ControllerHandler implements RouteHandler {
      * @return true if the route handles the request accept/content-type
      */
     protected boolean canConsume(RouteContext routeContext) {
-        Set<String> contentTypes = getContentTypes(routeContext.getRequest());
+        Collection<String> contentTypes = getContentTypes(routeContext.getRequest());
 
         if (!declaredConsumes.isEmpty()) {
             if (declaredConsumes.contains(Consumes.ALL)) {
-                log.debug("{} will handle Request because it consumes '{}'", LangUtils.toString(controllerMethod), Consumes.ALL);
+                log.debug("{} will handle Request because it consumes '{}'", controllerMethodName, Consumes.ALL);
                 return true;
             }
 
-            Set<String> types = new LinkedHashSet<>(contentTypes);
+            Collection<String> types = contentTypes;
             if (types.isEmpty()) {
                 // request does not specify a Content-Type so add Accept type(s)
-                types.addAll(getAcceptTypes(routeContext.getRequest()));
+                types = getAcceptTypes(routeContext.getRequest());
 
                 // request can handle any type, so consume the Request
                 if (types.contains("*") || types.contains("*/*")) {
-                    log.debug("{} will handle Request because it consumes '{}'", LangUtils.toString(controllerMethod), "*/*");
+                    log.debug("{} will handle Request because it consumes '{}'", controllerMethodName, "*/*");
                     return true;
                 }
             }
@@ -316,7 +349,7 @@ public class ControllerHandler implements RouteHandler {
             for (String type : types) {
                 if (declaredConsumes.contains(type)) {
                     // explicit content-type match
-                    log.debug("{} will handle Request because it consumes '{}'", LangUtils.toString(controllerMethod), type);
+                    log.debug("{} will handle Request because it consumes '{}'", controllerMethodName, type);
                     return true;
                 } else {
                     // look for a fuzzy content-type match
@@ -325,7 +358,7 @@ public class ControllerHandler implements RouteHandler {
                         if (fuzz > -1) {
                             String fuzzyType = declaredType.substring(0, fuzz);
                             if (type.startsWith(fuzzyType)) {
-                                log.debug("{} will handle Request because it consumes '{}'", LangUtils.toString(controllerMethod), type);
+                                log.debug("{} will handle Request because it consumes '{}'", controllerMethodName, type);
                                 return true;
                             }
                         }
@@ -335,9 +368,9 @@ public class ControllerHandler implements RouteHandler {
 
             if (types.isEmpty()) {
                 log.warn("{} can not handle Request because neither 'Accept' nor 'Content-Type' are set and Route @Consumes '{}'",
-                    LangUtils.toString(controllerMethod), declaredConsumes);
+                    controllerMethodName, declaredConsumes);
             } else {
-                log.warn("{} can not handle Request for '{}' because Route @Consumes '{}'", LangUtils.toString(controllerMethod),
+                log.warn("{} can not handle Request for '{}' because Route @Consumes '{}'", controllerMethodName,
                         types, declaredConsumes);
             }
             return false;
@@ -346,42 +379,23 @@ public class ControllerHandler implements RouteHandler {
         return true;
     }
 
+    /**
+     * Runs the interceptors (built once, see {@link #initInterceptors()}) with the route context of request.
+     *
+     * @param routeContext
+     */
     protected void processRouteInterceptors(RouteContext routeContext) {
-        if (interceptors.isEmpty()) {
-            return;
-        }
-
-        List<RouteMatch> chain = new ArrayList<>();
-        for (RouteHandler interceptor : interceptors) {
-            // create a route for interceptor
-            Route route = new Route(routeContext.getRequestMethod(), routeContext.getRequestUri(), interceptor);
-            route.setName(StringUtils.format("{}<{}>", Interceptor.class.getSimpleName(),
-                    route.getRouteHandler().getClass().getSimpleName()));
-            route.bindAll(routeContext.getRoute().getAttributes());
-
-            // add route in chain
-            RouteMatch match = new RouteMatch(route, null);
-            chain.add(match);
-        }
-
-        // TODO DefaultRouteContext is hardcoded
-        RouteContext context = new DefaultRouteContext(routeContext.getApplication(),
-            routeContext.getRequest(),
-            routeContext.getResponse(),
-            chain);
-        context.next();
+        interceptorChain.run(routeContext);
     }
 
     protected Object[] prepareMethodParameters(RouteContext routeContext) {
-        Parameter[] parameters = controllerMethod.getParameters();
-
         if (parameters.length == 0) {
-            return new Object[0];
+            return NO_VALUES;
         }
 
         Object[] values = new Object[parameters.length];
         for (int i = 0; i < values.length; i++) {
-            MethodParameter parameter = new MethodParameter(controllerMethod, i);
+            MethodParameter parameter = parameters[i];
             Class<?> type = parameter.getParameterType();
 
             MethodParameterExtractor extractor = extractors[i];
@@ -443,50 +457,34 @@ public class ControllerHandler implements RouteHandler {
         throw new PippoRuntimeException(e);
     }
 
-    private Set<String> getAcceptTypes(Request request) {
-        Set<String> types = new LinkedHashSet<>();
-        types.addAll(getContentTypes(request.getAcceptType()));
-        types.addAll(getContentTypes(request.getHttpServletRequest().getHeader(HttpConstants.Header.ACCEPT)));
-
-        return types;
+    private Collection<String> getAcceptTypes(Request request) {
+        return getContentTypes(request.getAcceptType(), request.getHttpServletRequest().getHeader(HttpConstants.Header.ACCEPT));
     }
 
-    private Set<String> getContentTypes(Request request) {
-        Set<String> types = new LinkedHashSet<>();
-        types.addAll(getContentTypes(request.getContentType()));
-        types.addAll(getContentTypes(request.getHttpServletRequest().getContentType()));
-
-        return types;
+    private Collection<String> getContentTypes(Request request) {
+        return getContentTypes(request.getContentType(), request.getHttpServletRequest().getContentType());
     }
 
     /*
-     * Cleans a complex content-type or accept header value by removing the
-     * quality scores.
-     * <p/>
-     * <pre>
-     * text/html,application/xhtml+xml,application/xml;q=0.9,image/webp
-     * </pre>
-     *
-     * @param contentType
-     * @return the sanitized set of content-types
+     * Returns the media types (without the quality scores) of two content-type or accept header values,
+     * usually the same value, so the cached list of media types is returned.
      */
-    private Set<String> getContentTypes(String contentType) {
-        if (StringUtils.isNullOrEmpty(contentType)) {
-            return Collections.emptySet();
+    private Collection<String> getContentTypes(String contentType1, String contentType2) {
+        ContentTypeEngines engines = application.getContentTypeEngines();
+        List<String> types1 = engines.getMediaTypes(contentType1);
+        if (StringUtils.isNullOrEmpty(contentType2) || contentType2.equals(contentType1)) {
+            return types1;
         }
 
-        Set<String> set = new LinkedHashSet<>();
-        String[] types = contentType.split(",");
-        for (String type : types) {
-            if (type.contains(";")) {
-                // drop ;q=0.8 quality scores
-                type = type.substring(0, type.indexOf(';'));
-            }
-
-            set.add(type.trim().toLowerCase());
+        List<String> types2 = engines.getMediaTypes(contentType2);
+        if (types1.isEmpty()) {
+            return types2;
         }
 
-        return set;
+        Set<String> types = new LinkedHashSet<>(types1);
+        types.addAll(types2);
+
+        return types;
     }
 
 }
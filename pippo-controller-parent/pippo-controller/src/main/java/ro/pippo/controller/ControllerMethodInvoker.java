@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.controller;
+
+import ro.pippo.core.PippoRuntimeException;
+import ro.pippo.core.util.LangUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Invokes a controller method through a {@link MethodHandle} bound once (when the route is created),
+ * with the signature {@code (Object controller, Object[] arguments) -> Object}.
+ * Compared with {@link Method#invoke(Object, Object...)} there is no access check and no argument
+ * validation per call, and the exceptions thrown by the controller method are not wrapped
+ * in an {@link java.lang.reflect.InvocationTargetException}.
+ */
+public class ControllerMethodInvoker {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Method method;
+    private final MethodHandle methodHandle;
+
+    public ControllerMethodInvoker(Method method) {
+        this.method = method;
+
+        MethodHandle methodHandle;
+        try {
+            if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                method.setAccessible(true);
+            }
+            methodHandle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException | SecurityException e) {
+            throw new PippoRuntimeException(e, "Cannot access method '{}'", LangUtils.toString(method));
+        }
+
+        if (Modifier.isStatic(method.getModifiers())) {
+            // ignore the controller
+            methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+        }
+
+        this.methodHandle = methodHandle
+            .asSpreader(Object[].class, method.getParameterCount())
+            .asType(INVOKER_TYPE);
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Invokes the method. A void method returns {@code null}.
+     *
+     * @param controller the controller instance (ignored for a static method)
+     * @param arguments the arguments (an array with the length equals with the number of method parameters)
+     * @return the result of method
+     * @throws Exception the exception thrown by the method
+     */
+    public Object invoke(Object controller, Object[] arguments) throws Exception {
+        try {
+            return (Object) methodHandle.invokeExact(controller, arguments);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new PippoRuntimeException(t);
+        }
+    }
+
+}
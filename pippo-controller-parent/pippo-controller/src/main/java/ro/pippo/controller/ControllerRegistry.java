@@ -18,6 +18,7 @@ package ro.pippo.controller;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ro.pippo.controller.util.ClassUtils;
+import ro.pippo.controller.util.ControllerIndex;
 import ro.pippo.core.route.Route;
 import ro.pippo.core.route.RouteHandler;
 import ro.pippo.core.util.LangUtils;
@@ -237,13 +238,62 @@ public class ControllerRegistry {
 
     /**
      * Discover Controller classes.
+     * The controller index ({@link ControllerIndex}) is used if it's available,
+     * the packages without indexed controllers or with an outdated index are scanned.
      *
      * @param packageNames
      * @return controller classes
      */
+    @SuppressWarnings("unchecked")
     private Collection<Class<? extends Controller>> getControllerClasses(String... packageNames) {
         log.debug("Discovering annotated controller in package(s) '{}'", Arrays.toString(packageNames));
-        return ClassUtils.getSubTypesOf(Controller.class, packageNames);
+
+        ClassLoader classLoader = ControllerRegistry.class.getClassLoader();
+        ControllerIndex index = ControllerIndex.load(classLoader);
+        if (index == null) {
+            return ClassUtils.getSubTypesOf(Controller.class, packageNames);
+        }
+
+        Set<Class<? extends Controller>> classes = new LinkedHashSet<>();
+        List<String> indexedPackageNames = new ArrayList<>();
+        List<String> notIndexedPackageNames = new ArrayList<>();
+        for (String packageName : packageNames) {
+            Set<String> classNames = index.getClassNames(packageName);
+            if (classNames.isEmpty()) {
+                notIndexedPackageNames.add(packageName);
+                continue;
+            }
+
+            if (index.isOutdated(packageName, classLoader)) {
+                log.warn("The controller index is older than the classes from package '{}', scan the package", packageName);
+                notIndexedPackageNames.add(packageName);
+                continue;
+            }
+
+            indexedPackageNames.add(packageName);
+            log.debug("Found {} indexed controller classes in package '{}'", classNames.size(), packageName);
+            for (String className : classNames) {
+                try {
+                    Class<?> controllerClass = Class.forName(className);
+                    if (Controller.class.isAssignableFrom(controllerClass)) {
+                        classes.add((Class<? extends Controller>) controllerClass);
+                    }
+                } catch (ClassNotFoundException e) {
+                    // a stale index (the class was removed)
+                    log.warn("Cannot find indexed controller class '{}'", className);
+                }
+            }
+        }
+
+        if (!indexedPackageNames.isEmpty()) {
+            log.info("Resolved controllers of package(s) {} from '{}'", indexedPackageNames, ControllerIndex.RESOURCE_NAME);
+        }
+
+        if (!notIndexedPackageNames.isEmpty()) {
+            classes.addAll(ClassUtils.getSubTypesOf(Controller.class, notIndexedPackageNames.toArray(new String[0])));
+        }
+
+        return classes;
     }
 
     /**
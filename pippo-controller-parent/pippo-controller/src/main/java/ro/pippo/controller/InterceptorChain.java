@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ro.pippo.core.route.RouteContext;
+import ro.pippo.core.route.RouteContextWrapper;
+import ro.pippo.core.route.RouteHandler;
+
+import java.util.List;
+
+/**
+ * The (immutable) chain with the interceptors of a controller method, built once per {@link ControllerHandler}.
+ * The interceptors run with the route context of the request; only {@link RouteContext#next()}
+ * is changed to call the next interceptor.
+ */
+class InterceptorChain {
+
+    private static final Logger log = LoggerFactory.getLogger(InterceptorChain.class);
+
+    private final RouteHandler[] interceptors;
+
+    InterceptorChain(List<RouteHandler> interceptors) {
+        this.interceptors = interceptors.toArray(new RouteHandler[0]);
+    }
+
+    boolean isEmpty() {
+        return interceptors.length == 0;
+    }
+
+    /**
+     * Runs the interceptors. An interceptor calls {@link RouteContext#next()} to continue the chain.
+     */
+    void run(RouteContext routeContext) {
+        if (interceptors.length > 0) {
+            new ChainRouteContext(routeContext).next();
+        }
+    }
+
+    private class ChainRouteContext extends RouteContextWrapper {
+
+        private int index;
+
+        ChainRouteContext(RouteContext routeContext) {
+            super(routeContext);
+        }
+
+        @Override
+        public void next() {
+            if (index < interceptors.length) {
+                RouteHandler interceptor = interceptors[index++];
+                log.debug("Executing {}<{}>", Interceptor.class.getSimpleName(), interceptor.getClass().getSimpleName());
+                interceptor.handle(this);
+            }
+        }
+
+        @Override
+        public void runFinallyRoutes() {
+            // the finally routes are executed by the request chain
+        }
+
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.controller.processor;
+
+import ro.pippo.controller.Controller;
+import ro.pippo.controller.util.ControllerIndex;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates the controller index ({@value ControllerIndex#RESOURCE_NAME}) with all the {@link Controller}
+ * classes of the compiled sources, so the controllers are registered without scanning the classpath.
+ * <p>
+ * The processor is not registered as a service, it must be enabled explicitly
+ * (for example with {@code -processor ro.pippo.controller.processor.ControllerIndexProcessor} or
+ * with {@code annotationProcessors} of maven-compiler-plugin) and it must run on every build,
+ * a controller compiled without the processor is missing from the index and its package is scanned
+ * only if the index is detected as outdated (see {@link ControllerIndex#isOutdated(String, ClassLoader)}).
+ * An existing index from the class output is merged (for incremental builds) and the indexed classes
+ * that no longer exist are ignored at runtime.
+ * </p>
+ */
+@SupportedAnnotationTypes("*")
+public class ControllerIndexProcessor extends AbstractProcessor {
+
+    private final Set<String> classNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        TypeElement controllerElement = processingEnv.getElementUtils().getTypeElement(Controller.class.getName());
+        if (controllerElement == null) {
+            return false;
+        }
+
+        TypeMirror controllerType = controllerElement.asType();
+        for (Element element : roundEnv.getRootElements()) {
+            collect(element, controllerType);
+        }
+
+        return false;
+    }
+
+    private void collect(Element element, TypeMirror controllerType) {
+        if (element.getKind() != ElementKind.CLASS) {
+            return;
+        }
+
+        TypeElement typeElement = (TypeElement) element;
+        if (processingEnv.getTypeUtils().isSubtype(typeElement.asType(), controllerType)) {
+            classNames.add(processingEnv.getElementUtils().getBinaryName(typeElement).toString());
+        }
+
+        // nested classes
+        for (Element enclosedElement : typeElement.getEnclosedElements()) {
+            collect(enclosedElement, controllerType);
+        }
+    }
+
+    private void writeIndex() {
+        if (classNames.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", ControllerIndex.RESOURCE_NAME);
+            try (Reader reader = existing.openReader(true)) {
+                classNames.addAll(ControllerIndex.read(reader));
+            }
+        } catch (IOException e) {
+            // no index
+        }
+
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", ControllerIndex.RESOURCE_NAME);
+            try (Writer writer = index.openWriter()) {
+                new ControllerIndex(classNames).write(writer);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + ControllerIndex.RESOURCE_NAME + ": " + e);
+        }
+    }
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.controller.util;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The name, super class, interfaces and (runtime visible) annotations of a class,
+ * read from the class file bytes without loading the class.
+ */
+public class ClassHeader {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ABSTRACT = 0x0400;
+    private static final int ACC_ANNOTATION = 0x2000;
+
+    private final String name;
+    private final String superName;
+    private final List<String> interfaceNames;
+    private final List<String> annotationNames;
+    private final int access;
+
+    ClassHeader(String name, String superName, List<String> interfaceNames, List<String> annotationNames, int access) {
+        this.name = name;
+        this.superName = superName;
+        this.interfaceNames = interfaceNames;
+        this.annotationNames = annotationNames;
+        this.access = access;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the name of the super class or {@code null} for {@code java.lang.Object}.
+     */
+    public String getSuperName() {
+        return superName;
+    }
+
+    public List<String> getInterfaceNames() {
+        return interfaceNames;
+    }
+
+    public List<String> getAnnotationNames() {
+        return annotationNames;
+    }
+
+    public boolean isInterface() {
+        return (access & ACC_INTERFACE) != 0;
+    }
+
+    public boolean isAbstract() {
+        return (access & ACC_ABSTRACT) != 0;
+    }
+
+    public boolean isAnnotation() {
+        return (access & ACC_ANNOTATION) != 0;
+    }
+
+    /**
+     * Reads the header of a class file. The input stream is not closed.
+     */
+    public static ClassHeader read(InputStream inputStream) throws IOException {
+        DataInputStream input = new DataInputStream(inputStream);
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        input.readUnsignedShort(); // minor version
+        input.readUnsignedShort(); // major version
+
+        // constant pool (only the utf8 strings and the class entries are kept)
+        int constantPoolCount = input.readUnsignedShort();
+        String[] strings = new String[constantPoolCount];
+        int[] classes = new int[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = input.readUnsignedByte();
+            switch (tag) {
+                case 1: // Utf8
+                    strings[i] = input.readUTF();
+                    break;
+                case 7: // Class
+                    classes[i] = input.readUnsignedShort();
+                    break;
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    skipFully(input, 2);
+                    break;
+                case 15: // MethodHandle
+                    skipFully(input, 3);
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    skipFully(input, 4);
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    skipFully(input, 8);
+                    i++; // takes two entries
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+
+        int access = input.readUnsignedShort();
+        String name = getClassName(input.readUnsignedShort(), strings, classes);
+        String superName = getClassName(input.readUnsignedShort(), strings, classes);
+
+        int interfacesCount = input.readUnsignedShort();
+        List<String> interfaceNames = new ArrayList<>(interfacesCount);
+        for (int i = 0; i < interfacesCount; i++) {
+            interfaceNames.add(getClassName(input.readUnsignedShort(), strings, classes));
+        }
+
+        // fields and methods
+        for (int k = 0; k < 2; k++) {
+            int membersCount = input.readUnsignedShort();
+            for (int i = 0; i < membersCount; i++) {
+                skipFully(input, 6); // access, name, descriptor
+                skipAttributes(input);
+            }
+        }
+
+        List<String> annotationNames = Collections.emptyList();
+        int attributesCount = input.readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            String attributeName = strings[input.readUnsignedShort()];
+            int length = input.readInt();
+            if ("RuntimeVisibleAnnotations".equals(attributeName)) {
+                int annotationsCount = input.readUnsignedShort();
+                annotationNames = new ArrayList<>(annotationsCount);
+                for (int j = 0; j < annotationsCount; j++) {
+                    annotationNames.add(getTypeName(strings[input.readUnsignedShort()]));
+                    skipElementValuePairs(input);
+                }
+            } else {
+                skipFully(input, length);
+            }
+        }
+
+        return new ClassHeader(name, superName, interfaceNames, annotationNames, access);
+    }
+
+    private static String getClassName(int index, String[] strings, int[] classes) {
+        if (index == 0) {
+            return null;
+        }
+
+        return strings[classes[index]].replace('/', '.');
+    }
+
+    /*
+     * "Lcom/example/MyAnnotation;" -> "com.example.MyAnnotation"
+     */
+    private static String getTypeName(String descriptor) {
+        return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+    }
+
+    private static void skipAttributes(DataInputStream input) throws IOException {
+        int attributesCount = input.readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            skipFully(input, 2); // name
+            skipFully(input, input.readInt());
+        }
+    }
+
+    private static void skipElementValuePairs(DataInputStream input) throws IOException {
+        int pairsCount = input.readUnsignedShort();
+        for (int i = 0; i < pairsCount; i++) {
+            skipFully(input, 2); // name
+            skipElementValue(input);
+        }
+    }
+
+    private static void skipElementValue(DataInputStream input) throws IOException {
+        int tag = input.readUnsignedByte();
+        switch (tag) {
+            case 'e': // enum
+                skipFully(input, 4);
+                break;
+            case '@': // annotation
+                skipFully(input, 2);
+                skipElementValuePairs(input);
+                break;
+            case '[': // array
+                int valuesCount = input.readUnsignedShort();
+                for (int i = 0; i < valuesCount; i++) {
+                    skipElementValue(input);
+                }
+                break;
+            default: // constant or class
+                skipFully(input, 2);
+        }
+    }
+
+    private static void skipFully(DataInputStream input, int length) throws IOException {
+        int skipped = 0;
+        while (skipped < length) {
+            int n = input.skipBytes(length - skipped);
+            if (n <= 0) {
+                input.readByte(); // throws EOFException at the end of stream
+                n = 1;
+            }
+            skipped += n;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ClassHeader{" +
+            "name='" + name + '\'' +
+            ", superName='" + superName + '\'' +
+            ", interfaceNames=" + interfaceNames +
+            ", annotationNames=" + annotationNames +
+            '}';
+    }
+
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.controller.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ro.pippo.core.PippoRuntimeException;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Finds the classes of some packages without loading them.
+ * The class files (from directories and jars) are read in parallel (on the common {@code ForkJoinPool})
+ * and only the headers (super class, interfaces, annotations) are parsed (see {@link ClassHeader}).
+ * The classes outside of the scanned packages (for example a super class from a library)
+ * are loaded (without initialization) only if it's needed.
+ */
+public class ClassScanner {
+
+    private static final Logger log = LoggerFactory.getLogger(ClassScanner.class);
+
+    private final ClassLoader classLoader;
+
+    public ClassScanner() {
+        this(ClassScanner.class.getClassLoader());
+    }
+
+    public ClassScanner(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Returns the names of the sub types (including the type) from the specified packages.
+     */
+    public Set<String> getSubTypeNames(Class<?> type, String... packageNames) {
+        Map<String, ClassHeader> headers = scan(packageNames);
+        Map<String, Boolean> resolved = new HashMap<>();
+
+        return filter(headers, name -> isSubType(name, type, headers, resolved));
+    }
+
+    /**
+     * Returns the names of the classes annotated with the specified annotation
+     * (or inherited, if the annotation is {@link Inherited}) from the specified packages.
+     */
+    public Set<String> getAnnotatedClassNames(Class<? extends Annotation> annotationClass, String... packageNames) {
+        Map<String, ClassHeader> headers = scan(packageNames);
+        boolean inherited = annotationClass.isAnnotationPresent(Inherited.class);
+
+        return filter(headers, name -> isAnnotated(name, annotationClass, inherited, headers));
+    }
+
+    /**
+     * Reads (in parallel) the headers of all classes from the specified packages.
+     */
+    public Map<String, ClassHeader> scan(String... packageNames) {
+        long start = System.currentTimeMillis();
+
+        List<ClassFile> classFiles = new ArrayList<>();
+        List<JarFile> jarFiles = new ArrayList<>();
+        try {
+            for (String packageName : packageNames) {
+                String packagePath = packageName.replace('.', '/');
+                Enumeration<URL> packageUrls = classLoader.getResources(packagePath);
+                while (packageUrls.hasMoreElements()) {
+                    URL packageUrl = packageUrls.nextElement();
+                    if (packageUrl.getProtocol().equals("jar")) {
+                        log.debug("Scanning jar '{}' for classes", packageUrl);
+                        JarFile jarFile = openJar(packageUrl);
+                        jarFiles.add(jarFile);
+                        collectClassFiles(jarFile, packagePath + '/', classFiles);
+                    } else {
+                        log.debug("Scanning filesystem '{}' for classes (protocol = {})", packageUrl, packageUrl.getProtocol());
+                        collectClassFiles(Paths.get(packageUrl.toURI()), packagePath, classFiles);
+                    }
+                }
+            }
+
+            Map<String, ClassHeader> headers = classFiles.parallelStream()
+                .map(ClassFile::readHeader)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toConcurrentMap(ClassHeader::getName, Function.identity(), (header1, header2) -> header1));
+            log.debug("Scanned {} classes in {} ms", headers.size(), System.currentTimeMillis() - start);
+
+            return headers;
+        } catch (IOException | URISyntaxException e) {
+            throw new PippoRuntimeException(e, "Failed to scan packages {}", (Object) packageNames);
+        } finally {
+            for (JarFile jarFile : jarFiles) {
+                try {
+                    jarFile.close();
+                } catch (IOException e) {
+                    log.warn("Cannot close '{}'", jarFile.getName());
+                }
+            }
+        }
+    }
+
+    private Set<String> filter(Map<String, ClassHeader> headers, Predicate<String> predicate) {
+        Set<String> names = new TreeSet<>();
+        for (String name : headers.keySet()) {
+            if (predicate.test(name)) {
+                names.add(name);
+            }
+        }
+
+        return Collections.unmodifiableSet(names);
+    }
+
+    private boolean isSubType(String name, Class<?> type, Map<String, ClassHeader> headers, Map<String, Boolean> resolved) {
+        if (name == null) {
+            return false;
+        }
+
+        if (name.equals(type.getName())) {
+            return true;
+        }
+
+        Boolean result = resolved.get(name);
+        if (result != null) {
+            return result;
+        }
+
+        ClassHeader header = headers.get(name);
+        if (header == null) {
+            // outside of the scanned packages
+            Class<?> aClass = loadClass(name);
+            result = aClass != null && type.isAssignableFrom(aClass);
+        } else {
+            result = isSubType(header.getSuperName(), type, headers, resolved);
+            if (!result && type.isInterface()) {
+                for (String interfaceName : header.getInterfaceNames()) {
+                    if (isSubType(interfaceName, type, headers, resolved)) {
+                        result = true;
+                        break;
+                    }
+                }
+            }
+        }
+        resolved.put(name, result);
+
+        return result;
+    }
+
+    private boolean isAnnotated(String name, Class<? extends Annotation> annotationClass, boolean inherited, Map<String, ClassHeader> headers) {
+        if (name == null) {
+            return false;
+        }
+
+        ClassHeader header = headers.get(name);
+        if (header == null) {
+            // outside of the scanned packages
+            Class<?> aClass = loadClass(name);
+            return aClass != null && aClass.isAnnotationPresent(annotationClass);
+        }
+
+        if (header.getAnnotationNames().contains(annotationClass.getName())) {
+            return true;
+        }
+
+        return inherited && !header.isInterface() && isAnnotated(header.getSuperName(), annotationClass, true, headers);
+    }
+
+    private Class<?> loadClass(String name) {
+        if ("java.lang.Object".equals(name)) {
+            return Object.class;
+        }
+
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.debug("Cannot load class '{}'", name);
+            return null;
+        }
+    }
+
+    private static JarFile openJar(URL packageUrl) throws IOException, URISyntaxException {
+        String jar = packageUrl.toString().substring("jar:".length()).split("!")[0];
+
+        return new JarFile(new File(new URI(jar)));
+    }
+
+    private static void collectClassFiles(JarFile jarFile, String packagePrefix, List<ClassFile> classFiles) {
+        Enumeration<JarEntry> entries = jarFile.entries();
+        while (entries.hasMoreElements()) {
+            JarEntry entry = entries.nextElement();
+            String entryName = entry.getName();
+            if (!entry.isDirectory() && entryName.startsWith(packagePrefix) && isClassFile(entryName)) {
+                classFiles.add(new ClassFile(entryName) {
+
+                    @Override
+                    InputStream openStream() throws IOException {
+                        return jarFile.getInputStream(entry);
+                    }
+
+                });
+            }
+        }
+    }
+
+    private static void collectClassFiles(Path packageDirectory, String packagePath, List<ClassFile> classFiles) throws IOException {
+        try (Stream<Path> walk = Files.walk(packageDirectory)) {
+            walk.filter(path -> isClassFile(path.toString()))
+                .forEach(path -> classFiles.add(new ClassFile(packagePath + '/' + packageDirectory.relativize(path)) {
+
+                    @Override
+                    InputStream openStream() throws IOException {
+                        return Files.newInputStream(path);
+                    }
+
+                }));
+        }
+    }
+
+    private static boolean isClassFile(String name) {
+        return name.endsWith(".class") && !name.endsWith("package-info.class") && !name.endsWith("module-info.class");
+    }
+
+    private static abstract class ClassFile {
+
+        private final String name;
+
+        ClassFile(String name) {
+            this.name = name;
+        }
+
+        abstract InputStream openStream() throws IOException;
+
+        ClassHeader readHeader() {
+            try (InputStream input = new BufferedInputStream(openStream())) {
+                return ClassHeader.read(input);
+            } catch (IOException e) {
+                log.warn("Cannot read class file '{}'", name, e);
+                return null;
+            }
+        }
+
+    }
+
+}
@@ -140,19 +140,24 @@ public class ClassUtils {
 
     /**
      * Gets all sub types in hierarchy of a given type.
+     * The candidates are filtered with {@link ClassScanner} (from class files), so only the sub types are loaded.
      */
+    @SuppressWarnings("unchecked")
     public static <T> Collection<Class<? extends T>> getSubTypesOf(Class<T> type, String... packageNames) {
-        List<Class<? extends T>> classes = getClasses(packageNames).stream()
-                .filter(aClass -> type.isAssignableFrom(aClass))
-                .map(aClass -> (Class<? extends T>) aClass)
-                .collect(Collectors.toList()); // TODO: pass a Supplier to toList() to avoid map
+        List<Class<? extends T>> classes = new ClassScanner().getSubTypeNames(type, packageNames).stream()
+                .map(className -> (Class<? extends T>) ClassUtils.getClass(className))
+                .collect(Collectors.toList());
 
         return Collections.unmodifiableCollection(classes);
     }
 
+    /**
+     * Gets all classes annotated with the given annotation.
+     * The candidates are filtered with {@link ClassScanner} (from class files), so only the annotated classes are loaded.
+     */
     public static Collection<Class<?>> getAnnotatedClasses(Class<? extends Annotation> annotationClass, String... packageNames) {
-        List<Class<?>> classes = getClasses(packageNames).stream()
-                .filter(aClass -> aClass.isAnnotationPresent(annotationClass))
+        List<Class<?>> classes = new ClassScanner().getAnnotatedClassNames(annotationClass, packageNames).stream()
+                .map(className -> (Class<?>) ClassUtils.getClass(className))
                 .collect(Collectors.toList());
 
         return Collections.unmodifiableCollection(classes);
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.controller.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ro.pippo.core.PippoRuntimeException;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The index with the controller classes ({@value #RESOURCE_NAME}), one class name per line.
+ * It's generated at compile time by {@link ro.pippo.controller.processor.ControllerIndexProcessor}
+ * and it's used by {@link ro.pippo.controller.ControllerRegistry} instead of scanning the classpath.
+ * <p>
+ * The processor must run on every build that compiles controllers, otherwise the new controllers
+ * are missing from the index. When the index is a file (exploded classes, for example in development)
+ * and a package contains class files newer than the index, the package is considered outdated
+ * (see {@link #isOutdated(String, ClassLoader)}) and it's scanned.
+ * </p>
+ */
+public class ControllerIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ControllerIndex.class);
+
+    public static final String RESOURCE_NAME = "META-INF/pippo/controllers.idx";
+
+    private final Set<String> classNames;
+    private final long lastModified;
+
+    public ControllerIndex(Collection<String> classNames) {
+        this(classNames, 0);
+    }
+
+    /**
+     * @param lastModified the modification time of the index or {@code 0} if it's unknown
+     */
+    public ControllerIndex(Collection<String> classNames, long lastModified) {
+        this.classNames = Collections.unmodifiableSet(new TreeSet<>(classNames));
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Reads (and merges) all the indexes available in the class loader.
+     *
+     * @return the index or {@code null} if there is no index
+     */
+    public static ControllerIndex load(ClassLoader classLoader) {
+        Set<String> classNames = new TreeSet<>();
+        boolean found = false;
+        long lastModified = 0;
+        try {
+            Enumeration<URL> urls = classLoader.getResources(RESOURCE_NAME);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                log.debug("Read controller index '{}'", url);
+                try (InputStream input = url.openStream()) {
+                    classNames.addAll(read(new InputStreamReader(input, StandardCharsets.UTF_8)));
+                }
+                File file = toFile(url);
+                if (file != null) {
+                    lastModified = Math.max(lastModified, file.lastModified());
+                }
+                found = true;
+            }
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e, "Failed to read '{}'", RESOURCE_NAME);
+        }
+
+        return found ? new ControllerIndex(classNames, lastModified) : null;
+    }
+
+    public static Set<String> read(Reader reader) throws IOException {
+        Set<String> classNames = new TreeSet<>();
+        BufferedReader bufferedReader = new BufferedReader(reader);
+        String line;
+        while ((line = bufferedReader.readLine()) != null) {
+            line = line.trim();
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                classNames.add(line);
+            }
+        }
+
+        return classNames;
+    }
+
+    public void write(Writer writer) throws IOException {
+        for (String className : classNames) {
+            writer.write(className);
+            writer.write('\n');
+        }
+    }
+
+    public Set<String> getClassNames() {
+        return classNames;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Returns {@code true} if the package (or its sub packages) contains class files
+     * newer than the index, so the index was not regenerated after the last compilation.
+     * Only the packages from directories are checked (the modification time of the index
+     * must be known), the classes from jars are packaged together with their index.
+     */
+    public boolean isOutdated(String packageName, ClassLoader classLoader) {
+        if (lastModified == 0) {
+            return false;
+        }
+
+        try {
+            Enumeration<URL> urls = classLoader.getResources(packageName.replace('.', '/'));
+            while (urls.hasMoreElements()) {
+                File directory = toFile(urls.nextElement());
+                if (directory != null && directory.isDirectory() && containsNewerClasses(directory.toPath())) {
+                    return true;
+                }
+            }
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e, "Failed to check the controller index of package '{}'", packageName);
+        }
+
+        return false;
+    }
+
+    private boolean containsNewerClasses(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths
+                .filter(path -> path.toString().endsWith(".class"))
+                .anyMatch(path -> path.toFile().lastModified() > lastModified);
+        }
+    }
+
+    private static File toFile(URL url) {
+        if (!"file".equals(url.getProtocol())) {
+            return null;
+        }
+
+        try {
+            return Paths.get(url.toURI()).toFile();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the indexed classes from the specified package (or its sub packages).
+     */
+    public Set<String> getClassNames(String packageName) {
+        String packagePrefix = packageName + '.';
+        Set<String> result = new TreeSet<>();
+        for (String className : classNames) {
+            if (className.startsWith(packagePrefix)) {
+                result.add(className);
+            }
+        }
+
+        return result;
+    }
+
+}
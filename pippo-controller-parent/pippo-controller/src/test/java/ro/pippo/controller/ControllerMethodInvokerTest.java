@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.controller;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ControllerMethodInvokerTest {
+
+    @Test
+    public void testInvoke() throws Exception {
+        TestController controller = new TestController();
+
+        ControllerMethodInvoker invoker = new ControllerMethodInvoker(TestController.class.getMethod("hello", String.class, int.class));
+        assertEquals("hello john 3", invoker.invoke(controller, new Object[] { "john", 3 }));
+
+        invoker = new ControllerMethodInvoker(TestController.class.getMethod("index"));
+        assertNull(invoker.invoke(controller, new Object[0]));
+        assertEquals(1, controller.count);
+
+        invoker = new ControllerMethodInvoker(TestController.class.getDeclaredMethod("hidden"));
+        assertEquals(42L, invoker.invoke(controller, new Object[0]));
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvokeThrowsTargetException() throws Exception {
+        ControllerMethodInvoker invoker = new ControllerMethodInvoker(TestController.class.getMethod("fail"));
+        invoker.invoke(new TestController(), new Object[0]);
+    }
+
+    public static class TestController extends Controller {
+
+        int count;
+
+        public String hello(String name, int times) {
+            return "hello " + name + " " + times;
+        }
+
+        public void index() {
+            count++;
+        }
+
+        public void fail() throws IOException {
+            throw new IOException("fail");
+        }
+
+        long hidden() {
+            return 42;
+        }
+
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.controller;
+
+import org.junit.Test;
+import ro.pippo.core.route.RouteContext;
+import ro.pippo.core.route.RouteHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class InterceptorChainTest {
+
+    @Test
+    public void testRun() {
+        List<String> calls = new ArrayList<>();
+        RouteHandler first = routeContext -> {
+            calls.add("first");
+            routeContext.setLocal("user", "john");
+            routeContext.next();
+        };
+        RouteHandler second = routeContext -> calls.add("second"); // stops the chain
+        RouteHandler third = routeContext -> calls.add("third");
+
+        RouteContext routeContext = mock(RouteContext.class);
+        new InterceptorChain(Arrays.asList(first, second, third)).run(routeContext);
+
+        assertEquals(Arrays.asList("first", "second"), calls);
+        // the interceptors share the route context of request, but not its chain
+        verify(routeContext).setLocal("user", "john");
+        verify(routeContext, never()).next();
+    }
+
+    @Test
+    public void testRunAll() {
+        List<String> calls = new ArrayList<>();
+        RouteHandler first = routeContext -> {
+            calls.add("first");
+            routeContext.next();
+        };
+        RouteHandler second = routeContext -> {
+            calls.add("second");
+            routeContext.next();
+        };
+
+        InterceptorChain chain = new InterceptorChain(Arrays.asList(first, second));
+        RouteContext routeContext = mock(RouteContext.class);
+        chain.run(routeContext);
+        chain.run(routeContext);
+
+        assertEquals(Arrays.asList("first", "second", "first", "second"), calls);
+        verify(routeContext, never()).next();
+    }
+
+}
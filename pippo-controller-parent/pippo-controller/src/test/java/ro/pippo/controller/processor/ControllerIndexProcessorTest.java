@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.controller.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.Test;
+import ro.pippo.controller.util.ControllerIndex;
+
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ControllerIndexProcessorTest {
+
+    @Test
+    public void testIndex() throws IOException {
+        Compilation compilation = Compiler.javac()
+            .withProcessors(new ControllerIndexProcessor())
+            .compile(
+                JavaFileObjects.forSourceLines("test.UserController",
+                    "package test;",
+                    "public class UserController extends ro.pippo.controller.Controller {",
+                    "    public static class Nested extends ro.pippo.controller.Controller { }",
+                    "}"),
+                JavaFileObjects.forSourceLines("test.Helper",
+                    "package test;",
+                    "public class Helper { }"));
+
+        assertEquals(Compilation.Status.SUCCESS, compilation.status());
+        Optional<JavaFileObject> index = compilation.generatedFile(StandardLocation.CLASS_OUTPUT, "", ControllerIndex.RESOURCE_NAME);
+        assertTrue(index.isPresent());
+
+        String content = index.get().getCharContent(true).toString();
+        assertEquals(new HashSet<>(Arrays.asList("test.UserController", "test.UserController$Nested")),
+            ControllerIndex.read(new StringReader(content)));
+    }
+
+}
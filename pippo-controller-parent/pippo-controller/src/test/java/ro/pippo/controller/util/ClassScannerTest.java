@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.controller.util;
+
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import ro.pippo.DynamicJar;
+import ro.pippo.controller.Controller;
+import ro.pippo.controller.Path;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ClassScannerTest {
+
+    private static java.nio.file.Path tmpFolder;
+    private static DynamicJar dynamicJar;
+    private static URL jarUrl;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        tmpFolder = Files.createTempDirectory(ClassScannerTest.class.getSimpleName());
+        dynamicJar = new DynamicJar.Builder(tmpFolder.resolve("ClassScannerTest.jar"))
+            .clazz(JavaFileObjects.forSourceLines("ro.pippo.scan.BaseController",
+                "package ro.pippo.scan;",
+                "public abstract class BaseController extends ro.pippo.controller.Controller { }"))
+            .clazz(JavaFileObjects.forSourceLines("ro.pippo.scan.UserController",
+                "package ro.pippo.scan;",
+                "@ro.pippo.controller.Path(\"/users\")",
+                "public class UserController extends BaseController implements java.io.Serializable {",
+                "    public static final long VALUE = 1L;",
+                "    private String name = \"user\";",
+                "    public void list() { }",
+                "}"))
+            .clazz(JavaFileObjects.forSourceLines("ro.pippo.scan.admin.AdminController",
+                "package ro.pippo.scan.admin;",
+                "@ro.pippo.controller.Produces({ \"application/json\", \"text/plain\" })",
+                "public class AdminController extends ro.pippo.controller.Controller {",
+                "    public static class Nested extends ro.pippo.controller.Controller { }",
+                "}"))
+            .clazz(JavaFileObjects.forSourceLines("ro.pippo.scan.Helper",
+                "package ro.pippo.scan;",
+                "public class Helper implements Runnable { public void run() { } }"))
+            .extract()
+            .build();
+        jarUrl = buildJarWithDirectories();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        tmpFolder.toFile().delete();
+    }
+
+    @Test
+    public void testScanJar() throws IOException {
+        testScan(jarUrl);
+    }
+
+    @Test
+    public void testScanFileSystem() throws IOException {
+        testScan(dynamicJar.baseDirURL());
+    }
+
+    @Test
+    public void testReadHeader() throws IOException {
+        ClassScanner scanner = new ClassScanner(new URLClassLoader(new URL[] { jarUrl }, getClass().getClassLoader()));
+        Map<String, ClassHeader> headers = scanner.scan("ro.pippo.scan");
+        assertEquals(5, headers.size());
+
+        ClassHeader header = headers.get("ro.pippo.scan.UserController");
+        assertEquals("ro.pippo.scan.BaseController", header.getSuperName());
+        assertEquals(Collections.singletonList("java.io.Serializable"), header.getInterfaceNames());
+        assertEquals(Collections.singletonList(Path.class.getName()), header.getAnnotationNames());
+        assertFalse(header.isAbstract());
+        assertTrue(headers.get("ro.pippo.scan.BaseController").isAbstract());
+    }
+
+    /*
+     * The class loader finds a package in a jar only if the jar contains the directory entries.
+     */
+    private static URL buildJarWithDirectories() throws IOException {
+        java.nio.file.Path jarPath = tmpFolder.resolve("ClassScannerTestWithDirectories.jar");
+        java.nio.file.Path classesPath = dynamicJar.baseDirPath();
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jarPath));
+             Stream<java.nio.file.Path> walk = Files.walk(classesPath.resolve("ro"))) {
+            for (java.nio.file.Path path : walk.sorted().collect(Collectors.toList())) {
+                String name = classesPath.relativize(path).toString().replace(File.separatorChar, '/');
+                if (Files.isDirectory(path)) {
+                    output.putNextEntry(new JarEntry(name + '/'));
+                } else {
+                    output.putNextEntry(new JarEntry(name));
+                    Files.copy(path, output);
+                }
+                output.closeEntry();
+            }
+        }
+
+        return jarPath.toUri().toURL();
+    }
+
+    private void testScan(URL url) {
+        ClassScanner scanner = new ClassScanner(new URLClassLoader(new URL[] { url }, getClass().getClassLoader()));
+
+        assertEquals(new HashSet<>(Arrays.asList(
+            "ro.pippo.scan.BaseController",
+            "ro.pippo.scan.UserController",
+            "ro.pippo.scan.admin.AdminController",
+            "ro.pippo.scan.admin.AdminController$Nested")),
+            scanner.getSubTypeNames(Controller.class, "ro.pippo.scan"));
+        assertEquals(Collections.singleton("ro.pippo.scan.Helper"), scanner.getSubTypeNames(Runnable.class, "ro.pippo.scan"));
+        assertEquals(Collections.singleton("ro.pippo.scan.UserController"), scanner.getAnnotatedClassNames(Path.class, "ro.pippo.scan"));
+        assertEquals(2, scanner.getSubTypeNames(Controller.class, "ro.pippo.scan.admin").size());
+    }
+
+}
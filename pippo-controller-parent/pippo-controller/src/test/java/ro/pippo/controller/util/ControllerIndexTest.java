@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.controller.util;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class ControllerIndexTest {
+
+    private static final long INDEX_TIME = 1_000_000_000_000L;
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    private File indexFile;
+    private File classFile;
+    private ClassLoader classLoader;
+
+    @Before
+    public void setUp() throws IOException {
+        File classes = tmpFolder.newFolder("classes");
+
+        indexFile = new File(classes, ControllerIndex.RESOURCE_NAME);
+        indexFile.getParentFile().mkdirs();
+        Files.write(indexFile.toPath(), "test.web.ContactsController\n".getBytes(StandardCharsets.UTF_8));
+        indexFile.setLastModified(INDEX_TIME);
+
+        classFile = new File(classes, "test/web/ContactsController.class");
+        classFile.getParentFile().mkdirs();
+        classFile.createNewFile();
+        classFile.setLastModified(INDEX_TIME - 1000);
+
+        classLoader = new URLClassLoader(new URL[] { classes.toURI().toURL() }, null);
+    }
+
+    @Test
+    public void testLoad() {
+        ControllerIndex index = ControllerIndex.load(classLoader);
+        assertNotNull(index);
+        assertEquals(Collections.singleton("test.web.ContactsController"), index.getClassNames("test"));
+        assertEquals(INDEX_TIME, index.getLastModified());
+    }
+
+    @Test
+    public void testUpToDate() {
+        ControllerIndex index = ControllerIndex.load(classLoader);
+        assertFalse(index.isOutdated("test", classLoader));
+    }
+
+    @Test
+    public void testOutdated() throws IOException {
+        File newClassFile = new File(classFile.getParentFile(), "admin/UsersController.class");
+        newClassFile.getParentFile().mkdirs();
+        newClassFile.createNewFile();
+        newClassFile.setLastModified(INDEX_TIME + 1000);
+
+        ControllerIndex index = ControllerIndex.load(classLoader);
+        assertTrue(index.isOutdated("test", classLoader));
+        assertTrue(index.isOutdated("test.web.admin", classLoader));
+    }
+
+    @Test
+    public void testUnknownLastModified() throws IOException {
+        classFile.setLastModified(INDEX_TIME + 1000);
+
+        ControllerIndex index = new ControllerIndex(Collections.singleton("test.web.ContactsController"));
+        assertFalse(index.isOutdated("test", classLoader));
+    }
+
+}
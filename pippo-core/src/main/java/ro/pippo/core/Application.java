@@ -25,6 +25,7 @@ import ro.pippo.core.route.RouteContext;
 import ro.pippo.core.route.RouteDispatcher;
 import ro.pippo.core.route.RouteGroup;
 import ro.pippo.core.route.RouteHandler;
+import ro.pippo.core.route.RouteMatchCache;
 import ro.pippo.core.route.RoutePostDispatchListenerList;
 import ro.pippo.core.route.RoutePreDispatchListenerList;
 import ro.pippo.core.route.RouteTransformer;
@@ -116,6 +117,16 @@ public class Application implements ResourceRouting {
 
         onInit();
 
+        // enable the route match cache
+        int routeMatchCacheSize = pippoSettings.getInteger(PippoConstants.SETTING_ROUTER_MATCH_CACHE_SIZE, 0);
+        if (routeMatchCacheSize > 0 && getRouter() instanceof DefaultRouter) {
+            DefaultRouter defaultRouter = (DefaultRouter) getRouter();
+            if (defaultRouter.getRouteMatchCache() == null) {
+                defaultRouter.setRouteMatchCache(new RouteMatchCache(routeMatchCacheSize));
+                log.debug("Route match cache with maximum size {}", routeMatchCacheSize);
+            }
+        }
+
         // compile routes
         getRouter().compileRoutes();
     }
@@ -15,6 +15,14 @@
  */
 package ro.pippo.core;
 
+import ro.pippo.core.util.IoUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
 
 /**
  * @author James Moger
@@ -29,4 +37,42 @@ public interface ContentTypeEngine {
 
     <T> T fromString(String content, Class<T> classOfT);
 
+    /**
+     * Deserializes an object from a stream (for example the request body), without closing the stream.
+     * The default implementation reads the whole content in a {@link String} and calls
+     * {@link #fromString(String, Class)}; an engine should override it to parse the stream directly.
+     *
+     * @param input
+     * @param charset the charset of content
+     * @param classOfT
+     * @return the object
+     */
+    default <T> T fromStream(InputStream input, Charset charset, Class<T> classOfT) {
+        StringWriter writer = new StringWriter();
+        try {
+            IoUtils.copy(new InputStreamReader(input, charset), writer);
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e, "Failed to read {} content", getContentType());
+        }
+
+        return fromString(writer.toString(), classOfT);
+    }
+
+    /**
+     * Serializes an object to a stream (for example the response body), without closing the stream.
+     * The default implementation writes the result of {@link #toString(Object)}; an engine should
+     * override it to write the stream directly.
+     *
+     * @param object
+     * @param output
+     * @param charset the charset of content
+     */
+    default void toStream(Object object, OutputStream output, Charset charset) {
+        try {
+            output.write(toString(object).getBytes(charset));
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e, "Failed to write {} content", getContentType());
+        }
+    }
+
 }
@@ -23,12 +23,18 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Container for registered content type engines. The main purpose of this
  * object is to gracefully handle mapping a suffix, complex content-type,
  * or an accept header to an engine.
+ * <p>
+ * The parsed header values (media types ordered by quality) and the resolved engines are cached,
+ * because the number of distinct accept headers is small.
+ * </p>
  *
  * @author James Moger
  */
@@ -36,13 +42,22 @@ public class ContentTypeEngines {
 
     private static final Logger log = LoggerFactory.getLogger(ContentTypeEngines.class);
 
+    private static final int CACHE_SIZE = 256;
+    private static final int MAX_CACHED_VALUE_LENGTH = 512;
+
     private final Map<String, ContentTypeEngine> engines;
 
     private final Map<String, ContentTypeEngine> suffixes;
 
+    private final Map<String, List<String>> mediaTypesCache;
+
+    private final Map<String, Optional<ContentTypeEngine>> enginesCache;
+
     public ContentTypeEngines() {
         this.engines = new TreeMap<>();
         this.suffixes = new TreeMap<>();
+        this.mediaTypesCache = new ConcurrentHashMap<>();
+        this.enginesCache = new ConcurrentHashMap<>();
     }
 
     /**
@@ -52,15 +67,7 @@ public class ContentTypeEngines {
      * @return true if there is an engine for the content type
      */
     public boolean hasContentTypeEngine(String contentTypeOrSuffix) {
-        String sanitizedTypes = sanitizeContentTypes(contentTypeOrSuffix);
-        String[] types = sanitizedTypes.split(",");
-        for (String type : types) {
-            if (engines.containsKey(type)) {
-                return true;
-            }
-        }
-
-        return suffixes.containsKey(contentTypeOrSuffix.toLowerCase());
+        return getContentTypeEngine(contentTypeOrSuffix) != null;
     }
 
     /**
@@ -106,31 +113,65 @@ public class ContentTypeEngines {
     }
 
     /**
-     * Returns the first matching content type engine for a content type suffix (json, xml, yaml), a
+     * Returns the best matching content type engine for a content type suffix (json, xml, yaml), a
      * simple content type (application/json) or a complex accept header like:
      * <p/>
      * <pre>
      * text/html,application/xhtml+xml,application/xml;q=0.9,image/webp
      * </pre>
+     * The media types are tried in order of quality (see {@link #getMediaTypes(String)}).
      *
      * @param contentTypeOrSuffix
-     * @return null or the first matching content type engine
+     * @return null or the best matching content type engine
      */
     public ContentTypeEngine getContentTypeEngine(String contentTypeOrSuffix) {
         if (StringUtils.isNullOrEmpty(contentTypeOrSuffix)) {
             return null;
         }
 
-        String sanitizedTypes = sanitizeContentTypes(contentTypeOrSuffix);
-        String[] types = sanitizedTypes.split(",");
-        for (String type : types) {
-            ContentTypeEngine engine = engines.get(type);
+        Optional<ContentTypeEngine> cached = enginesCache.get(contentTypeOrSuffix);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+
+        ContentTypeEngine engine = null;
+        for (String type : getMediaTypes(contentTypeOrSuffix)) {
+            engine = engines.get(type);
             if (engine != null) {
-                return engine;
+                break;
             }
         }
 
-        return suffixes.get(contentTypeOrSuffix.toLowerCase());
+        if (engine == null) {
+            engine = suffixes.get(contentTypeOrSuffix.toLowerCase());
+        }
+
+        return cache(enginesCache, contentTypeOrSuffix, Optional.ofNullable(engine)).orElse(null);
+    }
+
+    /**
+     * Returns the media types of a content type or accept header value (lower case, without parameters),
+     * ordered by quality ({@code q} parameter) and specificity (for example {@code text/html} before
+     * {@code text/*} before {@code *}{@code /*}). The media types with {@code q=0} are excluded.
+     * <p/>
+     * <pre>
+     * text/html;q=0.8,application/json,*{@literal /}*;q=0.1 -> [application/json, text/html, *{@literal /}*]
+     * </pre>
+     *
+     * @param contentType
+     * @return the (unmodifiable) list of media types
+     */
+    public List<String> getMediaTypes(String contentType) {
+        if (StringUtils.isNullOrEmpty(contentType)) {
+            return Collections.emptyList();
+        }
+
+        List<String> mediaTypes = mediaTypesCache.get(contentType);
+        if (mediaTypes == null) {
+            mediaTypes = cache(mediaTypesCache, contentType, parseMediaTypes(contentType));
+        }
+
+        return mediaTypes;
     }
 
     /**
@@ -145,6 +186,7 @@ public class ContentTypeEngines {
 
         engines.put(engine.getContentType(), engine);
         suffixes.put(suffix.toLowerCase(), engine);
+        enginesCache.clear();
 
         log.info("'{}' content engine is '{}'", engine.getContentType(), engine.getClass().getName());
     }
@@ -159,7 +201,9 @@ public class ContentTypeEngines {
      *
      * @param contentType
      * @return null or the first matching content type engine
+     * @deprecated use {@link #getMediaTypes(String)}
      */
+    @Deprecated
     protected String sanitizeContentTypes(String contentType) {
         if (StringUtils.isNullOrEmpty(contentType)) {
             return null;
@@ -182,4 +226,103 @@ public class ContentTypeEngines {
         return sb.toString();
     }
 
+    /**
+     * Parses a content type or accept header value (see {@link #getMediaTypes(String)}).
+     *
+     * @param contentType
+     * @return the (unmodifiable) list of media types
+     */
+    protected List<String> parseMediaTypes(String contentType) {
+        String[] values = contentType.split(",");
+        List<MediaRange> ranges = new ArrayList<>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            String value = values[i];
+            float quality = 1;
+            int parametersIndex = value.indexOf(';');
+            if (parametersIndex != -1) {
+                for (String parameter : value.substring(parametersIndex + 1).split(";")) {
+                    parameter = parameter.trim();
+                    if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                        try {
+                            quality = Float.parseFloat(parameter.substring(2).trim());
+                        } catch (NumberFormatException e) {
+                            // ignore the malformed quality
+                        }
+                    }
+                }
+                value = value.substring(0, parametersIndex);
+            }
+
+            value = value.trim().toLowerCase();
+            if (!value.isEmpty() && quality > 0) {
+                ranges.add(new MediaRange(value, quality, i));
+            }
+        }
+
+        if (ranges.size() == 1) {
+            return Collections.singletonList(ranges.get(0).type);
+        }
+
+        Collections.sort(ranges);
+        List<String> mediaTypes = new ArrayList<>(ranges.size());
+        for (MediaRange range : ranges) {
+            if (!mediaTypes.contains(range.type)) {
+                mediaTypes.add(range.type);
+            }
+        }
+
+        return Collections.unmodifiableList(mediaTypes);
+    }
+
+    /*
+     * A bounded cache: the values are small and the number of distinct keys is usually small,
+     * so the cache is simply cleared when it's full.
+     */
+    private static <V> V cache(Map<String, V> cache, String key, V value) {
+        if (key.length() <= MAX_CACHED_VALUE_LENGTH) {
+            if (cache.size() >= CACHE_SIZE) {
+                cache.clear();
+            }
+            cache.put(key, value);
+        }
+
+        return value;
+    }
+
+    private static class MediaRange implements Comparable<MediaRange> {
+
+        private final String type;
+        private final float quality;
+        private final int specificity;
+        private final int index;
+
+        MediaRange(String type, float quality, int index) {
+            this.type = type;
+            this.quality = quality;
+            this.index = index;
+
+            if ("*/*".equals(type) || "*".equals(type)) {
+                specificity = 0;
+            } else if (type.endsWith("/*")) {
+                specificity = 1;
+            } else {
+                specificity = 2;
+            }
+        }
+
+        @Override
+        public int compareTo(MediaRange other) {
+            int result = Float.compare(other.quality, quality);
+            if (result == 0) {
+                result = Integer.compare(other.specificity, specificity);
+            }
+            if (result == 0) {
+                result = Integer.compare(index, other.index);
+            }
+
+            return result;
+        }
+
+    }
+
 }
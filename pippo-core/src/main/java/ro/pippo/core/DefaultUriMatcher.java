@@ -17,15 +17,19 @@ package ro.pippo.core;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ro.pippo.core.util.ArrayMap;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -53,7 +57,7 @@ public class DefaultUriMatcher implements UriMatcher {
     private Map<String, UriPatternBinding> bindings;
 
     public DefaultUriMatcher() {
-        bindings = new HashMap<>();
+        bindings = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -64,7 +68,14 @@ public class DefaultUriMatcher implements UriMatcher {
             throw new PippoRuntimeException("No binding for '{}'. Create binding with 'addUriPattern'.", uriPattern);
         }
 
-        return binding.getPattern().matcher(requestUri).matches() ? getParameters(binding, requestUri) : null;
+        return match(requestUri, binding);
+    }
+
+    @Override
+    public Map<String, String> match(String requestUri, UriPatternBinding binding) {
+        Matcher matcher = binding.getPattern().matcher(requestUri);
+
+        return matcher.matches() ? getParameters(binding, matcher) : null;
     }
 
     @Override
@@ -76,7 +87,7 @@ public class DefaultUriMatcher implements UriMatcher {
         String regex = getRegex(uriPattern);
         Pattern pattern = Pattern.compile(regex);
         List<String> parameterNames = getParameterNames(uriPattern);
-        UriPatternBinding binding = new UriPatternBinding(uriPattern, pattern, parameterNames);
+        UriPatternBinding binding = new IndexedUriPatternBinding(uriPattern, pattern, parameterNames, getGroupIndexes(regex, pattern, parameterNames.size()));
         bindings.put(uriPattern, binding);
         log.trace("Add binding '{}'", binding);
 
@@ -159,24 +170,103 @@ public class DefaultUriMatcher implements UriMatcher {
         return parameterValue.toString();
     }
 
+    /**
+     * Extracts the path parameters from a matcher that matches the request uri.
+     * The returned map is immutable.
+     */
     @SuppressWarnings("unchecked")
-    private Map<String, String> getParameters(UriPatternBinding binding, String requestUri) {
+    private Map<String, String> getParameters(UriPatternBinding binding, Matcher matcher) {
         List<String> parameterNames = binding.getParameterNames();
         if (parameterNames.isEmpty()) {
             return Collections.EMPTY_MAP;
         }
 
-        Map<String, String> parameters = new HashMap<>();
-        Matcher matcher = binding.getPattern().matcher(requestUri);
-        matcher.matches(); // always true
-        int groupCount = matcher.groupCount();
-        if (groupCount > 0) {
+        IndexedUriPatternBinding indexedBinding = (binding instanceof IndexedUriPatternBinding) ? (IndexedUriPatternBinding) binding : null;
+        int[] groupIndexes = (indexedBinding != null) ? indexedBinding.groupIndexes : null;
+        if (groupIndexes == null) {
+            // the regex is too complex to compute the group indexes (or the parameter names are not unique)
+            Map<String, String> parameters = new HashMap<>();
             for (int i = 0; i < parameterNames.size(); i++) {
                 parameters.put(parameterNames.get(i), matcher.group(getPathParameterRegexGroupName(i)));
             }
+
+            return Collections.unmodifiableMap(parameters);
         }
 
-        return parameters;
+        String[] values = new String[groupIndexes.length];
+        for (int i = 0; i < groupIndexes.length; i++) {
+            values[i] = matcher.group(groupIndexes[i]);
+        }
+
+        return new ArrayMap<>(indexedBinding.parameterNamesArray, values);
+    }
+
+    /**
+     * Returns the index of the capturing group for each path parameter (the groups are named
+     * "param0", "param1", ...) or {@code null} if the indexes cannot be computed with certainty.
+     * The lookup of a group by index is cheaper than the lookup by name.
+     */
+    private int[] getGroupIndexes(String regex, Pattern pattern, int parameterCount) {
+        int[] groupIndexes = new int[parameterCount];
+        Arrays.fill(groupIndexes, -1);
+
+        int groupCount = 0;
+        int classDepth = 0;
+        int length = regex.length();
+        for (int i = 0; i < length; i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 < length && regex.charAt(i + 1) == 'Q') {
+                    // quoted sequence (\Q...\E)
+                    int end = regex.indexOf("\\E", i + 2);
+                    if (end == -1) {
+                        break;
+                    }
+                    i = end + 1;
+                } else {
+                    // escaped character
+                    i++;
+                }
+            } else if (c == '[') {
+                classDepth++;
+            } else if (c == ']' && classDepth > 0) {
+                classDepth--;
+            } else if (c == '(' && classDepth == 0) {
+                if (i + 1 < length && regex.charAt(i + 1) == '?') {
+                    // named group "(?<name>", but not lookbehind "(?<=" or "(?<!"
+                    if (i + 3 < length && regex.charAt(i + 2) == '<' && Character.isLetter(regex.charAt(i + 3))) {
+                        groupCount++;
+                        int end = regex.indexOf('>', i + 3);
+                        String name = regex.substring(i + 3, end);
+                        if (name.startsWith(PATH_PARAMETER_REGEX_GROUP_NAME_PREFIX)) {
+                            try {
+                                int parameterIndex = Integer.parseInt(name.substring(PATH_PARAMETER_REGEX_GROUP_NAME_PREFIX.length()));
+                                if (parameterIndex < parameterCount) {
+                                    groupIndexes[parameterIndex] = groupCount;
+                                }
+                            } catch (NumberFormatException e) {
+                                // not a path parameter group
+                            }
+                        }
+                    }
+                } else {
+                    groupCount++;
+                }
+            }
+        }
+
+        // validate the result against the regex engine
+        if (groupCount != pattern.matcher("").groupCount()) {
+            log.debug("Cannot compute the group indexes for '{}'", regex);
+            return null;
+        }
+        for (int groupIndex : groupIndexes) {
+            if (groupIndex == -1) {
+                return null;
+            }
+        }
+
+        return groupIndexes;
     }
 
     /**
@@ -221,7 +311,7 @@ public class DefaultUriMatcher implements UriMatcher {
         return buffer.toString();
     }
 
-    private String getPathParameterRegexGroupName(int pathParameterIndex) {
+    private static String getPathParameterRegexGroupName(int pathParameterIndex) {
         return PATH_PARAMETER_REGEX_GROUP_NAME_PREFIX + pathParameterIndex;
     }
 
@@ -264,4 +354,22 @@ public class DefaultUriMatcher implements UriMatcher {
         return list;
     }
 
+    /**
+     * A {@link UriPatternBinding} with the precomputed indexes of the path parameters groups.
+     */
+    private static class IndexedUriPatternBinding extends UriPatternBinding {
+
+        private final String[] parameterNamesArray;
+        private final int[] groupIndexes;
+
+        IndexedUriPatternBinding(String uriPattern, Pattern pattern, List<String> parameterNames, int[] groupIndexes) {
+            super(uriPattern, pattern, parameterNames);
+
+            parameterNamesArray = parameterNames.toArray(new String[0]);
+            boolean uniqueNames = new HashSet<>(parameterNames).size() == parameterNames.size();
+            this.groupIndexes = uniqueNames ? groupIndexes : null;
+        }
+
+    }
+
 }
@@ -59,6 +59,16 @@ public final class PippoConstants {
 
     public static final String SETTING_MIMETYPE_PREFIX = "mimetype.";
 
+    public static final String SETTING_ROUTER_MATCH_CACHE_SIZE = "router.matchCacheSize";
+
+    public static final String SETTING_RESPONSE_CONTENT_LENGTH_THRESHOLD = "response.contentLengthThreshold";
+
+    public static final String SETTING_GZIP_LEVEL = "gzip.level";
+
+    public static final String SETTING_GZIP_MIN_SIZE = "gzip.minSize";
+
+    public static final String SETTING_GZIP_POOL_SIZE = "gzip.poolSize";
+
     public static final String SETTING_TEMPLATE_PATH_PREFIX = "template.pathPrefix";
 
     public static final String SETTING_SERVER_PORT = "server.port";
@@ -75,6 +85,16 @@ public final class PippoConstants {
 
     public static final String SETTING_SERVER_TRUSTSTORE_PASSWORD = "server.truststorePassword";
 
+    /**
+     * Runs the request handling on virtual threads (requires JDK 21+, it's ignored on older JDKs).
+     */
+    public static final String SETTING_SERVER_VIRTUAL_THREADS = "server.virtualThreads";
+
+    /**
+     * The timeout (in milliseconds) of an asynchronous request (see {@link ro.pippo.core.route.RouteContext#async()}).
+     */
+    public static final String SETTING_ASYNC_TIMEOUT = "async.timeout";
+
     public static final String REQUEST_PARAMETER_LANG = "lang";
 
     public static final String REQUEST_PARAMETER_LOCALE = "locale";
@@ -30,10 +30,15 @@ import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 import javax.servlet.http.Part;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -56,7 +61,9 @@ public final class Request {
 
     private HttpServletRequest httpServletRequest;
     private ContentTypeEngines contentTypeEngines;
+    // the parameters are computed on first access
     private Map<String, ParameterValue> parameters; // query&post parameters
+    private Map<String, String> pathParameterValues; // the values set by route
     private Map<String, ParameterValue> pathParameters; // path parameters
     private Map<String, ParameterValue> allParameters; // parameters + pathParameters
     private Map<String, FileItem> files;
@@ -75,20 +82,17 @@ public final class Request {
 
         applicationPath = application.getRouter().getApplicationPath();
 
-        // fill (query&post) parameters if any
-        initParameters();
-
-        // empty path parameters for now (see internalSetPathParameters method)
-        pathParameters = Collections.unmodifiableMap(new HashMap<String, ParameterValue>());
-
-        // init all parameters
-        initAllParameters();
+        // the (query&post) parameters are parsed on first access (see getQueryParameters method)
     }
 
     /**
      * Returns all parameters (query, post, path).
      */
     public Map<String, ParameterValue> getParameters() {
+        if (allParameters == null) {
+            initAllParameters();
+        }
+
         return allParameters;
     }
 
@@ -96,17 +100,19 @@ public final class Request {
      * Returns one parameter value.
      */
     public ParameterValue getParameter(String name) {
-        if (!getParameters().containsKey(name)) {
-            return buildParameterValue();
-        }
+        ParameterValue parameterValue = getParameters().get(name);
 
-        return getParameters().get(name);
+        return (parameterValue != null) ? parameterValue : buildParameterValue();
     }
 
     /**
      * Returns all query&post parameters.
      */
     public Map<String, ParameterValue> getQueryParameters() {
+        if (parameters == null) {
+            initParameters();
+        }
+
         return parameters;
     }
 
@@ -114,17 +120,19 @@ public final class Request {
      * Returns one query parameter value.
      */
     public ParameterValue getQueryParameter(String name) {
-        if (!getQueryParameters().containsKey(name)) {
-            return buildParameterValue();
-        }
+        ParameterValue parameterValue = getQueryParameters().get(name);
 
-        return getQueryParameters().get(name);
+        return (parameterValue != null) ? parameterValue : buildParameterValue();
     }
 
     /**
      * Returns all path parameters.
      */
     public Map<String, ParameterValue> getPathParameters() {
+        if (pathParameters == null) {
+            initPathParameters();
+        }
+
         return pathParameters;
     }
 
@@ -132,21 +140,25 @@ public final class Request {
      * Returns one path parameter.
      */
     public ParameterValue getPathParameter(String name) {
-        if (!getPathParameters().containsKey(name)) {
-            return buildParameterValue();
-        }
+        ParameterValue parameterValue = getPathParameters().get(name);
 
-        return getPathParameters().get(name);
+        return (parameterValue != null) ? parameterValue : buildParameterValue();
     }
 
+    @SuppressWarnings("unchecked")
     private void initParameters() {
-        Map<String, Map<Integer, String>> arrays = new HashMap<>();
-        Map<String, ParameterValue> tmp = new HashMap<>();
         Enumeration<String> names = httpServletRequest.getParameterNames();
+        if (!names.hasMoreElements()) {
+            parameters = Collections.EMPTY_MAP;
+            return;
+        }
+
+        Map<String, Map<Integer, String>> arrays = null;
+        Map<String, ParameterValue> tmp = new HashMap<>();
         while (names.hasMoreElements()) {
             String name = names.nextElement();
 
-            if (name.matches("(.+)\\[(\\d+)\\]")) {
+            if (isIndexedParameter(name)) {
                 // support indexed parameter arrays e.g. setting[0], setting[1], setting[2]
                 int brk = name.indexOf('[');
                 String base = name.substring(0, brk);
@@ -154,6 +166,9 @@ public final class Request {
                 // try-catch for requests in the form //server/?a[123123123123123123123123123123]
                 try {
                     int idx = Integer.parseInt(name.substring(brk + 1, name.length() - 1));
+                    if (arrays == null) {
+                        arrays = new HashMap<>();
+                    }
                     if (!arrays.containsKey(base)) {
                         // use an ordered map because we can not rely on parameter
                         // order from the servlet container nor from the request
@@ -174,6 +189,11 @@ public final class Request {
             }
         }
 
+        if (arrays == null) {
+            parameters = Collections.unmodifiableMap(tmp);
+            return;
+        }
+
         for (Map.Entry<String, Map<Integer, String>> entry : arrays.entrySet()) {
             // identify maximum specified index
             int maxIndex = 0;
@@ -195,36 +215,76 @@ public final class Request {
         parameters = Collections.unmodifiableMap(tmp);
     }
 
-    private void initPathParameters(Map<String, String> map) {
-        Map<String, ParameterValue> tmp = new HashMap<>();
-        if (map != null) {
-            Set<String> names = map.keySet();
-            for (String name : names) {
-                tmp.put(name, buildParameterValue(map.get(name)));
+    /**
+     * Returns true if the name is in the form "name[index]" (e.g. setting[0]).
+     * It's a cheap test for {@code name.matches("(.+)\\[(\\d+)\\]")}.
+     */
+    private static boolean isIndexedParameter(String name) {
+        int length = name.length();
+        if (length < 4 || name.charAt(length - 1) != ']') {
+            return false;
+        }
+
+        int brk = name.indexOf('[');
+        if (brk < 1 || brk > length - 3) {
+            return false;
+        }
+
+        for (int i = brk + 1; i < length - 1; i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
             }
         }
 
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void initPathParameters() {
+        Map<String, String> map = pathParameterValues;
+        if (map == null || map.isEmpty()) {
+            pathParameters = Collections.EMPTY_MAP;
+            return;
+        }
+
+        Map<String, ParameterValue> tmp = new HashMap<>();
+        Set<String> names = map.keySet();
+        for (String name : names) {
+            tmp.put(name, buildParameterValue(map.get(name)));
+        }
+
         pathParameters = Collections.unmodifiableMap(tmp);
     }
 
     private void initAllParameters() {
-        Map<String, ParameterValue> tmp = new HashMap<>();
+        Map<String, ParameterValue> queryParameters = getQueryParameters();
+        Map<String, ParameterValue> pathParameters = getPathParameters();
+        if (pathParameters.isEmpty()) {
+            allParameters = queryParameters;
+        } else if (queryParameters.isEmpty()) {
+            allParameters = pathParameters;
+        } else {
+            Map<String, ParameterValue> tmp = new HashMap<>();
 
-        // add query parameters
-        tmp.putAll(parameters);
+            // add query parameters
+            tmp.putAll(queryParameters);
 
-        // add path parameters
-        tmp.putAll(pathParameters);
+            // add path parameters
+            tmp.putAll(pathParameters);
 
-        allParameters = Collections.unmodifiableMap(tmp);
+            allParameters = Collections.unmodifiableMap(tmp);
+        }
     }
 
     /**
      * THIS METHOD IS NOT PART OF THE PIPPO PUBLIC API.
      */
     public void internalSetPathParameters(Map<String, String> pathParameters) {
-        initPathParameters(pathParameters);
-        initAllParameters();
+        // the path parameters are converted on first access
+        pathParameterValues = pathParameters;
+        this.pathParameters = null;
+        allParameters = null;
     }
 
     public <T> T createEntityFromParameters(Class<T> entityClass) {
@@ -306,12 +366,30 @@ public final class Request {
         return entity;
     }
 
+    /**
+     * Creates an entity from the request body using the {@link ContentTypeEngine} for the request content-type.
+     * The body is parsed directly from the request input stream (it's not available via {@link #getBody()} after that),
+     * unless it was already read or it's supplied as '_content' form parameter.
+     *
+     * @param entityClass
+     * @return the entity or null if the body is empty
+     */
     public <T> T createEntityFromBody(Class<T> entityClass) {
         try {
-            String body = getBody();
-            if (StringUtils.isNullOrEmpty(body)) {
-                log.warn("Can not create entity '{}' from null or empty request body!", entityClass.getName());
-                return null;
+            String body = null;
+            InputStream input = null;
+            if (this.body != null || isFormPost()) {
+                body = getBody();
+                if (StringUtils.isNullOrEmpty(body)) {
+                    log.warn("Can not create entity '{}' from null or empty request body!", entityClass.getName());
+                    return null;
+                }
+            } else {
+                input = getBodyInputStream();
+                if (input == null) {
+                    log.warn("Can not create entity '{}' from null or empty request body!", entityClass.getName());
+                    return null;
+                }
             }
 
             // try to determine the body content-type
@@ -334,7 +412,14 @@ public final class Request {
                     entityClass.getName(), contentType);
             }
 
-            return engine.fromString(body, entityClass);
+            if (body != null) {
+                return engine.fromString(body, entityClass);
+            }
+
+            String characterEncoding = httpServletRequest.getCharacterEncoding();
+            Charset charset = (characterEncoding != null) ? Charset.forName(characterEncoding) : StandardCharsets.UTF_8;
+
+            return engine.fromStream(input, charset, entityClass);
         } catch (PippoRuntimeException e) {
             // pass-through PippoRuntimeExceptions
             throw e;
@@ -344,6 +429,38 @@ public final class Request {
         }
     }
 
+    /**
+     * Returns the request input stream or null if the body is empty.
+     */
+    private InputStream getBodyInputStream() throws IOException {
+        if (httpServletRequest.getContentLength() == 0) {
+            return null;
+        }
+
+        // the content length is not always known (e.g. chunked transfer), so check for the first byte
+        PushbackInputStream input = new PushbackInputStream(httpServletRequest.getInputStream());
+        int first = input.read();
+        if (first == -1) {
+            return null;
+        }
+        input.unread(first);
+
+        return input;
+    }
+
+    /**
+     * Returns true if the request is a form POST.
+     * A form can supply the real method, content-type and body of the request in
+     * '_method', '_content_type' and '_content' parameters.
+     */
+    private boolean isFormPost() {
+        String httpServletRequestContentType = httpServletRequest.getHeader(HttpConstants.Header.CONTENT_TYPE);
+
+        return HttpConstants.Method.POST.equals(httpServletRequest.getMethod())
+            && (HttpConstants.ContentType.APPLICATION_FORM_URLENCODED.equals(httpServletRequestContentType)
+            || HttpConstants.ContentType.MULTIPART_FORM_DATA.equals(httpServletRequestContentType));
+    }
+
     public String getHost() {
         return httpServletRequest.getHeader(HttpConstants.Header.HOST);
     }
@@ -383,6 +500,14 @@ public final class Request {
         return acceptType;
     }
 
+    /**
+     * Returns the media types accepted by client (see {@link #getAcceptType()}), ordered by quality.
+     * The parsed header values are cached (see {@link ContentTypeEngines#getMediaTypes(String)}).
+     */
+    public List<String> getAcceptTypes() {
+        return contentTypeEngines.getMediaTypes(getAcceptType());
+    }
+
     public String getContentType() {
         if (contentType == null) {
             String httpServletRequestContentType = httpServletRequest.getHeader(HttpConstants.Header.CONTENT_TYPE);
@@ -408,10 +533,7 @@ public final class Request {
 
     public String getBody() {
         if (body == null) {
-            String httpServletRequestContentType = httpServletRequest.getHeader(HttpConstants.Header.CONTENT_TYPE);
-            if (HttpConstants.Method.POST.equals(httpServletRequest.getMethod())
-                && (HttpConstants.ContentType.APPLICATION_FORM_URLENCODED.equals(httpServletRequestContentType)
-                || HttpConstants.ContentType.MULTIPART_FORM_DATA.equals(httpServletRequestContentType))) {
+            if (isFormPost()) {
                 // Allow forms to exercise RESTful API endpoints by POSTing content like 'application/json'.
                 // This parameter is usually paired with '_method' and '_content_type' parameters.
                 body = getParameter("_content").toString(null);
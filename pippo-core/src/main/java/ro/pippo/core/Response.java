@@ -20,26 +20,36 @@ import org.slf4j.LoggerFactory;
 import ro.pippo.core.gzip.GZipResponseWrapper;
 import ro.pippo.core.route.RouteContext;
 import ro.pippo.core.route.RouteDispatcher;
+import ro.pippo.core.util.BufferPool;
+import ro.pippo.core.util.ByteRange;
 import ro.pippo.core.util.DateUtils;
+import ro.pippo.core.util.FileTransfer;
 import ro.pippo.core.util.IoUtils;
 import ro.pippo.core.util.MimeTypes;
 import ro.pippo.core.util.StringUtils;
+import ro.pippo.core.util.ThresholdOutputStream;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletResponse;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * @author Decebal Suiu
@@ -48,6 +58,13 @@ public final class Response {
 
     private static final Logger log = LoggerFactory.getLogger(Response.class);
 
+    private static final int DEFAULT_CONTENT_LENGTH_THRESHOLD = 8 * 1024;
+
+    private static final int CONTENT_BUFFER_POOL_CAPACITY = 32;
+
+    // pooled buffers for the serialized objects (see send(Object)), key = buffer size (the content length threshold)
+    private static final Map<Integer, BufferPool<byte[]>> CONTENT_BUFFERS = new ConcurrentHashMap<>();
+
     private HttpServletResponse httpServletResponse;
     private ContentTypeEngines contentTypeEngines;
     private TemplateEngine templateEngine;
@@ -58,6 +75,7 @@ public final class Response {
     private String applicationPath;
     private ResponseFinalizeListenerList finalizeListeners;
     private MimeTypes mimeTypes;
+    private int contentLengthThreshold;
 
     private int status;
     private boolean chunked;
@@ -70,6 +88,11 @@ public final class Response {
         this.contextPath = application.getRouter().getContextPath();
         this.applicationPath = StringUtils.removeEnd(application.getRouter().getApplicationPath(), "/");
         this.mimeTypes = application.getMimeTypes();
+        // the settings are read once
+        PippoSettings pippoSettings = application.getPippoSettings();
+        this.contentLengthThreshold = (pippoSettings != null)
+            ? pippoSettings.getInteger(PippoConstants.SETTING_RESPONSE_CONTENT_LENGTH_THRESHOLD, DEFAULT_CONTENT_LENGTH_THRESHOLD)
+            : DEFAULT_CONTENT_LENGTH_THRESHOLD;
 
         this.status = 0;
     }
@@ -93,10 +116,17 @@ public final class Response {
 
     /**
      * Shortcut for <code>getLocals().get("flash")</code>.
+     * An empty flash is bound to the response if it's missing.
      * @return
      */
     public Flash getFlash() {
-        return (Flash) getLocals().get("flash");
+        Flash flash = (Flash) getLocals().get("flash");
+        if (flash == null) {
+            flash = new Flash();
+            getLocals().put("flash", flash);
+        }
+
+        return flash;
     }
 
     /**
@@ -707,7 +737,12 @@ public final class Response {
     public Response contentLength(long length) {
         checkCommitted();
 
-        httpServletResponse.setContentLength((int) length);
+        if (length > Integer.MAX_VALUE) {
+            // the servlet API 3.0 has no setContentLengthLong
+            httpServletResponse.setHeader(HttpConstants.Header.CONTENT_LENGTH, Long.toString(length));
+        } else {
+            httpServletResponse.setContentLength((int) length);
+        }
 
         return this;
     }
@@ -763,13 +798,14 @@ public final class Response {
      * @return the response
      */
     public Response contentType(Request request) {
-        // prefer the Accept header
-        if ("*/*".equals(request.getAcceptType())) {
+        // prefer the Accept header (the media types are tried in order of quality)
+        String acceptType = request.getAcceptType();
+        if ("*/*".equals(acceptType)) {
             // client accepts all types
             return this;
         }
 
-        ContentTypeEngine engine = contentTypeEngines.getContentTypeEngine(request.getAcceptType());
+        ContentTypeEngine engine = contentTypeEngines.getContentTypeEngine(acceptType);
         if (engine != null) {
             log.debug("Negotiated '{}' from request Accept header", engine.getContentType());
         } else if (!StringUtils.isNullOrEmpty(request.getContentType())) {
@@ -782,7 +818,7 @@ public final class Response {
 
         if (engine == null) {
             log.debug("Failed to negotiate a content type for Accept='{}' and Content-Type='{}'",
-                    request.getAcceptType(), request.getContentType());
+                    acceptType, request.getContentType());
             return this;
         }
 
@@ -920,7 +956,7 @@ public final class Response {
         }
 
         header(HttpConstants.Header.CONTENT_TYPE, contentTypeEngine.getContentType());
-        send(contentTypeEngine.toString(object));
+        commit(object, contentTypeEngine);
     }
 
     /**
@@ -946,20 +982,88 @@ public final class Response {
     }
 
     /**
-     * Writes the specified file directly to the response.
+     * Writes the content of the specified file directly to the response.
+     * The file is sent with the most efficient method supported by server (see {@link FileTransfer}).
      * <p>This method commits the response.</p>
      *
      * @param file
      */
-    public void file(File file) {
+    public void resource(File file) {
+        checkCommitted();
+
+        // content type to OCTET_STREAM if it's not set
+        if (getContentType() == null) {
+            contentType(HttpConstants.ContentType.APPLICATION_OCTET_STREAM);
+        }
+
+        send(file);
+    }
+
+    /**
+     * Writes the requested ranges of the file to the response (see {@link ByteRange#parse(RouteContext, long)}).
+     * <ul>
+     *     <li>{@code null} ranges - the whole file is sent</li>
+     *     <li>no range - {@code 416 Range Not Satisfiable}</li>
+     *     <li>one range - {@code 206 Partial Content} with {@code Content-Range}</li>
+     *     <li>many ranges - {@code 206 Partial Content} with a {@code multipart/byteranges} content</li>
+     * </ul>
+     * The ranges are read with positional reads (without reading the preceding bytes).
+     * The response advertises {@code Accept-Ranges: bytes}.
+     * <p>This method commits the response.</p>
+     *
+     * @param file
+     * @param ranges
+     */
+    public void resource(File file, List<ByteRange> ranges) {
+        if (!file.isFile()) {
+            throw new PippoRuntimeException(new FileNotFoundException(file.getAbsolutePath()));
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            send(channel.size(), (position, count, output) -> FileTransfer.transfer(channel, position, count, output), ranges);
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e);
+        }
+    }
+
+    /**
+     * Writes the requested ranges of the content to the response.
+     * It's the same as {@link #resource(File, List)} for an in-memory content.
+     * <p>This method commits the response.</p>
+     *
+     * @param content
+     * @param ranges
+     */
+    public void resource(byte[] content, List<ByteRange> ranges) {
         try {
-            contentLength(file.length());
-            file(file.getName(), new FileInputStream(file));
-        } catch (FileNotFoundException e) {
+            send(content.length, (position, count, output) -> output.write(content, (int) position, (int) count), ranges);
+        } catch (IOException e) {
             throw new PippoRuntimeException(e);
         }
     }
 
+    /**
+     * Writes the specified file directly to the response as a download.
+     * The file is sent with the most efficient method supported by server (see {@link FileTransfer}).
+     * <p>This method commits the response.</p>
+     *
+     * @param file
+     */
+    public void file(File file) {
+        checkCommitted();
+
+        // content type to OCTET_STREAM if it's not set
+        if (getContentType() == null) {
+            contentType(mimeTypes.getContentType(file.getName(), HttpConstants.ContentType.APPLICATION_OCTET_STREAM));
+        }
+
+        if (isHeaderEmpty(HttpConstants.Header.CONTENT_DISPOSITION)) {
+            filenameHeader(file.getName());
+        }
+
+        send(file);
+    }
+
     /**
      * Copies the input stream to the response output stream as a download and closes the input stream upon completion.
      * <p>This method commits the response.</p>
@@ -988,6 +1092,103 @@ public final class Response {
         }
     }
 
+    private void send(File file) {
+        if (!file.isFile()) {
+            throw new PippoRuntimeException(new FileNotFoundException(file.getAbsolutePath()));
+        }
+
+        if (!chunked) {
+            contentLength(file.length());
+        }
+        finalizeResponse();
+
+        try {
+            // by calling httpServletResponse.getOutputStream() we are committing the response
+            FileTransfer.transfer(file, httpServletResponse.getOutputStream());
+
+            if (chunked) {
+                // flushing the buffer forces chunked-encoding
+                httpServletResponse.flushBuffer();
+            }
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e);
+        }
+    }
+
+    private void send(long length, ContentRegion content, List<ByteRange> ranges) throws IOException {
+        checkCommitted();
+
+        header(HttpConstants.Header.ACCEPT_RANGES, "bytes");
+
+        if (ranges != null && ranges.isEmpty()) {
+            header(HttpConstants.Header.CONTENT_RANGE, "bytes */" + length);
+            status(HttpConstants.StatusCode.RANGE_NOT_SATISFIABLE);
+            commit();
+
+            return;
+        }
+
+        // content type to OCTET_STREAM if it's not set
+        String contentType = getContentType();
+        if (contentType == null) {
+            contentType = HttpConstants.ContentType.APPLICATION_OCTET_STREAM;
+            contentType(contentType);
+        }
+
+        if (ranges == null) {
+            if (!chunked) {
+                contentLength(length);
+            }
+            finalizeResponse();
+            content.transfer(0, length, httpServletResponse.getOutputStream());
+            if (chunked) {
+                // flushing the buffer forces chunked-encoding
+                httpServletResponse.flushBuffer();
+            }
+
+            return;
+        }
+
+        status(HttpConstants.StatusCode.PARTIAL_CONTENT);
+
+        if (ranges.size() == 1) {
+            ByteRange range = ranges.get(0);
+            header(HttpConstants.Header.CONTENT_RANGE, range.toContentRange(length));
+            contentLength(range.getLength());
+            finalizeResponse();
+            content.transfer(range.getStart(), range.getLength(), httpServletResponse.getOutputStream());
+
+            return;
+        }
+
+        // multipart/byteranges
+        String boundary = Long.toHexString(ThreadLocalRandom.current().nextLong()) + Long.toHexString(System.nanoTime());
+        byte[][] partHeaders = new byte[ranges.size()][];
+        long contentLength = 0;
+        for (int i = 0; i < partHeaders.length; i++) {
+            ByteRange range = ranges.get(i);
+            String partHeader = "\r\n--" + boundary + "\r\n" +
+                HttpConstants.Header.CONTENT_TYPE + ": " + contentType + "\r\n" +
+                HttpConstants.Header.CONTENT_RANGE + ": " + range.toContentRange(length) + "\r\n\r\n";
+            partHeaders[i] = partHeader.getBytes(StandardCharsets.ISO_8859_1);
+            contentLength += partHeaders[i].length + range.getLength();
+        }
+        byte[] end = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.ISO_8859_1);
+        contentLength += end.length;
+
+        contentType(HttpConstants.ContentType.MULTIPART_BYTERANGES + "; boundary=" + boundary);
+        contentLength(contentLength);
+        finalizeResponse();
+
+        ServletOutputStream output = httpServletResponse.getOutputStream();
+        for (int i = 0; i < partHeaders.length; i++) {
+            ByteRange range = ranges.get(i);
+            output.write(partHeaders[i]);
+            content.transfer(range.getStart(), range.getLength(), output);
+        }
+        output.write(end);
+    }
+
     private void send(InputStream input) throws IOException {
         try {
             // by calling httpServletResponse.getOutputStream() we are committing the response
@@ -1043,6 +1244,9 @@ public final class Response {
             throw new PippoRuntimeException("You must set a template engine in your application");
         }
 
+        // make sure that the templates find a flash
+        getFlash();
+
         // merge the model passed with the locals data
         model.putAll(getLocals());
 
@@ -1112,6 +1316,55 @@ public final class Response {
         }
     }
 
+    /*
+     * Commits the response with the object serialized directly to the response output stream.
+     * A content up to the threshold size (see PippoConstants.SETTING_RESPONSE_CONTENT_LENGTH_THRESHOLD)
+     * is collected in a pooled buffer and sent with Content-Length; a bigger content is streamed.
+     */
+    private void commit(Object object, ContentTypeEngine contentTypeEngine) {
+        checkCommitted();
+        finalizeResponse();
+
+        if (getCharacterEncoding() == null) {
+            characterEncoding(StandardCharsets.UTF_8.name());
+        }
+        Charset charset = Charset.forName(getCharacterEncoding());
+
+        int threshold = chunked ? 0 : contentLengthThreshold;
+        BufferPool<byte[]> contentBuffers = (threshold > 0)
+            ? CONTENT_BUFFERS.computeIfAbsent(threshold, size -> new BufferPool<>(CONTENT_BUFFER_POOL_CAPACITY, () -> new byte[size]))
+            : null;
+        byte[] contentBuffer = (contentBuffers != null) ? contentBuffers.acquire() : null;
+        try {
+            OutputStream outputStream;
+            if (contentBuffer != null) {
+                outputStream = new ThresholdOutputStream(contentBuffer, contentLength -> {
+                    if (contentLength >= 0) {
+                        contentLength(contentLength);
+                    }
+
+                    return httpServletResponse.getOutputStream();
+                });
+            } else {
+                outputStream = httpServletResponse.getOutputStream();
+            }
+            contentTypeEngine.toStream(object, outputStream, charset);
+            outputStream.close();
+            log.trace("Response committed");
+            if (chunked) {
+                httpServletResponse.flushBuffer();
+            }
+
+            finishGZip();
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e);
+        } finally {
+            if (contentBuffer != null) {
+                contentBuffers.release(contentBuffer);
+            }
+        }
+    }
+
     private void finalizeResponse() {
         // add headers
         for (Map.Entry<String, String> header : getHeaderMap().entrySet()) {
@@ -1144,6 +1397,15 @@ public final class Response {
         }
     }
 
+    /*
+     * A content that can be written partially.
+     */
+    private interface ContentRegion {
+
+        void transfer(long position, long count, OutputStream output) throws IOException;
+
+    }
+
     public ResponseFinalizeListenerList getFinalizeListeners() {
         if (finalizeListeners == null) {
             finalizeListeners = new ResponseFinalizeListenerList();
@@ -39,6 +39,19 @@ public interface UriMatcher {
      */
     Map<String, String> match(String requestUri, String uriPattern);
 
+    /**
+     * Same as {@link #match(String, String)} but with a binding returned by {@link #addUriPattern(String)}.
+     * The result doesn't depend on the current bindings of the matcher, so the binding can be used
+     * after the uri pattern was removed (for example by a router that matches a snapshot of the routes).
+     *
+     * @param requestUri
+     * @param binding
+     * @return
+     */
+    default Map<String, String> match(String requestUri, UriPatternBinding binding) {
+        return match(requestUri, binding.getUriPattern());
+    }
+
     UriPatternBinding addUriPattern(String uriPattern);
 
     UriPatternBinding removeUriPattern(String uriPattern);
@@ -33,6 +33,7 @@ public class WebServerSettings implements Serializable {
     private String keystorePassword;
     private String truststoreFile;
     private String truststorePassword;
+    private boolean virtualThreads;
 
     public WebServerSettings(PippoSettings pippoSettings) {
         this.port = pippoSettings.getInteger(PippoConstants.SETTING_SERVER_PORT, DEFAULT_PORT);
@@ -42,6 +43,7 @@ public class WebServerSettings implements Serializable {
         this.keystorePassword = pippoSettings.getString(PippoConstants.SETTING_SERVER_KEYSTORE_PASSWORD, keystorePassword);
         this.truststoreFile = pippoSettings.getString(PippoConstants.SETTING_SERVER_TRUSTSTORE_FILE, truststoreFile);
         this.truststorePassword = pippoSettings.getString(PippoConstants.SETTING_SERVER_TRUSTSTORE_PASSWORD, truststorePassword);
+        this.virtualThreads = pippoSettings.getBoolean(PippoConstants.SETTING_SERVER_VIRTUAL_THREADS, false);
     }
 
     public String getHost() {
@@ -114,4 +116,18 @@ public class WebServerSettings implements Serializable {
         return this;
     }
 
+    /**
+     * Returns true if the request handling should run on virtual threads
+     * (see {@link PippoConstants#SETTING_SERVER_VIRTUAL_THREADS}).
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public WebServerSettings virtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+
+        return this;
+    }
+
 }
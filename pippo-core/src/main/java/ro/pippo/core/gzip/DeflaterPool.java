@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.gzip;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * A bounded pool of {@link Deflater} instances (raw deflate, without zlib header).
+ * A {@code Deflater} holds native memory so it's cheaper to reuse it than to create one per response.
+ * When the pool is empty a new instance is created and when the pool is full
+ * the released instance is discarded.
+ */
+public class DeflaterPool {
+
+    static final DeflaterPool DEFAULT = new DeflaterPool(16, Deflater.DEFAULT_COMPRESSION);
+
+    private final int level;
+    private final BlockingQueue<Deflater> deflaters;
+
+    /**
+     * @param capacity the maximum number of idle deflaters kept in pool
+     * @param level the compression level (0-9 or {@link Deflater#DEFAULT_COMPRESSION})
+     */
+    public DeflaterPool(int capacity, int level) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level " + level);
+        }
+
+        this.level = level;
+        this.deflaters = new ArrayBlockingQueue<>(Math.max(1, capacity));
+    }
+
+    public Deflater acquire() {
+        Deflater deflater = deflaters.poll();
+
+        return (deflater != null) ? deflater : new Deflater(level, true);
+    }
+
+    public void release(Deflater deflater) {
+        deflater.reset();
+        if (!deflaters.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns the number of idle deflaters.
+     */
+    public int size() {
+        return deflaters.size();
+    }
+
+}
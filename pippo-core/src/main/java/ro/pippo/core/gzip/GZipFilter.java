@@ -26,19 +26,28 @@ import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.zip.Deflater;
 
 /**
  * {@code GZipFilter} will check the need of GZIP compression in request’s headers ‘Accept-Encoding: gzip’.
  * Then, this filter uses two classes {@code GZipResponseWrapper} and {@code GZipResponseStream}
  * to compress the data in response.
+ * The init parameters {@code level}, {@code minSize} and {@code poolSize} have the same meaning
+ * as the settings used by {@link GZipRequestResponseFactory}.
  *
  * @author Decebal Suiu
  */
 public class GZipFilter implements Filter {
 
+    private DeflaterPool deflaterPool;
+    private int minSize;
+
     @Override
     public void init(FilterConfig filterConfig) {
-        // do nothing
+        int level = getInitParameter(filterConfig, "level", Deflater.DEFAULT_COMPRESSION);
+        int poolSize = getInitParameter(filterConfig, "poolSize", 2 * Runtime.getRuntime().availableProcessors());
+        deflaterPool = new DeflaterPool(poolSize, level);
+        minSize = getInitParameter(filterConfig, "minSize", GZipRequestResponseFactory.DEFAULT_MIN_SIZE);
     }
 
     @Override
@@ -48,7 +57,7 @@ public class GZipFilter implements Filter {
         HttpServletResponse response = (HttpServletResponse) servletResponse;
 
         if (acceptsGZipEncoding(request)) {
-            GZipResponseWrapper wrappedResponse = new GZipResponseWrapper(response);
+            GZipResponseWrapper wrappedResponse = new GZipResponseWrapper(response, deflaterPool, minSize);
             chain.doFilter(request, wrappedResponse);
             wrappedResponse.finish();
         } else {
@@ -69,4 +78,10 @@ public class GZipFilter implements Filter {
         );
     }
 
+    private static int getInitParameter(FilterConfig filterConfig, String name, int defaultValue) {
+        String value = filterConfig.getInitParameter(name);
+
+        return StringUtils.isNullOrEmpty(value) ? defaultValue : Integer.parseInt(value.trim());
+    }
+
 }
@@ -16,6 +16,8 @@
 package ro.pippo.core.gzip;
 
 import ro.pippo.core.Application;
+import ro.pippo.core.PippoConstants;
+import ro.pippo.core.PippoSettings;
 import ro.pippo.core.Request;
 import ro.pippo.core.RequestResponse;
 import ro.pippo.core.RequestResponseFactory;
@@ -24,14 +26,34 @@ import ro.pippo.core.util.StringUtils;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.util.zip.Deflater;
 
 /**
+ * Creates responses that are compressed (GZIP) when the client accepts it.
+ * The compression is configured with:
+ * <ul>
+ *     <li>{@code gzip.level} - the compression level (0-9, default 6)</li>
+ *     <li>{@code gzip.minSize} - the minimum size in bytes of a compressed content (default 1024)</li>
+ *     <li>{@code gzip.poolSize} - the maximum number of idle deflaters kept for reuse (default 2 * processors)</li>
+ * </ul>
+ *
  * @author Decebal Suiu
  */
 public class GZipRequestResponseFactory extends RequestResponseFactory {
 
+    public static final int DEFAULT_MIN_SIZE = 1024;
+
+    private final DeflaterPool deflaterPool;
+    private final int minSize;
+
     public GZipRequestResponseFactory(Application application) {
         super(application);
+
+        PippoSettings pippoSettings = application.getPippoSettings();
+        int level = pippoSettings.getInteger(PippoConstants.SETTING_GZIP_LEVEL, Deflater.DEFAULT_COMPRESSION);
+        int poolSize = pippoSettings.getInteger(PippoConstants.SETTING_GZIP_POOL_SIZE, 2 * Runtime.getRuntime().availableProcessors());
+        deflaterPool = new DeflaterPool(poolSize, level);
+        minSize = pippoSettings.getInteger(PippoConstants.SETTING_GZIP_MIN_SIZE, DEFAULT_MIN_SIZE);
     }
 
     @Override
@@ -42,7 +64,7 @@ public class GZipRequestResponseFactory extends RequestResponseFactory {
         boolean acceptsGZipEncoding = acceptsGZipEncoding(httpServletRequest);
         if (acceptsGZipEncoding) {
             // the response with be finished in Response.finishGZip() method
-            GZipResponseWrapper responseWrapper = new GZipResponseWrapper(httpServletResponse);
+            GZipResponseWrapper responseWrapper = new GZipResponseWrapper(httpServletResponse, deflaterPool, minSize);
             response = new Response(responseWrapper, application);
         } else {
             response = new Response(httpServletResponse, application);
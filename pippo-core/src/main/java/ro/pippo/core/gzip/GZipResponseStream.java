@@ -15,30 +15,68 @@
  */
 package ro.pippo.core.gzip;
 
+import ro.pippo.core.HttpConstants;
+import ro.pippo.core.util.MimeTypes;
+
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 
 /**
+ * Compresses the content in GZIP format and streams it to the response as soon as the buffer fills up
+ * (the response is sent chunked, without {@code Content-Length}).
+ * A content smaller than the minimum size or with an already compressed content type
+ * (see {@link MimeTypes#isCompressed(String)}) is sent as it is.
+ *
  * @author Decebal Suiu
  */
 public class GZipResponseStream extends ServletOutputStream {
 
-    private HttpServletResponse response;
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final byte[] HEADER = new byte[] {
+        (byte) 0x1f, (byte) 0x8b, // magic number
+        Deflater.DEFLATED, // compression method
+        0, // flags
+        0, 0, 0, 0, // modification time
+        0, // extra flags
+        (byte) 0xff // operating system (unknown)
+    };
+
+    private enum Mode { UNDECIDED, PLAIN, GZIP }
 
-    private ByteArrayOutputStream byteArrayOutputStream;
-    private GZIPOutputStream gzipOutputStream;
+    private final HttpServletResponse response;
+    private final DeflaterPool deflaterPool;
+    private final int minSize;
+    private final int contentLength;
+
+    private Mode mode = Mode.UNDECIDED;
+    private byte[] buffer;
+    private int count;
+    private ServletOutputStream outputStream;
+    private Deflater deflater;
+    private CRC32 crc;
     private boolean closed;
 
     public GZipResponseStream(HttpServletResponse response) throws IOException {
+        this(response, DeflaterPool.DEFAULT, 0, -1);
+    }
+
+    /**
+     * @param response the response (not wrapped)
+     * @param deflaterPool the source of deflaters
+     * @param minSize the minimum size of content that is compressed
+     * @param contentLength the declared length of content or -1 if it's unknown
+     */
+    public GZipResponseStream(HttpServletResponse response, DeflaterPool deflaterPool, int minSize, int contentLength) {
         super();
 
         this.response = response;
-
-        byteArrayOutputStream = new ByteArrayOutputStream();
-        gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream);
+        this.deflaterPool = deflaterPool;
+        this.minSize = Math.max(0, minSize);
+        this.contentLength = contentLength;
     }
 
     @Override
@@ -46,19 +84,29 @@ public class GZipResponseStream extends ServletOutputStream {
         if (closed) {
             throw new IOException("This output stream has already been closed");
         }
-        try (ServletOutputStream outputStream = response.getOutputStream()) {
-            gzipOutputStream.finish();
 
-            byte[] bytes = byteArrayOutputStream.toByteArray();
+        try {
+            if (mode == Mode.UNDECIDED) {
+                // the whole content is smaller than minSize
+                startPlain(count);
+            }
 
-            response.addHeader("Content-Length", Integer.toString(bytes.length));
-            response.addHeader("Content-Encoding", "gzip");
+            if (mode == Mode.GZIP) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    deflate(Deflater.NO_FLUSH);
+                }
+                writeTrailer();
+                writeBuffer();
+            }
 
-            outputStream.write(bytes);
-            outputStream.flush();
+            outputStream.close();
         } finally {
-            gzipOutputStream.close();
             closed = true;
+            if (deflater != null) {
+                deflaterPool.release(deflater);
+                deflater = null;
+            }
         }
     }
 
@@ -68,16 +116,28 @@ public class GZipResponseStream extends ServletOutputStream {
             throw new IOException("Cannot flush a closed output stream");
         }
 
-        gzipOutputStream.flush();
+        if (mode == Mode.UNDECIDED) {
+            if (count == 0) {
+                return;
+            }
+
+            // the content is flushed before the minSize is reached so we start the compression
+            decide();
+        }
+
+        if (mode == Mode.GZIP) {
+            while (deflate(Deflater.SYNC_FLUSH)) {
+                // the buffer was filled, more compressed data may be pending
+            }
+            writeBuffer();
+        }
+
+        outputStream.flush();
     }
 
     @Override
     public void write(int b) throws IOException {
-        if (closed) {
-            throw new IOException("Cannot write to a closed output stream");
-        }
-
-        gzipOutputStream.write((byte) b);
+        write(new byte[] { (byte) b }, 0, 1);
     }
 
     @Override
@@ -91,7 +151,141 @@ public class GZipResponseStream extends ServletOutputStream {
             throw new IOException("Cannot write to a closed output stream");
         }
 
-        gzipOutputStream.write(b, off, len);
+        if (mode == Mode.UNDECIDED) {
+            if (count == 0 && !isCompressible()) {
+                startPlain(contentLength);
+            } else if (count + len < minSize) {
+                if (buffer == null) {
+                    buffer = new byte[Math.max(BUFFER_SIZE, minSize)];
+                }
+                System.arraycopy(b, off, buffer, count, len);
+                count += len;
+
+                return;
+            } else {
+                decide();
+            }
+        }
+
+        if (mode == Mode.PLAIN) {
+            outputStream.write(b, off, len);
+        } else {
+            compress(b, off, len);
+        }
+    }
+
+    private boolean isCompressible() {
+        if (contentLength >= 0 && contentLength < minSize) {
+            return false;
+        }
+
+        if (response.containsHeader(HttpConstants.Header.CONTENT_ENCODING)) {
+            return false;
+        }
+
+        // the ranges are computed for the uncompressed content
+        if (response.containsHeader(HttpConstants.Header.CONTENT_RANGE)) {
+            return false;
+        }
+
+        String contentType = response.getContentType();
+        if (contentType != null && contentType.startsWith(HttpConstants.ContentType.MULTIPART_BYTERANGES)) {
+            return false;
+        }
+
+        return !MimeTypes.isCompressed(contentType);
+    }
+
+    private void decide() throws IOException {
+        if (isCompressible()) {
+            startGZip();
+        } else {
+            startPlain(contentLength);
+        }
+    }
+
+    private void startPlain(int length) throws IOException {
+        mode = Mode.PLAIN;
+        if (length >= 0) {
+            response.setContentLength(length);
+        }
+        outputStream = response.getOutputStream();
+        if (count > 0) {
+            outputStream.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    private void startGZip() throws IOException {
+        mode = Mode.GZIP;
+        response.setHeader(HttpConstants.Header.CONTENT_ENCODING, "gzip");
+        response.addHeader(HttpConstants.Header.VARY, HttpConstants.Header.ACCEPT_ENCODING);
+        outputStream = response.getOutputStream();
+
+        deflater = deflaterPool.acquire();
+        crc = new CRC32();
+
+        // the buffer will collect the compressed content, the uncompressed content (if any) is moved out
+        byte[] content = buffer;
+        int length = count;
+        buffer = new byte[(content != null) ? content.length : BUFFER_SIZE];
+        System.arraycopy(HEADER, 0, buffer, 0, HEADER.length);
+        count = HEADER.length;
+        if (length > 0) {
+            compress(content, 0, length);
+        }
+    }
+
+    private void compress(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return;
+        }
+
+        crc.update(b, off, len);
+        deflater.setInput(b, off, len);
+        while (!deflater.needsInput()) {
+            deflate(Deflater.NO_FLUSH);
+        }
+    }
+
+    /*
+     * Deflates in the free space of buffer (a full buffer is written first to output stream).
+     * Returns true if the buffer was filled.
+     */
+    private boolean deflate(int flush) throws IOException {
+        if (count == buffer.length) {
+            writeBuffer();
+        }
+
+        int space = buffer.length - count;
+        int length = deflater.deflate(buffer, count, space, flush);
+        count += length;
+
+        return length == space;
+    }
+
+    private void writeTrailer() throws IOException {
+        if (buffer.length - count < 8) {
+            writeBuffer();
+        }
+
+        writeInt((int) crc.getValue());
+        writeInt((int) deflater.getBytesRead()); // modulo 2^32
+    }
+
+    private void writeInt(int value) {
+        // little endian
+        buffer[count++] = (byte) value;
+        buffer[count++] = (byte) (value >> 8);
+        buffer[count++] = (byte) (value >> 16);
+        buffer[count++] = (byte) (value >> 24);
+    }
+
+    private void writeBuffer() throws IOException {
+        if (count > 0) {
+            outputStream.write(buffer, 0, count);
+            count = 0;
+        }
     }
 
 }
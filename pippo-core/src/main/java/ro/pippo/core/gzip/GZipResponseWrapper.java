@@ -31,18 +31,36 @@ import java.nio.charset.StandardCharsets;
 public class GZipResponseWrapper extends HttpServletResponseWrapper {
 
     private HttpServletResponse response;
+    private DeflaterPool deflaterPool;
+    private int minSize;
     private ServletOutputStream stream;
     private PrintWriter writer;
+    private int contentLength = -1;
 
     public GZipResponseWrapper(HttpServletResponse response) {
+        this(response, DeflaterPool.DEFAULT, 0);
+    }
+
+    /**
+     * @param response the response to compress
+     * @param deflaterPool the source of deflaters
+     * @param minSize the minimum size of content that is compressed (a smaller content is sent as it is)
+     */
+    public GZipResponseWrapper(HttpServletResponse response, DeflaterPool deflaterPool, int minSize) {
         super(response);
 
         this.response = response;
+        this.deflaterPool = deflaterPool;
+        this.minSize = minSize;
     }
 
     @Override
     public void flushBuffer() throws IOException {
-        stream.flush();
+        if (stream != null) {
+            stream.flush();
+        } else {
+            super.flushBuffer();
+        }
     }
 
     @Override
@@ -74,9 +92,13 @@ public class GZipResponseWrapper extends HttpServletResponseWrapper {
         return writer;
     }
 
+    /**
+     * The length is not sent to client if the content is compressed.
+     */
     @Override
     public void setContentLength(int length) {
-        // do nothing
+        // remember it (used by GZipResponseStream to skip the compression of small content)
+        contentLength = length;
     }
 
     public void finish() {
@@ -85,7 +107,7 @@ public class GZipResponseWrapper extends HttpServletResponseWrapper {
     }
 
     private ServletOutputStream createOutputStream() throws IOException {
-        return new GZipResponseStream(response);
+        return new GZipResponseStream(response, deflaterPool, minSize, contentLength);
     }
 
 }
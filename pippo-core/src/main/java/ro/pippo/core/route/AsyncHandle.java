@@ -0,0 +1,298 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.route;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ro.pippo.core.Request;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletRequest;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * The handle of a request processed asynchronously (see {@link RouteContext#async()}).
+ * The container thread is released when the route handler returns and the response is
+ * completed (auto-commit, finally routes, post-dispatch listeners, session commit) by
+ * {@link RouteDispatcher} when the handle is completed, on the thread that completes it.
+ * <p>
+ * A worker thread must not write the response directly, because the handle can time out
+ * (and the response can be completed) at any moment. The writes are made by the handler passed to
+ * {@link #complete(Consumer)} or {@link #complete(CompletionStage, BiConsumer)}, that is invoked
+ * only if the handle is not already completed.
+ * </p>
+ * <p>
+ * Example:
+ * </p>
+ * <pre>
+ * GET("/report", routeContext -&gt; {
+ *     AsyncHandle async = routeContext.async();
+ *     executor.submit(() -&gt; {
+ *         Report report = reportService.createReport();
+ *         async.complete(context -&gt; context.send(report));
+ *     });
+ * });
+ *
+ * GET("/contact", routeContext -&gt; routeContext.async().complete(contactService.getContactAsync()));
+ * </pre>
+ * If the handle is not completed in time (see {@link ro.pippo.core.PippoConstants#SETTING_ASYNC_TIMEOUT})
+ * the response is completed with {@code 503 Service Unavailable}.
+ */
+public class AsyncHandle {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncHandle.class);
+
+    /**
+     * The default timeout (in milliseconds).
+     */
+    public static final long DEFAULT_TIMEOUT = 30000;
+
+    private static final String ATTRIBUTE_NAME = AsyncHandle.class.getName();
+
+    private final RouteContext routeContext;
+    private final AsyncContext asyncContext;
+    private final long timeout;
+    // counted down when the AsyncContext is completed (see release())
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    private boolean done;
+    private boolean timedOut;
+    private Throwable failure;
+    private Runnable resultHandler;
+    private Consumer<AsyncHandle> doneHandler;
+
+    AsyncHandle(RouteContext routeContext, long timeout) {
+        this.routeContext = routeContext;
+        this.timeout = timeout;
+
+        HttpServletRequest httpServletRequest = routeContext.getRequest().getHttpServletRequest();
+        asyncContext = httpServletRequest.startAsync();
+        asyncContext.setTimeout(timeout);
+        asyncContext.addListener(new AsyncListener() {
+
+            @Override
+            public void onComplete(AsyncEvent event) {
+                // nothing
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                if (!timeout()) {
+                    // the handle was completed just before the timeout and the response is being completed
+                    // on another thread; the AsyncContext must not be left to the container (error dispatch)
+                    awaitRelease();
+                }
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                fail(event.getThrowable());
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+                // nothing
+            }
+
+        });
+        httpServletRequest.setAttribute(ATTRIBUTE_NAME, this);
+    }
+
+    /**
+     * Returns the handle of the request or {@code null} if the request is not processed asynchronously.
+     */
+    public static AsyncHandle get(Request request) {
+        return (AsyncHandle) request.getHttpServletRequest().getAttribute(ATTRIBUTE_NAME);
+    }
+
+    public RouteContext getRouteContext() {
+        return routeContext;
+    }
+
+    /**
+     * Completes the request. The response is committed if it's not already committed.
+     *
+     * @return false if the handle is already completed (for example after a timeout)
+     */
+    public boolean complete() {
+        return done(null, null, false);
+    }
+
+    /**
+     * Completes the request, writing the response with the handler.
+     * The handler is invoked (before the response is committed) on the current thread,
+     * only if the handle is not already completed (for example after a timeout).
+     *
+     * @param handler
+     * @return false if the handle is already completed and the handler was not invoked
+     */
+    public boolean complete(Consumer<RouteContext> handler) {
+        return done(null, () -> handler.accept(routeContext), false);
+    }
+
+    /**
+     * Completes the request with an error, handled by the {@link ro.pippo.core.ErrorHandler}.
+     *
+     * @return false if the handle is already completed (for example after a timeout)
+     */
+    public boolean fail(Throwable throwable) {
+        return done(throwable, null, false);
+    }
+
+    /**
+     * Completes the request when the stage completes.
+     * The result handler is invoked (before the response is committed) on the thread that completes the stage.
+     *
+     * @param stage
+     * @param resultHandler
+     */
+    public <T> void complete(CompletionStage<T> stage, BiConsumer<RouteContext, T> resultHandler) {
+        stage.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                fail(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+            } else {
+                done(null, () -> resultHandler.accept(routeContext, result), false);
+            }
+        });
+    }
+
+    /**
+     * Completes the request when the stage completes, sending the result (if it's not {@code null})
+     * with {@link RouteContext#send(Object)}.
+     *
+     * @param stage
+     */
+    public void complete(CompletionStage<?> stage) {
+        complete(stage, (context, result) -> {
+            if (result != null) {
+                context.send(result);
+            }
+        });
+    }
+
+    public synchronized boolean isDone() {
+        return done;
+    }
+
+    public synchronized boolean isTimedOut() {
+        return timedOut;
+    }
+
+    public synchronized Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Completes the handle because of the timeout.
+     *
+     * @return false if the handle is already completed
+     */
+    boolean timeout() {
+        if (!done(null, null, true)) {
+            return false;
+        }
+
+        log.debug("Asynchronous processing of {} '{}' timed out", routeContext.getRequestMethod(), routeContext.getRequestUri());
+
+        return true;
+    }
+
+    /**
+     * Invokes the result handler (if any) set by {@link #complete(CompletionStage, BiConsumer)}.
+     */
+    void handleResult() {
+        Runnable handler;
+        synchronized (this) {
+            handler = resultHandler;
+            resultHandler = null;
+        }
+
+        if (handler != null) {
+            handler.run();
+        }
+    }
+
+    /**
+     * Sets the handler invoked (once) when the handle is completed.
+     * If the handle is already completed, the handler is invoked on the current thread.
+     */
+    void onDone(Consumer<AsyncHandle> handler) {
+        synchronized (this) {
+            if (!done) {
+                doneHandler = handler;
+
+                return;
+            }
+        }
+
+        handler.accept(this);
+    }
+
+    /**
+     * Completes the {@link AsyncContext}.
+     */
+    void release() {
+        try {
+            asyncContext.complete();
+        } finally {
+            released.countDown();
+        }
+    }
+
+    /**
+     * Waits (at most the timeout of the handle) until the {@link AsyncContext} is completed by {@link #release()}.
+     */
+    private void awaitRelease() {
+        try {
+            if (!released.await(timeout, TimeUnit.MILLISECONDS)) {
+                log.warn("Asynchronous processing of {} '{}' was not released in time", routeContext.getRequestMethod(), routeContext.getRequestUri());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean done(Throwable throwable, Runnable resultHandler, boolean timedOut) {
+        Consumer<AsyncHandle> handler;
+        synchronized (this) {
+            if (done) {
+                return false;
+            }
+
+            this.done = true;
+            this.failure = throwable;
+            this.resultHandler = resultHandler;
+            this.timedOut = timedOut;
+
+            handler = doneHandler;
+            doneHandler = null;
+        }
+
+        if (handler != null) {
+            handler.accept(this);
+        }
+
+        return true;
+    }
+
+}
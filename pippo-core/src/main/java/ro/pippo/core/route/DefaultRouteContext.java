@@ -20,6 +20,7 @@ import org.slf4j.LoggerFactory;
 import ro.pippo.core.Application;
 import ro.pippo.core.Messages;
 import ro.pippo.core.ParameterValue;
+import ro.pippo.core.PippoConstants;
 import ro.pippo.core.PippoSettings;
 import ro.pippo.core.Request;
 import ro.pippo.core.Response;
@@ -278,9 +279,6 @@ public class DefaultRouteContext implements RouteContext {
                 log.trace("Added path parameters to request");
             }
 
-            // remove route from chain
-            iterator.remove();
-
             handleRoute(route);
         }
     }
@@ -310,6 +308,23 @@ public class DefaultRouteContext implements RouteContext {
         }
     }
 
+    @Override
+    public AsyncHandle async() {
+        AsyncHandle asyncHandle = AsyncHandle.get(request);
+        if (asyncHandle == null) {
+            long timeout = getSettings().getLong(PippoConstants.SETTING_ASYNC_TIMEOUT, AsyncHandle.DEFAULT_TIMEOUT);
+            asyncHandle = new AsyncHandle(this, timeout);
+            log.debug("Started asynchronous processing of {} '{}'", request.getMethod(), request.getPath());
+        }
+
+        return asyncHandle;
+    }
+
+    @Override
+    public boolean isAsync() {
+        return AsyncHandle.get(request) != null;
+    }
+
     @Override
     public RouteContext text() {
         response.text();
@@ -28,17 +28,24 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 /**
  * The routes are matched in the order they are defined.
+ * The compiled routes are published as an immutable snapshot (an array of routes per request method),
+ * so {@link #findRoutes(String, String)} reads them without locking while routes are added or removed.
+ * The snapshot contains the uri pattern binding of each route, so a route removed from the
+ * {@link UriMatcher} is still matched by the readers of the previous snapshot.
  *
  * @author Decebal Suiu
  * @author James Moger
@@ -47,7 +54,7 @@ public class DefaultRouter implements Router {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultRouter.class);
 
-    private List<Route> routes;
+    private Queue<Route> routes;
     private List<Route> compiledRoutes;
     private List<RouteTransformer> transformers;
     private Set<String> ignorePaths;
@@ -60,15 +67,25 @@ public class DefaultRouter implements Router {
     // key = requestMethod
     private Map<String, List<Route>> compiledRoutesCache;
 
+    // key = requestMethod, value = the compiled routes for requestMethod and ANY in the order they are defined
+    private volatile Map<String, BoundRoute[]> compiledRoutesSnapshot;
+
+    // the compiled routes for ANY (used for request methods without routes)
+    private volatile BoundRoute[] anyCompiledRoutesSnapshot;
+
     private UriMatcher uriMatcher;
 
+    private volatile RouteMatchCache routeMatchCache;
+
     public DefaultRouter() {
-        routes = new LinkedList<>();
-        compiledRoutes = new LinkedList<>();
+        routes = new ConcurrentLinkedQueue<>();
+        compiledRoutes = new CopyOnWriteArrayList<>();
         transformers = new ArrayList<>();
         ignorePaths = new TreeSet<>();
         routesCache = new HashMap<>();
-        compiledRoutesCache = new HashMap<>();
+        compiledRoutesCache = new ConcurrentHashMap<>();
+        compiledRoutesSnapshot = Collections.emptyMap();
+        anyCompiledRoutesSnapshot = new BoundRoute[0];
         contextPath = "";
         applicationPath = "";
 
@@ -138,7 +155,7 @@ public class DefaultRouter implements Router {
     }
 
     @Override
-    public final List<Route> getRoutes() {
+    public final synchronized List<Route> getRoutes() {
         List<Route> allRoutes = new ArrayList<>();
         allRoutes.addAll(routes);
         allRoutes.addAll(compiledRoutes);
@@ -153,6 +170,17 @@ public class DefaultRouter implements Router {
             return;
         }
 
+        synchronized (this) {
+            doCompileRoutes();
+        }
+    }
+
+    private void doCompileRoutes() {
+        if (routes.isEmpty()) {
+            // compiled by another thread
+            return;
+        }
+
         log.debug("Compile routes");
         Iterator<Route> it = routes.iterator();
         while (it.hasNext()) {
@@ -182,9 +210,11 @@ public class DefaultRouter implements Router {
                 addCompiledRoute(compiledRoute);
             }
         }
+
+        onCompiledRoutesChange();
     }
 
-    public List<Route> getRoutes(String requestMethod) {
+    public synchronized List<Route> getRoutes(String requestMethod) {
         List<Route> allRoutes = new ArrayList<>();
 
         // add routes that are not compiled yet
@@ -198,6 +228,9 @@ public class DefaultRouter implements Router {
         return Collections.unmodifiableList(allRoutes);
     }
 
+    /**
+     * If a {@link RouteMatchCache} is set, the cached (shared and unmodifiable) route matches are returned.
+     */
     @Override
     public List<RouteMatch> findRoutes(String requestMethod, String requestUri) {
         log.trace("Finding route matches for {} '{}'", requestMethod, requestUri);
@@ -205,18 +238,43 @@ public class DefaultRouter implements Router {
         // force compile routes
         compileRoutes();
 
+        RouteMatchCache routeMatchCache = this.routeMatchCache;
+        if (routeMatchCache == null) {
+            return matchRoutes(requestMethod, requestUri);
+        }
+
+        List<RouteMatch> routeMatches = routeMatchCache.get(requestMethod, requestUri);
+        if (routeMatches != null) {
+            log.debug("Found {} cached route matches for {} '{}'", routeMatches.size(), requestMethod, requestUri);
+            return routeMatches;
+        }
+
+        long generation = routeMatchCache.getGeneration();
+        routeMatches = matchRoutes(requestMethod, requestUri);
+        routeMatchCache.put(generation, requestMethod, requestUri, routeMatches);
+
+        return routeMatches;
+    }
+
+    /**
+     * Returns the route matches for a request, computed from the compiled routes (without cache).
+     *
+     * @param requestMethod
+     * @param requestUri
+     * @return
+     */
+    protected List<RouteMatch> matchRoutes(String requestMethod, String requestUri) {
+        BoundRoute[] candidates = compiledRoutesSnapshot.get(requestMethod);
+        if (candidates == null) {
+            candidates = anyCompiledRoutesSnapshot;
+        }
+
         List<RouteMatch> routeMatches = new ArrayList<>();
-        for (Route route : compiledRoutes) {
-            boolean methodMatches = route.getRequestMethod().equals(requestMethod)
-                || route.getRequestMethod().equals(HttpConstants.Method.ANY);
-
-            if (methodMatches) {
-                String uriPattern = route.getUriPattern();
-                Map<String, String> parameters = uriMatcher.match(requestUri, uriPattern);
-                if (parameters != null) {
-                    // complete matching => add route match ro returned list
-                    routeMatches.add(new RouteMatch(route, parameters));
-                }
+        for (BoundRoute candidate : candidates) {
+            Map<String, String> parameters = uriMatcher.match(requestUri, candidate.binding);
+            if (parameters != null) {
+                // complete matching => add route match ro returned list
+                routeMatches.add(new RouteMatch(candidate.route, parameters));
             }
         }
 
@@ -225,8 +283,22 @@ public class DefaultRouter implements Router {
         return routeMatches;
     }
 
+    public RouteMatchCache getRouteMatchCache() {
+        return routeMatchCache;
+    }
+
+    /**
+     * Sets a cache for the results of {@link #findRoutes(String, String)} ({@code null} disables the cache).
+     * The cache is cleared each time the compiled routes are changed.
+     *
+     * @param routeMatchCache
+     */
+    public void setRouteMatchCache(RouteMatchCache routeMatchCache) {
+        this.routeMatchCache = routeMatchCache;
+    }
+
     @Override
-    public void addRoute(Route route) {
+    public synchronized void addRoute(Route route) {
         log.debug("Add route for {} '{}'", route.getRequestMethod(), route.getUriPattern());
         validateRoute(route);
         routes.add(route);
@@ -241,7 +313,7 @@ public class DefaultRouter implements Router {
     }
 
     @Override
-    public void removeRoute(Route route) {
+    public synchronized void removeRoute(Route route) {
         log.debug("Removing route for {} '{}'", route.getRequestMethod(), route.getUriPattern());
         boolean removed = routes.remove(route);
         if (removed) {
@@ -250,8 +322,12 @@ public class DefaultRouter implements Router {
             if (cacheEntry != null) {
                 cacheEntry.remove(route);
             }
+        }
 
-            removeCompiledRoute(route);
+        Route compiledRoute = getCompiledRoute(route);
+        if (compiledRoute != null) {
+            removeCompiledRoute(compiledRoute);
+            onCompiledRoutesChange();
         }
     }
 
@@ -402,41 +478,113 @@ public class DefaultRouter implements Router {
         // add additional metadata as attributes
         compiledRoute.bind("__pattern", binding.getPattern());
         compiledRoute.bind("__parameterNames", parameterNames);
+        compiledRoute.bind("__binding", binding);
 
         return compiledRoute;
     }
 
-    private void addCompiledRoute(Route compiledRoute) {
+    /**
+     * Returns the uri pattern binding of a compiled route.
+     * The binding is captured when the compiled routes are published, so the published routes
+     * don't depend on the current bindings of the {@link UriMatcher}.
+     */
+    protected UriMatcher.UriPatternBinding getUriPatternBinding(Route compiledRoute) {
+        UriMatcher.UriPatternBinding binding = compiledRoute.getAttribute("__binding");
+        if (binding != null && binding.getUriPattern().equals(compiledRoute.getUriPattern())) {
+            return binding;
+        }
+
+        // a route created (or with the uri pattern changed) by a transformer; returns the existing binding if any
+        return uriMatcher.addUriPattern(compiledRoute.getUriPattern());
+    }
+
+    protected UriMatcher getUriMatcher() {
+        return uriMatcher;
+    }
+
+    /**
+     * Returns the compiled routes in the order they are defined.
+     */
+    protected List<Route> getCompiledRoutes() {
+        return Collections.unmodifiableList(compiledRoutes);
+    }
+
+    /**
+     * Publishes a new snapshot of the compiled routes, used by {@link #findRoutes(String, String)}.
+     * It's called (with the lock of router) after each change of the compiled routes.
+     */
+    protected void publishCompiledRoutes() {
+        List<BoundRoute> anyRoutes = new ArrayList<>();
+        Map<String, List<BoundRoute>> routesByMethod = new HashMap<>();
+        for (Route compiledRoute : compiledRoutes) {
+            BoundRoute route = new BoundRoute(compiledRoute, getUriPatternBinding(compiledRoute));
+            String requestMethod = compiledRoute.getRequestMethod();
+            if (HttpConstants.Method.ANY.equals(requestMethod)) {
+                anyRoutes.add(route);
+                // an ANY route is a candidate for all request methods
+                routesByMethod.values().forEach(list -> list.add(route));
+            } else {
+                routesByMethod.computeIfAbsent(requestMethod, key -> new ArrayList<>(anyRoutes)).add(route);
+            }
+        }
+
+        Map<String, BoundRoute[]> snapshot = new HashMap<>();
+        routesByMethod.forEach((requestMethod, list) -> snapshot.put(requestMethod, list.toArray(new BoundRoute[0])));
+        snapshot.put(HttpConstants.Method.ANY, anyRoutes.toArray(new BoundRoute[0]));
+
+        compiledRoutesSnapshot = Collections.unmodifiableMap(snapshot);
+        anyCompiledRoutesSnapshot = snapshot.get(HttpConstants.Method.ANY);
+    }
+
+    private void onCompiledRoutesChange() {
+        publishCompiledRoutes();
+
+        // the cached route matches are computed with the old routes
+        RouteMatchCache routeMatchCache = this.routeMatchCache;
+        if (routeMatchCache != null) {
+            routeMatchCache.clear();
+        }
+    }
+
+    protected void addCompiledRoute(Route compiledRoute) {
         compiledRoutes.add(compiledRoute);
 
         // update cache
         String requestMethod = compiledRoute.getRequestMethod();
-        if (!compiledRoutesCache.containsKey(requestMethod)) {
-            compiledRoutesCache.put(requestMethod, new ArrayList<>());
-        }
-        compiledRoutesCache.get(requestMethod).add(compiledRoute);
+        compiledRoutesCache.computeIfAbsent(requestMethod, key -> new CopyOnWriteArrayList<>()).add(compiledRoute);
 
         // it's added on compileRoute method
 //        uriMatcher.addUriPattern(compiledRoute.getUriPattern());
     }
 
-    private void removeCompiledRoute(Route route) {
-        String nameOrUriPattern = StringUtils.isNullOrEmpty(route.getName()) ? route.getUriPattern() : route.getName();
-        Route compiledRoute = getCompiledRoute(nameOrUriPattern);
-        if (compiledRoute == null) {
-            // do nothing; probably the route was not yet compiled
-            return;
-        }
-
+    protected void removeCompiledRoute(Route compiledRoute) {
         compiledRoutes.remove(compiledRoute);
 
         // update cache
-        List<Route> cacheEntry = compiledRoutesCache.get(route.getRequestMethod());
+        List<Route> cacheEntry = compiledRoutesCache.get(compiledRoute.getRequestMethod());
         if (cacheEntry != null) {
             cacheEntry.remove(compiledRoute);
         }
 
-        uriMatcher.removeUriPattern(compiledRoute.getUriPattern());
+        // the uri pattern can be shared by routes with different request methods
+        String uriPattern = compiledRoute.getUriPattern();
+        if (compiledRoutes.stream().noneMatch(route -> uriPattern.equals(route.getUriPattern()))) {
+            uriMatcher.removeUriPattern(uriPattern);
+        }
+    }
+
+    private Route getCompiledRoute(Route route) {
+        String requestMethod = route.getRequestMethod();
+        String nameOrUriPattern = StringUtils.isNullOrEmpty(route.getName()) ? route.getUriPattern() : route.getName();
+        for (Route compiledRoute : compiledRoutes) {
+            boolean nameOrUriPatternMatches = nameOrUriPattern.equals(compiledRoute.getName())
+                || nameOrUriPattern.equals(compiledRoute.getUriPattern());
+            if (nameOrUriPatternMatches && requestMethod.equals(compiledRoute.getRequestMethod())) {
+                return compiledRoute;
+            }
+        }
+
+        return null;
     }
 
     private Route getCompiledRoute(String nameOrUriPattern) {
@@ -471,4 +619,19 @@ public class DefaultRouter implements Router {
     }
     */
 
+    /**
+     * A compiled route with the uri pattern binding captured when the snapshot was published.
+     */
+    private static class BoundRoute {
+
+        private final Route route;
+        private final UriMatcher.UriPatternBinding binding;
+
+        BoundRoute(Route route, UriMatcher.UriPatternBinding binding) {
+            this.route = route;
+            this.binding = binding;
+        }
+
+    }
+
 }
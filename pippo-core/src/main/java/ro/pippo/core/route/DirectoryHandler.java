@@ -19,6 +19,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ro.pippo.core.HttpConstants;
 import ro.pippo.core.PippoRuntimeException;
+import ro.pippo.core.util.ByteRange;
 import ro.pippo.core.util.StringUtils;
 
 import java.io.File;
@@ -295,7 +296,12 @@ public class DirectoryHandler implements RouteHandler {
         if (!StringUtils.isNullOrEmpty(mimeType)) {
             // stream the resource
             log.debug("Streaming as resource '{}'", resourceUrl);
-            routeContext.getResponse().ok().chunked(chunked).resource(resourceUrl.openStream());
+            File file = UrlResourceHandler.toFile(resourceUrl);
+            if (file != null) {
+                routeContext.getResponse().ok().chunked(chunked).resource(file, ByteRange.parse(routeContext, file.length()));
+            } else {
+                routeContext.getResponse().ok().chunked(chunked).resource(resourceUrl.openStream());
+            }
         } else {
             // stream the file
             log.debug("Streaming as file '{}'", resourceUrl);
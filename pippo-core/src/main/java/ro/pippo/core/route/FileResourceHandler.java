@@ -47,6 +47,15 @@ public class FileResourceHandler extends UrlResourceHandler {
 
     @Override
     public URL getResourceUrl(String resourcePath) {
+        return getFileUrl(resourcePath, true);
+    }
+
+    @Override
+    protected URL getPrecompressedResourceUrl(String resourcePath) {
+        return getFileUrl(resourcePath, false);
+    }
+
+    private URL getFileUrl(String resourcePath, boolean warnIfMissing) {
         URL url = null;
 
         try {
@@ -59,7 +68,7 @@ public class FileResourceHandler extends UrlResourceHandler {
             File file = requestedPath.toFile();
             if (file.exists() && file.isFile()) {
                 url = requestedPath.toUri().toURL();
-            } else {
+            } else if (warnIfMissing) {
                 log.warn("File '{}' not found", resourcePath);
             }
         } catch (MalformedURLException e) {
@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.route;
+
+import ro.pippo.core.util.CryptoUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded (LRU) in-memory cache of static resources used by {@link UrlResourceHandler}.
+ * The cache is bounded by the total size in bytes of the cached contents, not by the number of entries.
+ * A resource bigger than the maximum entry size is never cached.
+ * <p>
+ * Each entry holds the content and the precomputed metadata (content type, length, last modified and
+ * a strong ETag computed from the content hash).
+ * </p>
+ */
+public class ResourceCache {
+
+    private final long maximumWeight;
+    private final long maximumEntryWeight;
+
+    private final LinkedHashMap<String, Entry> entries;
+    private long weight;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * The maximum entry size is 1/8 of the maximum size.
+     *
+     * @param maximumWeight the maximum size in bytes
+     */
+    public ResourceCache(long maximumWeight) {
+        this(maximumWeight, maximumWeight / 8);
+    }
+
+    /**
+     * @param maximumWeight the maximum size in bytes
+     * @param maximumEntryWeight the maximum size in bytes of a cached resource
+     */
+    public ResourceCache(long maximumWeight, long maximumEntryWeight) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("The maximum weight must be greater than 0");
+        }
+
+        this.maximumWeight = maximumWeight;
+        this.maximumEntryWeight = Math.min(maximumEntryWeight, maximumWeight);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the cached resource or {@code null}.
+     *
+     * @param key
+     * @return
+     */
+    public Entry get(String key) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+
+        if (entry == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+
+        return entry;
+    }
+
+    /**
+     * Returns true if a resource with this size can be cached.
+     */
+    public boolean accepts(long length) {
+        return length >= 0 && length <= maximumEntryWeight;
+    }
+
+    /**
+     * Caches the resource (if it's not too big) and evicts the least recently used entries
+     * until the total size is below the maximum size.
+     *
+     * @param key
+     * @param entry
+     */
+    public void put(String key, Entry entry) {
+        if (entry.getWeight() > maximumEntryWeight) {
+            return;
+        }
+
+        synchronized (this) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                weight -= previous.getWeight();
+            }
+            weight += entry.getWeight();
+
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (weight > maximumWeight && iterator.hasNext()) {
+                Entry eldest = iterator.next();
+                iterator.remove();
+                weight -= eldest.getWeight();
+                evictionCount.increment();
+            }
+        }
+    }
+
+    public synchronized void remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            weight -= entry.getWeight();
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public long getMaximumEntryWeight() {
+        return maximumEntryWeight;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the total size in bytes of the cached resources.
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns the ratio of lookups that were found in cache ({@code 0} if there was no lookup).
+     */
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long requests = hits + getMissCount();
+
+        return (requests == 0) ? 0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "ResourceCache{" +
+            "maximumWeight=" + maximumWeight +
+            ", weight=" + getWeight() +
+            ", size=" + size() +
+            ", hitCount=" + getHitCount() +
+            ", missCount=" + getMissCount() +
+            ", evictionCount=" + getEvictionCount() +
+            '}';
+    }
+
+    /**
+     * A cached resource.
+     */
+    public static class Entry {
+
+        private final byte[] content;
+        private final byte[] gzipContent;
+        private final String contentType;
+        private final long lastModified;
+        private final String etag;
+
+        /**
+         * @param content the content
+         * @param gzipContent the compressed (gzip) content or {@code null}
+         * @param contentType the content type
+         * @param lastModified the last modified time or {@code 0} if it's unknown
+         */
+        public Entry(byte[] content, byte[] gzipContent, String contentType, long lastModified) {
+            this.content = content;
+            this.gzipContent = gzipContent;
+            this.contentType = contentType;
+            this.lastModified = lastModified;
+            this.etag = createEtag(content);
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+
+        public byte[] getGzipContent() {
+            return gzipContent;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public int getLength() {
+            return content.length;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Returns the strong ETag (quoted) computed from the content.
+         */
+        public String getEtag() {
+            return etag;
+        }
+
+        long getWeight() {
+            return content.length + ((gzipContent != null) ? gzipContent.length : 0);
+        }
+
+        /*
+         * The first 128 bits of the SHA-256 hash (hex).
+         */
+        private static String createEtag(byte[] content) {
+            return '"' + CryptoUtils.getHashSHA256(content).substring(0, 32) + '"';
+        }
+
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.route;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ro.pippo.core.PippoRuntimeException;
+import ro.pippo.core.util.CryptoUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry with the fingerprints (strong ETag and version) of the static resources served by
+ * an {@link UrlResourceHandler}.
+ * A fingerprint is computed once (on first access) from the content hash of the resource, so
+ * {@link UrlResourceHandler#injectVersion(String)} and the cache headers don't open the resource each time.
+ * <p>
+ * The fingerprint of a file is recomputed when the last modified time of the file changes
+ * (useful in dev mode). The resources from jars are not checked.
+ * </p>
+ */
+public class ResourceFingerprints {
+
+    private static final Logger log = LoggerFactory.getLogger(ResourceFingerprints.class);
+
+    /**
+     * The fingerprint of a bigger resource is computed from its last modified time and length.
+     */
+    public static final long MAX_HASH_SIZE = 16 * 1024 * 1024;
+
+    private static final int VERSION_LENGTH = 16;
+
+    private final Map<String, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the (valid) fingerprint of the resource or {@code null} if it's not computed.
+     *
+     * @param resourcePath
+     * @return
+     */
+    public Fingerprint get(String resourcePath) {
+        Fingerprint fingerprint = fingerprints.get(resourcePath);
+        if (fingerprint != null && fingerprint.isModified()) {
+            log.debug("Resource '{}' was modified", fingerprint.getUrl());
+            fingerprints.remove(resourcePath, fingerprint);
+
+            return null;
+        }
+
+        return fingerprint;
+    }
+
+    /**
+     * Computes and registers the fingerprint of the resource.
+     *
+     * @param resourcePath
+     * @param resourceUrl
+     * @return
+     */
+    public Fingerprint put(String resourcePath, URL resourceUrl) {
+        Fingerprint fingerprint;
+        try {
+            fingerprint = Fingerprint.create(resourceUrl);
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e, "Failed to compute the fingerprint of {}", resourceUrl);
+        }
+        fingerprints.put(resourcePath, fingerprint);
+
+        return fingerprint;
+    }
+
+    public void remove(String resourcePath) {
+        fingerprints.remove(resourcePath);
+    }
+
+    public void clear() {
+        fingerprints.clear();
+    }
+
+    public int size() {
+        return fingerprints.size();
+    }
+
+    /**
+     * The fingerprint of a resource.
+     */
+    public static class Fingerprint {
+
+        private final URL url;
+        private final File file;
+        private final String etag;
+        private final String version;
+        private final long lastModified;
+        private final long length;
+
+        Fingerprint(URL url, String hash, long lastModified, long length) {
+            this.url = url;
+            this.file = UrlResourceHandler.toFile(url);
+            this.etag = '"' + hash.substring(0, Math.min(32, hash.length())) + '"';
+            this.version = hash.substring(0, Math.min(VERSION_LENGTH, hash.length()));
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        public URL getUrl() {
+            return url;
+        }
+
+        /**
+         * Returns the strong ETag (quoted).
+         */
+        public String getEtag() {
+            return etag;
+        }
+
+        /**
+         * Returns the version (hex) injected in the resource path.
+         */
+        public String getVersion() {
+            return version;
+        }
+
+        /**
+         * Returns the last modified time or {@code 0} if it's unknown.
+         */
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        boolean isModified() {
+            return file != null && file.lastModified() != lastModified;
+        }
+
+        /**
+         * Computes the fingerprint of resource with a single connection.
+         */
+        static Fingerprint create(URL url) throws IOException {
+            URLConnection connection = url.openConnection();
+            long lastModified = connection.getLastModified();
+            long length = connection.getContentLengthLong();
+            try (InputStream input = connection.getInputStream()) {
+                if (length > MAX_HASH_SIZE) {
+                    String hash = Long.toHexString(lastModified) + Long.toHexString(length);
+
+                    return new Fingerprint(url, hash, lastModified, length);
+                }
+
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                byte[] buffer = new byte[8 * 1024];
+                long count = 0;
+                int n;
+                while ((n = input.read(buffer)) != -1) {
+                    digest.update(buffer, 0, n);
+                    count += n;
+                }
+
+                return new Fingerprint(url, CryptoUtils.toHex(digest.digest()), lastModified, count);
+            } catch (NoSuchAlgorithmException e) {
+                throw new PippoRuntimeException(e);
+            }
+        }
+
+    }
+
+}
@@ -18,6 +18,7 @@ package ro.pippo.core.route;
 import ro.pippo.core.Application;
 import ro.pippo.core.Messages;
 import ro.pippo.core.ParameterValue;
+import ro.pippo.core.PippoRuntimeException;
 import ro.pippo.core.PippoSettings;
 import ro.pippo.core.Request;
 import ro.pippo.core.Response;
@@ -136,6 +137,24 @@ public interface RouteContext {
 
     void runFinallyRoutes();
 
+    /**
+     * Switches the request to asynchronous processing (see {@link AsyncHandle}) and returns the handle.
+     * Calling this method again returns the same handle.
+     * The default implementation doesn't support asynchronous processing.
+     *
+     * @return the handle used to complete the request
+     */
+    default AsyncHandle async() {
+        throw new PippoRuntimeException("Asynchronous processing is not supported by '{}'", getClass().getName());
+    }
+
+    /**
+     * Returns true if the request is processed asynchronously (see {@link #async()}).
+     */
+    default boolean isAsync() {
+        return false;
+    }
+
     RouteContext text();
 
     RouteContext xml();
@@ -0,0 +1,339 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.route;
+
+import ro.pippo.core.Application;
+import ro.pippo.core.Messages;
+import ro.pippo.core.ParameterValue;
+import ro.pippo.core.PippoSettings;
+import ro.pippo.core.Request;
+import ro.pippo.core.Response;
+import ro.pippo.core.Session;
+
+import java.io.File;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * A {@link RouteContext} that delegates all the methods to another route context.
+ * Extend it to change only some methods (for example {@link #next()} to run a different chain of handlers).
+ * The fluent methods return this wrapper.
+ */
+public class RouteContextWrapper implements RouteContext {
+
+    private final RouteContext routeContext;
+
+    public RouteContextWrapper(RouteContext routeContext) {
+        this.routeContext = routeContext;
+    }
+
+    /**
+     * Returns the wrapped route context.
+     */
+    public RouteContext getWrapped() {
+        return routeContext;
+    }
+
+    @Override
+    public <T extends Application> T getApplication() {
+        return routeContext.getApplication();
+    }
+
+    @Override
+    public Request getRequest() {
+        return routeContext.getRequest();
+    }
+
+    @Override
+    public Response getResponse() {
+        return routeContext.getResponse();
+    }
+
+    @Override
+    public boolean hasSession() {
+        return routeContext.hasSession();
+    }
+
+    @Override
+    public Session getSession() {
+        return routeContext.getSession();
+    }
+
+    @Override
+    public void recreateSession() {
+        routeContext.recreateSession();
+    }
+
+    @Override
+    public void resetSession() {
+        routeContext.resetSession();
+    }
+
+    @Override
+    public void touchSession() {
+        routeContext.touchSession();
+    }
+
+    @Override
+    public void invalidateSession() {
+        routeContext.invalidateSession();
+    }
+
+    @Override
+    public <T> T setSession(String name, T value) {
+        return routeContext.setSession(name, value);
+    }
+
+    @Override
+    public <T> T getSession(String name) {
+        return routeContext.getSession(name);
+    }
+
+    @Override
+    public <T> T removeSession(String name) {
+        return routeContext.removeSession(name);
+    }
+
+    @Override
+    public <T> T setLocal(String name, T value) {
+        return routeContext.setLocal(name, value);
+    }
+
+    @Override
+    public void setLocals(Map<String, Object> locals) {
+        routeContext.setLocals(locals);
+    }
+
+    @Override
+    public <T> T getLocal(String name) {
+        return routeContext.getLocal(name);
+    }
+
+    @Override
+    public <T> T removeLocal(String name) {
+        return routeContext.removeLocal(name);
+    }
+
+    @Override
+    public ParameterValue getParameter(String name) {
+        return routeContext.getParameter(name);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return routeContext.getHeader(name);
+    }
+
+    @Override
+    public <T> T setHeader(String name, T value) {
+        return routeContext.setHeader(name, value);
+    }
+
+    @Override
+    public Date setHeader(String name, Date date) {
+        return routeContext.setHeader(name, date);
+    }
+
+    @Override
+    public void flashError(String message, Object... args) {
+        routeContext.flashError(message, args);
+    }
+
+    @Override
+    public void flashWarning(String message, Object... args) {
+        routeContext.flashWarning(message, args);
+    }
+
+    @Override
+    public void flashInfo(String message, Object... args) {
+        routeContext.flashInfo(message, args);
+    }
+
+    @Override
+    public void flashSuccess(String message, Object... args) {
+        routeContext.flashSuccess(message, args);
+    }
+
+    @Override
+    public <T> T createEntityFromParameters(Class<T> classOfT) {
+        return routeContext.createEntityFromParameters(classOfT);
+    }
+
+    @Override
+    public <T> T createEntityFromBody(Class<T> classOfT) {
+        return routeContext.createEntityFromBody(classOfT);
+    }
+
+    @Override
+    public String getRequestUri() {
+        return routeContext.getRequestUri();
+    }
+
+    @Override
+    public String getRequestMethod() {
+        return routeContext.getRequestMethod();
+    }
+
+    @Override
+    public boolean isRequestMethod(String method) {
+        return routeContext.isRequestMethod(method);
+    }
+
+    @Override
+    public void render(String templateName) {
+        routeContext.render(templateName);
+    }
+
+    @Override
+    public void render(String templateName, Map<String, Object> model) {
+        routeContext.render(templateName, model);
+    }
+
+    @Override
+    public String renderToString(String templateName) {
+        return routeContext.renderToString(templateName);
+    }
+
+    @Override
+    public String renderToString(String templateName, Map<String, Object> model) {
+        return routeContext.renderToString(templateName, model);
+    }
+
+    @Override
+    public void send(CharSequence content) {
+        routeContext.send(content);
+    }
+
+    @Override
+    public void send(File file) {
+        routeContext.send(file);
+    }
+
+    @Override
+    public void send(Object object) {
+        routeContext.send(object);
+    }
+
+    @Override
+    public void redirect(String path) {
+        routeContext.redirect(path);
+    }
+
+    @Override
+    public void redirect(String nameOrUriPattern, Map<String, Object> parameters) {
+        routeContext.redirect(nameOrUriPattern, parameters);
+    }
+
+    @Override
+    public void next() {
+        routeContext.next();
+    }
+
+    @Override
+    public void runFinallyRoutes() {
+        routeContext.runFinallyRoutes();
+    }
+
+    @Override
+    public AsyncHandle async() {
+        return routeContext.async();
+    }
+
+    @Override
+    public boolean isAsync() {
+        return routeContext.isAsync();
+    }
+
+    @Override
+    public RouteContext text() {
+        routeContext.text();
+
+        return this;
+    }
+
+    @Override
+    public RouteContext xml() {
+        routeContext.xml();
+
+        return this;
+    }
+
+    @Override
+    public RouteContext json() {
+        routeContext.json();
+
+        return this;
+    }
+
+    @Override
+    public RouteContext yaml() {
+        routeContext.yaml();
+
+        return this;
+    }
+
+    @Override
+    public RouteContext html() {
+        routeContext.html();
+
+        return this;
+    }
+
+    @Override
+    public RouteContext negotiateContentType() {
+        routeContext.negotiateContentType();
+
+        return this;
+    }
+
+    @Override
+    public RouteContext status(int code) {
+        routeContext.status(code);
+
+        return this;
+    }
+
+    @Override
+    public String uriFor(String nameOrUriPattern, Map<String, Object> parameters) {
+        return routeContext.uriFor(nameOrUriPattern, parameters);
+    }
+
+    @Override
+    public Messages getMessages() {
+        return routeContext.getMessages();
+    }
+
+    @Override
+    public String getMessage(String key, Object... args) {
+        return routeContext.getMessage(key, args);
+    }
+
+    @Override
+    public String getMessage(String key, String language, Object... args) {
+        return routeContext.getMessage(key, language, args);
+    }
+
+    @Override
+    public PippoSettings getSettings() {
+        return routeContext.getSettings();
+    }
+
+    @Override
+    public Route getRoute() {
+        return routeContext.getRoute();
+    }
+
+}
@@ -21,6 +21,7 @@ import ro.pippo.core.Application;
 import ro.pippo.core.ErrorHandler;
 import ro.pippo.core.Flash;
 import ro.pippo.core.HttpConstants;
+import ro.pippo.core.PippoRuntimeException;
 import ro.pippo.core.Request;
 import ro.pippo.core.Response;
 import ro.pippo.core.util.ServiceLocator;
@@ -90,6 +91,9 @@ public class RouteDispatcher {
 
     /**
      * Dispatches the Request/Response.
+     * If the request is processed asynchronously (see {@link RouteContext#async()}) this method returns
+     * before the response is completed and the post-dispatch listeners are executed when the
+     * {@link AsyncHandle} is completed.
      *
      * @param request
      * @param response
@@ -99,7 +103,9 @@ public class RouteDispatcher {
     public void dispatch(Request request, Response response) throws IOException, ServletException {
         onPreDispatch(request, response);
         onRouteDispatch(request, response);
-        onPostDispatch(request, response);
+        if (AsyncHandle.get(request) == null) {
+            onPostDispatch(request, response);
+        }
     }
 
     /**
@@ -127,7 +133,7 @@ public class RouteDispatcher {
             RouteContext routeContext = routeContextFactory.createRouteContext(application, request, response, noMatches);
             ROUTE_CONTEXT_THREAD_LOCAL.set(routeContext);
             errorHandler.handle(HttpServletResponse.SC_NOT_FOUND, routeContext);
-            ROUTE_CONTEXT_THREAD_LOCAL.remove();
+            ROUTE_CONTEXT_THREAD_LOCAL.set(null);
             log.debug("Returned status code {} for {} '{}' (IGNORED)", response.getStatus(), requestMethod, requestPath);
 
             return;
@@ -137,6 +143,7 @@ public class RouteDispatcher {
         RouteContext routeContext = routeContextFactory.createRouteContext(application, request, response, routeMatches);
         ROUTE_CONTEXT_THREAD_LOCAL.set(routeContext);
 
+        boolean async = false;
         try {
             if (routeMatches.isEmpty()) {
                 if (notFoundRouteHandler != null) {
@@ -152,26 +159,98 @@ public class RouteDispatcher {
             // execute the chain
             routeContext.next();
 
-            if (!response.isCommitted()) {
-                if (response.getStatus() == 0) {
-                    log.debug("Status code not set for {} '{}'", requestMethod, requestPath);
-                    response.notFound();
+            async = routeContext.isAsync();
+            if (!async) {
+                commitResponse(routeContext);
+            }
+        } catch (Exception e) {
+            async = routeContext.isAsync();
+            if (async) {
+                routeContext.async().fail(e);
+            } else {
+                errorHandler.handle(e, routeContext);
+            }
+        } finally {
+            if (!async) {
+                routeContext.runFinallyRoutes();
+                log.debug("Returned status code {} for {} '{}'", response.getStatus(), requestMethod, requestPath);
+            }
+            // clear the value but keep the thread local entry (a remove followed by a set allocates a new entry)
+            ROUTE_CONTEXT_THREAD_LOCAL.set(null);
+        }
+
+        if (async) {
+            // release the container thread, the response is completed when the async handle is completed
+            log.debug("Processing {} '{}' asynchronously", requestMethod, requestPath);
+            routeContext.async().onDone(asyncHandle -> onAsyncDispatch(routeContext, asyncHandle));
+        }
+    }
+
+    /**
+     * Completes an asynchronous request (see {@link RouteContext#async()}), on the thread that
+     * completed the {@link AsyncHandle}.
+     *
+     * @param routeContext
+     * @param asyncHandle
+     */
+    protected void onAsyncDispatch(RouteContext routeContext, AsyncHandle asyncHandle) {
+        Request request = routeContext.getRequest();
+        Response response = routeContext.getResponse();
+
+        ROUTE_CONTEXT_THREAD_LOCAL.set(routeContext);
+        try {
+            try {
+                Throwable failure = asyncHandle.getFailure();
+                if (failure != null) {
+                    throw failure instanceof Exception ? (Exception) failure : new PippoRuntimeException(failure);
                 }
-                log.debug("Auto-committing response for {} '{}'", requestMethod, requestPath);
-                if (response.getStatus() >= HttpServletResponse.SC_BAD_REQUEST) {
-                    // delegate response to the error handler.
-                    // this will generate response content appropriate for the request
-                    errorHandler.handle(response.getStatus(), routeContext);
+
+                if (asyncHandle.isTimedOut()) {
+                    if (!response.isCommitted()) {
+                        response.status(HttpConstants.StatusCode.SERVICE_UNAVAILABLE);
+                    }
                 } else {
-                    response.commit();
+                    asyncHandle.handleResult();
                 }
+
+                commitResponse(routeContext);
+            } catch (Exception e) {
+                errorHandler.handle(e, routeContext);
+            } finally {
+                routeContext.runFinallyRoutes();
+                log.debug("Returned status code {} for {} '{}' (async)", response.getStatus(), request.getMethod(), request.getPath());
             }
+
+            onPostDispatch(request, response);
         } catch (Exception e) {
-            errorHandler.handle(e, routeContext);
+            log.error("Failed to complete asynchronous request {} '{}'", request.getMethod(), request.getPath(), e);
         } finally {
-            routeContext.runFinallyRoutes();
-            log.debug("Returned status code {} for {} '{}'", response.getStatus(), requestMethod, requestPath);
-            ROUTE_CONTEXT_THREAD_LOCAL.remove();
+            ROUTE_CONTEXT_THREAD_LOCAL.set(null);
+            asyncHandle.release();
+        }
+    }
+
+    /**
+     * Commits the response if it's not committed by the route handlers.
+     *
+     * @param routeContext
+     */
+    protected void commitResponse(RouteContext routeContext) {
+        Request request = routeContext.getRequest();
+        Response response = routeContext.getResponse();
+        if (!response.isCommitted()) {
+            if (response.getStatus() == 0) {
+                log.debug("Status code not set for {} '{}'", request.getMethod(), request.getPath());
+                response.notFound();
+            }
+            log.debug("Auto-committing response for {} '{}'", request.getMethod(), request.getPath());
+            if (response.getStatus() >= HttpServletResponse.SC_BAD_REQUEST) {
+                // delegate response to the error handler.
+                // this will generate response content appropriate for the request
+                errorHandler.handle(response.getStatus(), routeContext);
+            } else {
+                response.commit();
+            }
         }
     }
 
@@ -203,27 +282,21 @@ public class RouteDispatcher {
     }
 
     /**
-     * Removes a Flash instance from the session, binds it to the RouteContext,
-     * and creates a new Flash instance.
+     * Removes the Flash instance (if any) from the session and binds it to the RouteContext.
+     * The outgoing Flash instance is created in session only when it's used
+     * (see {@link ro.pippo.core.Session#getFlash()}) and an empty Flash instance is bound
+     * to the RouteContext only when it's requested (see {@link Response#getFlash()}).
      *
      * @param routeContext
      */
     private void processFlash(RouteContext routeContext) {
-        Flash flash = null;
-
-        if (routeContext.hasSession()) {
-            // get flash from session
-            flash = routeContext.removeSession("flash");
-            // put an empty flash (outgoing flash) in session; defense against session.get("flash")
-            routeContext.setSession("flash", new Flash());
-        }
-
-        if (flash == null) {
-            flash = new Flash();
+        // get flash from session (don't touch the session if there is no flash)
+        Flash flash = routeContext.getSession("flash");
+        if (flash != null) {
+            routeContext.removeSession("flash");
+            // make current flash available to templates
+            routeContext.setLocal("flash", flash);
         }
-
-        // make current flash available to templates
-        routeContext.setLocal("flash", flash);
     }
 
 }
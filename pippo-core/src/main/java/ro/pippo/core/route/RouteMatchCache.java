@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.route;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded (LRU) cache of {@link Router#findRoutes(String, String)} results, keyed by request method and uri.
+ * The cache is split in segments (each segment is a synchronized access ordered {@link LinkedHashMap})
+ * to reduce the contention between the request threads.
+ * <p>
+ * A route with an unbounded number of distinct request uris (for example {@code /user/{id}}) can
+ * bypass the cache with {@code route.bind(RouteMatchCache.BYPASS, true)}.
+ * </p>
+ */
+public class RouteMatchCache {
+
+    /**
+     * The name of the route attribute that excludes the route matches from cache.
+     */
+    public static final String BYPASS = "__bypassRouteMatchCache";
+
+    private static final int SEGMENTS = 16;
+
+    private final int maximumSize;
+    private final Segment[] segments;
+
+    // incremented by clear; an entry computed before the last clear is not cached
+    private volatile long generation;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public RouteMatchCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be greater than 0");
+        }
+
+        this.maximumSize = maximumSize;
+
+        int segmentCount = Math.min(SEGMENTS, maximumSize);
+        int segmentSize = (maximumSize + segmentCount - 1) / segmentCount;
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+    }
+
+    /**
+     * Returns the cached (unmodifiable) route matches or {@code null}.
+     *
+     * @param requestMethod
+     * @param requestUri
+     * @return
+     */
+    public List<RouteMatch> get(String requestMethod, String requestUri) {
+        Key key = new Key(requestMethod, requestUri);
+        List<RouteMatch> routeMatches;
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            routeMatches = segment.get(key);
+        }
+
+        if (routeMatches == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+
+        return routeMatches;
+    }
+
+    /**
+     * Returns the current generation of cache.
+     * Read it before computing the route matches and pass it to {@link #put(long, String, String, List)}.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Caches the route matches, if none of the matched routes is bound with {@link #BYPASS}
+     * and the cache was not cleared since {@code generation}.
+     *
+     * @param generation
+     * @param requestMethod
+     * @param requestUri
+     * @param routeMatches
+     */
+    public void put(long generation, String requestMethod, String requestUri, List<RouteMatch> routeMatches) {
+        List<RouteMatch> entry = new ArrayList<>(routeMatches.size());
+        for (RouteMatch routeMatch : routeMatches) {
+            Route route = routeMatch.getRoute();
+            if (Boolean.TRUE.equals(route.getAttribute(BYPASS))) {
+                return;
+            }
+            entry.add(new RouteMatch(route, Collections.unmodifiableMap(routeMatch.getPathParameters())));
+        }
+
+        Key key = new Key(requestMethod, requestUri);
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            if (generation == this.generation) {
+                segment.put(key, Collections.unmodifiableList(entry));
+            }
+        }
+    }
+
+    /**
+     * Removes all the entries (it's called when the routes are changed).
+     */
+    public synchronized void clear() {
+        generation++;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns the ratio of lookups that were found in cache ({@code 0} if there was no lookup).
+     */
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long requests = hits + getMissCount();
+
+        return (requests == 0) ? 0 : (double) hits / requests;
+    }
+
+    private Segment segmentFor(Key key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+
+        return segments[(hash & 0x7fffffff) % segments.length];
+    }
+
+    @Override
+    public String toString() {
+        return "RouteMatchCache{" +
+            "maximumSize=" + maximumSize +
+            ", size=" + size() +
+            ", hitCount=" + getHitCount() +
+            ", missCount=" + getMissCount() +
+            ", evictionCount=" + getEvictionCount() +
+            '}';
+    }
+
+    private class Segment extends LinkedHashMap<Key, List<RouteMatch>> {
+
+        private final int maximumSize;
+
+        Segment(int maximumSize) {
+            super(16, 0.75f, true);
+
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, List<RouteMatch>> eldest) {
+            if (size() > maximumSize) {
+                evictionCount.increment();
+                return true;
+            }
+
+            return false;
+        }
+
+    }
+
+    private static class Key {
+
+        private final String requestMethod;
+        private final String requestUri;
+        private final int hash;
+
+        Key(String requestMethod, String requestUri) {
+            this.requestMethod = requestMethod;
+            this.requestUri = requestUri;
+            this.hash = 31 * requestMethod.hashCode() + requestUri.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            Key key = (Key) o;
+
+            return requestMethod.equals(key.requestMethod) && requestUri.equals(key.requestUri);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+}
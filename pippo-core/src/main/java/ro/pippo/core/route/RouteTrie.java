@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.route;
+
+import ro.pippo.core.UriMatcher;
+import ro.pippo.core.util.ArrayMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A segment based index of compiled routes.
+ * The uri pattern of a route is split in segments (the text between slashes) and each segment
+ * is stored as a node in a tree:
+ * <ul>
+ *     <li>a literal segment (e.g. {@code users}) becomes a static child</li>
+ *     <li>a simple path parameter (e.g. {@code {id}}) becomes the parameter child</li>
+ *     <li>the first segment that contains a regex (e.g. {@code {id: [0-9]+}}, {@code .*}) stops the descent
+ *     and the route is stored as a leaf that is matched with {@link UriMatcher#match(String, UriMatcher.UriPatternBinding)}</li>
+ * </ul>
+ * A lookup walks only the branches compatible with the request uri, so most of the routes are never evaluated.
+ */
+class RouteTrie {
+
+    private static final String REGEX_CHARACTERS = "\\.[]{}()*+?^$|";
+
+    private final UriMatcher uriMatcher;
+    private final Node root;
+
+    RouteTrie(UriMatcher uriMatcher) {
+        this.uriMatcher = uriMatcher;
+        root = new Node();
+    }
+
+    /**
+     * Adds a compiled route to index.
+     *
+     * @param route the compiled route
+     * @param binding the uri pattern binding of the route (used to match the regex part of the uri pattern)
+     * @param order the position of the route in the routes list
+     */
+    void add(Route route, UriMatcher.UriPatternBinding binding, int order) {
+        String uriPattern = route.getUriPattern();
+        List<String> parameterNames = route.getAttribute("__parameterNames");
+        if (parameterNames == null) {
+            parameterNames = Collections.emptyList();
+        }
+
+        Node node = root;
+        if (uriPattern.startsWith("/")) {
+            String[] segments = split(uriPattern);
+            for (String segment : segments) {
+                if (isParameter(segment)) {
+                    if (node.parameterChild == null) {
+                        node.parameterChild = new Node();
+                    }
+                    node = node.parameterChild;
+                } else if (isLiteral(segment)) {
+                    node = node.staticChild(segment);
+                } else {
+                    // a regex segment; the remaining part of the uri pattern is matched by the uri matcher
+                    node.leaves.add(new Entry(route, binding, order, parameterNames));
+                    return;
+                }
+            }
+
+            node.terminals.add(new Entry(route, binding, order, parameterNames));
+        } else {
+            node.leaves.add(new Entry(route, binding, order, parameterNames));
+        }
+    }
+
+    /**
+     * Adds to {@code matches} all routes that match the request uri.
+     * The result is not ordered; use {@link Match#getOrder()} to restore the definition order.
+     *
+     * @param requestUri
+     * @param matches
+     */
+    void find(String requestUri, List<Match> matches) {
+        if (requestUri.startsWith("/")) {
+            String[] segments = split(requestUri);
+            find(root, requestUri, segments, 0, new String[segments.length], 0, matches);
+        } else {
+            matchLeaves(root, requestUri, matches);
+        }
+    }
+
+    private void find(Node node, String requestUri, String[] segments, int index, String[] values, int valueCount, List<Match> matches) {
+        matchLeaves(node, requestUri, matches);
+
+        if (index == segments.length) {
+            for (Entry entry : node.terminals) {
+                matches.add(new Match(entry.order, new RouteMatch(entry.route, entry.getPathParameters(values))));
+            }
+
+            return;
+        }
+
+        String segment = segments[index];
+        Node staticChild = node.staticChildren.get(segment);
+        if (staticChild != null) {
+            find(staticChild, requestUri, segments, index + 1, values, valueCount, matches);
+        }
+
+        // a path parameter matches only a not empty segment
+        if (node.parameterChild != null && !segment.isEmpty()) {
+            values[valueCount] = segment;
+            find(node.parameterChild, requestUri, segments, index + 1, values, valueCount + 1, matches);
+        }
+    }
+
+    private void matchLeaves(Node node, String requestUri, List<Match> matches) {
+        for (Entry entry : node.leaves) {
+            Map<String, String> pathParameters = uriMatcher.match(requestUri, entry.binding);
+            if (pathParameters != null) {
+                matches.add(new Match(entry.order, new RouteMatch(entry.route, pathParameters)));
+            }
+        }
+    }
+
+    /**
+     * Splits a path in segments, preserving the empty segments ("/" becomes [""] and "/a/" becomes ["a", ""]).
+     */
+    private static String[] split(String path) {
+        return path.substring(1).split("/", -1);
+    }
+
+    private static boolean isParameter(String segment) {
+        int length = segment.length();
+        if (length < 3 || segment.charAt(0) != '{' || segment.charAt(length - 1) != '}') {
+            return false;
+        }
+
+        // the default regex of a path parameter is "[^/]+"; a custom regex (e.g. "{id: [0-9]+}") needs the uri matcher
+        for (int i = 1; i < length - 1; i++) {
+            char c = segment.charAt(i);
+            if (c == '{' || c == '}' || c == ':' || Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isLiteral(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            if (REGEX_CHARACTERS.indexOf(segment.charAt(i)) != -1) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * A route found by {@link #find(String, List)} together with its position in the routes list.
+     */
+    static class Match {
+
+        private final int order;
+        private final RouteMatch routeMatch;
+
+        Match(int order, RouteMatch routeMatch) {
+            this.order = order;
+            this.routeMatch = routeMatch;
+        }
+
+        int getOrder() {
+            return order;
+        }
+
+        RouteMatch getRouteMatch() {
+            return routeMatch;
+        }
+
+    }
+
+    private static class Node {
+
+        private final Map<String, Node> staticChildren = new HashMap<>();
+        private Node parameterChild;
+        private final List<Entry> leaves = new ArrayList<>();
+        private final List<Entry> terminals = new ArrayList<>();
+
+        Node staticChild(String segment) {
+            return staticChildren.computeIfAbsent(segment, key -> new Node());
+        }
+
+    }
+
+    private static class Entry {
+
+        private final Route route;
+        private final UriMatcher.UriPatternBinding binding;
+        private final int order;
+        private final List<String> parameterNames;
+        private final String[] parameterNamesArray;
+
+        Entry(Route route, UriMatcher.UriPatternBinding binding, int order, List<String> parameterNames) {
+            this.route = route;
+            this.binding = binding;
+            this.order = order;
+            this.parameterNames = parameterNames;
+
+            boolean uniqueNames = new HashSet<>(parameterNames).size() == parameterNames.size();
+            parameterNamesArray = uniqueNames ? parameterNames.toArray(new String[0]) : null;
+        }
+
+        /**
+         * The values are the segments matched by the parameter nodes, in the order of the parameter names.
+         */
+        @SuppressWarnings("unchecked")
+        Map<String, String> getPathParameters(String[] values) {
+            if (parameterNames.isEmpty()) {
+                return Collections.EMPTY_MAP;
+            }
+
+            if (parameterNamesArray != null) {
+                return new ArrayMap<>(parameterNamesArray, Arrays.copyOf(values, parameterNamesArray.length));
+            }
+
+            Map<String, String> pathParameters = new HashMap<>();
+            for (int i = 0; i < parameterNames.size(); i++) {
+                pathParameters.put(parameterNames.get(i), values[i]);
+            }
+
+            return Collections.unmodifiableMap(pathParameters);
+        }
+
+    }
+
+}
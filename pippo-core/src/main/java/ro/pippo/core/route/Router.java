@@ -67,6 +67,8 @@ public interface Router {
 
     /**
      * Find compiled routes for a request method and uri.
+     * The returned list may be shared between requests (for example cached by a {@link RouteMatchCache})
+     * and immutable, so the callers must not modify it.
      *
      * @param requestMethod
      * @param requestUri
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.route;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ro.pippo.core.HttpConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link Router} that indexes the compiled routes in a segment tree (one tree per request method),
+ * instead of evaluating the regex of each route for each request.
+ * Static segments and simple path parameters are resolved by the tree; the routes with
+ * a regex (in the uri pattern or in a path parameter) are matched with the {@link ro.pippo.core.UriMatcher}
+ * only when the request uri reaches them.
+ * The returned route matches are in the order the routes are defined (the same result as {@link DefaultRouter}).
+ *
+ * <pre>
+ * public class MyApplication extends Application {
+ *
+ *     public MyApplication() {
+ *         setRouter(new TrieRouter());
+ *     }
+ *
+ * }
+ * </pre>
+ */
+public class TrieRouter extends DefaultRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(TrieRouter.class);
+
+    private static final Comparator<RouteTrie.Match> ORDER_COMPARATOR = Comparator.comparingInt(RouteTrie.Match::getOrder);
+
+    // key = requestMethod
+    private volatile Map<String, RouteTrie> tries;
+
+    public TrieRouter() {
+        tries = Collections.emptyMap();
+    }
+
+    @Override
+    protected List<RouteMatch> matchRoutes(String requestMethod, String requestUri) {
+        Map<String, RouteTrie> tries = this.tries;
+        List<RouteTrie.Match> matches = new ArrayList<>();
+        RouteTrie trie = tries.get(requestMethod);
+        if (trie != null) {
+            trie.find(requestUri, matches);
+        }
+        RouteTrie anyTrie = tries.get(HttpConstants.Method.ANY);
+        if (anyTrie != null && anyTrie != trie) {
+            anyTrie.find(requestUri, matches);
+        }
+        matches.sort(ORDER_COMPARATOR);
+
+        List<RouteMatch> routeMatches = new ArrayList<>(matches.size());
+        for (RouteTrie.Match match : matches) {
+            routeMatches.add(match.getRouteMatch());
+        }
+
+        log.debug("Found {} route matches for {} '{}'", routeMatches.size(), requestMethod, requestUri);
+
+        return routeMatches;
+    }
+
+    @Override
+    protected void publishCompiledRoutes() {
+        super.publishCompiledRoutes();
+
+        // build new tries and publish them at once
+        Map<String, RouteTrie> tries = new HashMap<>();
+        List<Route> compiledRoutes = getCompiledRoutes();
+        for (int i = 0; i < compiledRoutes.size(); i++) {
+            Route compiledRoute = compiledRoutes.get(i);
+            tries.computeIfAbsent(compiledRoute.getRequestMethod(), key -> new RouteTrie(getUriMatcher()))
+                .add(compiledRoute, getUriPatternBinding(compiledRoute), i);
+        }
+
+        this.tries = tries;
+    }
+
+}
@@ -19,15 +19,46 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ro.pippo.core.HttpConstants;
 import ro.pippo.core.PippoRuntimeException;
+import ro.pippo.core.Response;
+import ro.pippo.core.util.ByteRange;
+import ro.pippo.core.util.IoUtils;
+import ro.pippo.core.util.MimeTypes;
 import ro.pippo.core.util.StringUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Serves static resources.
+ * <p>
+ * Optionally (see {@link #setPrecompressed(boolean)}), if the client accepts it, a precompressed variant
+ * of the resource is sent instead of the resource ("app.js.br" or "app.js.gz" for "app.js")
+ * with the corresponding {@code Content-Encoding}.
+ * In prod mode the result of the lookup of a precompressed variant is cached.
+ * Optionally, the resources without a gzip variant are compressed on first request (or with {@link #precompress(String...)})
+ * and kept in memory.
+ * </p>
+ * <p>
+ * With a {@link ResourceCache} the resources (and their gzip variants) are served from memory, with a strong ETag
+ * computed from content. In prod mode a cached resource is served without a lookup (classloader, file system);
+ * otherwise its last modified time is checked on each request.
+ * The cache is useful only for the handlers that send the resource as it is.
+ * </p>
  *
  * @author James Moger
  */
@@ -37,30 +68,146 @@ public abstract class UrlResourceHandler extends ResourceHandler {
 
     private static final Pattern VERSION_PATTERN = Pattern.compile("-ver-[0-9a-f]+\\.");
 
+    // content encoding and the extension of precompressed resource, in order of preference
+    private static final String[][] ENCODINGS = { { "br", ".br" }, { "gzip", ".gz" } };
+
+    private static final int MIN_COMPRESS_SIZE = 1024;
+    private static final int MAX_COMPRESS_SIZE = 1024 * 1024;
+
+    private boolean precompressed;
+    private boolean compressMissing;
+    // the urls of the precompressed variants (empty if the variant doesn't exist), in prod mode
+    private final Map<String, Optional<URL>> precompressedUrls = new ConcurrentHashMap<>();
+    private final Map<String, CompressedResource> compressedResources = new ConcurrentHashMap<>();
+    private ResourceCache resourceCache;
+    private final ResourceFingerprints fingerprints = new ResourceFingerprints();
+
     public UrlResourceHandler(String urlPath) {
         super(urlPath);
     }
 
     @Override
     public final void handleResource(String resourcePath, RouteContext routeContext) {
-        URL url = getResourceUrl(resourcePath);
-        if (url != null) {
-            streamResource(url, routeContext);
+        if (resourceCache != null) {
+            handleCachedResource(resourcePath, routeContext);
+            return;
+        }
+
+        ResourceFingerprints.Fingerprint fingerprint = getFingerprint(resourcePath);
+        if (fingerprint != null) {
+            streamResource(fingerprint, routeContext);
         }
     }
 
     public abstract URL getResourceUrl(String resourcePath);
 
+    /**
+     * Returns the url of a precompressed resource (for example "app.js.gz") or null if it doesn't exist.
+     * Override this method if {@link #getResourceUrl(String)} logs a missing resource.
+     */
+    protected URL getPrecompressedResourceUrl(String resourcePath) {
+        return getResourceUrl(resourcePath);
+    }
+
+    public ResourceCache getResourceCache() {
+        return resourceCache;
+    }
+
+    /**
+     * Serve the resources from an in-memory cache. It's disabled by default.
+     */
+    public UrlResourceHandler setResourceCache(ResourceCache resourceCache) {
+        this.resourceCache = resourceCache;
+
+        return this;
+    }
+
+    public boolean isPrecompressed() {
+        return precompressed;
+    }
+
+    /**
+     * Look for precompressed variants (".br", ".gz") of resources. It's disabled by default.
+     * The variants must be kept in sync with the resources (a stale variant is sent as it is).
+     */
+    public UrlResourceHandler setPrecompressed(boolean precompressed) {
+        this.precompressed = precompressed;
+
+        return this;
+    }
+
+    public boolean isCompressMissing() {
+        return compressMissing;
+    }
+
+    /**
+     * Compress (gzip) and cache in memory the resources without a precompressed variant.
+     * It's disabled by default.
+     */
+    public UrlResourceHandler setCompressMissing(boolean compressMissing) {
+        this.compressMissing = compressMissing;
+
+        return this;
+    }
+
+    /**
+     * Compresses (gzip) and caches in memory the specified resources, if they don't have a precompressed variant.
+     * Call it at startup to avoid the compression on first request. It enables {@code compressMissing}.
+     */
+    public void precompress(String... resourcePaths) {
+        compressMissing = true;
+        for (String resourcePath : resourcePaths) {
+            URL resourceUrl = getResourceUrl(resourcePath);
+            if (resourceUrl != null && getPrecompressedResourceUrl(resourcePath + ".gz") == null) {
+                try {
+                    getCompressedResource(resourcePath, resourceUrl, false);
+                } catch (IOException e) {
+                    throw new PippoRuntimeException(e, "Failed to compress resource {}", resourceUrl);
+                }
+            }
+        }
+    }
+
+    public ResourceFingerprints getFingerprints() {
+        return fingerprints;
+    }
+
+    /**
+     * Returns the fingerprint (ETag and version) of resource or null if the resource doesn't exist.
+     * The fingerprint is computed on first access.
+     */
+    protected ResourceFingerprints.Fingerprint getFingerprint(String resourcePath) {
+        ResourceFingerprints.Fingerprint fingerprint = fingerprints.get(resourcePath);
+        if (fingerprint == null) {
+            URL resourceUrl = getResourceUrl(resourcePath);
+            if (resourceUrl != null) {
+                fingerprint = fingerprints.put(resourcePath, resourceUrl);
+            }
+        }
+
+        return fingerprint;
+    }
+
+    /**
+     * Computes the fingerprints of the specified resources.
+     * Call it at startup to avoid the computation on first request.
+     */
+    public void fingerprint(String... resourcePaths) {
+        for (String resourcePath : resourcePaths) {
+            getFingerprint(resourcePath);
+        }
+    }
+
     protected String getResourceVersion(String resourcePath) {
         String version = null;
 
-        URL resourceUrl = getResourceUrl(resourcePath);
-        if (resourceUrl != null) {
-            try {
-                version = Long.toString(resourceUrl.openConnection().getLastModified());
-            } catch (NullPointerException | IOException e) {
-                log.error("Failed to read lastModified property for {}", resourceUrl, e);
+        try {
+            ResourceFingerprints.Fingerprint fingerprint = getFingerprint(resourcePath);
+            if (fingerprint != null) {
+                version = fingerprint.getVersion();
             }
+        } catch (PippoRuntimeException e) {
+            log.error("Failed to read the fingerprint of {}", resourcePath, e);
         }
 
         return version;
@@ -110,14 +257,28 @@ public abstract class UrlResourceHandler extends ResourceHandler {
         return resourcePath;
     }
 
-    protected void streamResource(URL resourceUrl, RouteContext routeContext) {
+    protected void streamResource(ResourceFingerprints.Fingerprint fingerprint, RouteContext routeContext) {
+        URL resourceUrl = fingerprint.getUrl();
         try {
-            long lastModified = resourceUrl.openConnection().getLastModified();
-            routeContext.getApplication().getHttpCacheToolkit().addEtag(routeContext, lastModified);
+            // the variant is resolved once, before the conditional check (each representation has its own ETag)
+            String etag = fingerprint.getEtag();
+            String mimeType = routeContext.getApplication().getMimeTypes().getContentType(resourceUrl.getFile());
+            CompressedVariant variant = null;
+            if (isCompressible(mimeType)) {
+                // the response depends on the Accept-Encoding header (for the shared caches)
+                routeContext.getResponse().header(HttpConstants.Header.VARY, HttpConstants.Header.ACCEPT_ENCODING);
+                variant = findCompressedVariant(resourceUrl, routeContext);
+                if (variant != null) {
+                    etag = getEncodedEtag(etag, variant.encoding);
+                }
+            }
+            routeContext.getApplication().getHttpCacheToolkit().addEtag(routeContext, etag, fingerprint.getLastModified());
 
             if (routeContext.getResponse().getStatus() == HttpConstants.StatusCode.NOT_MODIFIED) {
                 // do not stream anything out, simply return 304
                 routeContext.getResponse().commit();
+            } else if (variant != null) {
+                sendCompressedResource(resourceUrl, mimeType, variant, routeContext);
             } else {
                 sendResource(resourceUrl, routeContext);
             }
@@ -133,7 +294,8 @@ public abstract class UrlResourceHandler extends ResourceHandler {
             // stream the resource
             log.debug("Streaming as resource '{}'", resourceUrl);
             routeContext.getResponse().contentType(mimeType);
-            routeContext.getResponse().ok().resource(resourceUrl.openStream());
+            routeContext.getResponse().ok();
+            sendContent(resourceUrl, routeContext, true);
         } else {
             // stream the file
             log.debug("Streaming as file '{}'", resourceUrl);
@@ -141,4 +303,345 @@ public abstract class UrlResourceHandler extends ResourceHandler {
         }
     }
 
+    /*
+     * Sends the precompressed (or the compressed and cached) variant of resource.
+     */
+    private void sendCompressedResource(URL resourceUrl, String mimeType, CompressedVariant variant, RouteContext routeContext) throws IOException {
+        Response response = routeContext.getResponse();
+        response.header(HttpConstants.Header.CONTENT_ENCODING, variant.encoding);
+        response.contentType(mimeType);
+        if (variant.url != null) {
+            log.debug("Streaming as resource '{}'", variant.url);
+            response.ok();
+            // the ranges of an encoded variant are not supported
+            sendContent(variant.url, routeContext, false);
+        } else {
+            log.debug("Streaming as compressed resource '{}'", resourceUrl);
+            response.contentLength(variant.content.length);
+            response.ok().resource(new ByteArrayInputStream(variant.content));
+        }
+    }
+
+    /*
+     * Returns true if a compressed variant of resource can be sent.
+     */
+    private boolean isCompressible(String mimeType) {
+        return (precompressed || compressMissing) && !StringUtils.isNullOrEmpty(mimeType) && !MimeTypes.isCompressed(mimeType);
+    }
+
+    /*
+     * Returns the precompressed (or the compressed and cached) variant of resource accepted by the client
+     * or null if the resource must be sent as it is.
+     */
+    private CompressedVariant findCompressedVariant(URL resourceUrl, RouteContext routeContext) throws IOException {
+        String acceptEncoding = routeContext.getHeader(HttpConstants.Header.ACCEPT_ENCODING);
+        if (StringUtils.isNullOrEmpty(acceptEncoding)) {
+            return null;
+        }
+
+        String resourcePath = getResourcePath(routeContext);
+        if (isVersioned()) {
+            resourcePath = removeVersion(resourcePath);
+        }
+
+        if (precompressed) {
+            for (String[] encoding : ENCODINGS) {
+                if (acceptsEncoding(acceptEncoding, encoding[0])) {
+                    URL encodedUrl = findPrecompressedResourceUrl(resourcePath + encoding[1], routeContext);
+                    if (encodedUrl != null) {
+                        return new CompressedVariant(encoding[0], encodedUrl, null);
+                    }
+                }
+            }
+        }
+
+        if (compressMissing && acceptsEncoding(acceptEncoding, "gzip")) {
+            boolean revalidate = !routeContext.getApplication().getPippoSettings().isProd();
+            byte[] content = getCompressedResource(resourcePath, resourceUrl, revalidate);
+            if (content != null) {
+                return new CompressedVariant("gzip", null, content);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the ETag of an encoded representation of resource (for example {@code "abc-gzip"} for {@code "abc"}).
+     * Each representation has a different (strong) ETag.
+     */
+    static String getEncodedEtag(String etag, String encoding) {
+        return etag.substring(0, etag.length() - 1) + "-" + encoding + "\"";
+    }
+
+    /*
+     * Returns the gzipped content from cache (compressed now if it's missing or, with revalidate, stale)
+     * or null for a resource too small or too big.
+     * The last modified time and the length of a file are read without opening it.
+     */
+    private byte[] getCompressedResource(String resourcePath, URL resourceUrl, boolean revalidate) throws IOException {
+        File file = toFile(resourceUrl);
+        CompressedResource compressedResource = compressedResources.get(resourcePath);
+        if (compressedResource != null) {
+            // only a file can be modified (the resources from jars can't)
+            if (!revalidate || file == null || file.lastModified() == compressedResource.lastModified) {
+                return compressedResource.content;
+            }
+        }
+
+        long lastModified;
+        long length;
+        byte[] content = null;
+        if (file != null) {
+            lastModified = file.lastModified();
+            length = file.length();
+            if (length >= MIN_COMPRESS_SIZE && length <= MAX_COMPRESS_SIZE) {
+                log.debug("Compress resource '{}'", resourceUrl);
+                try (InputStream input = new FileInputStream(file)) {
+                    content = gzip(input, (int) length);
+                }
+            }
+        } else {
+            URLConnection connection = resourceUrl.openConnection();
+            try (InputStream input = connection.getInputStream()) {
+                lastModified = connection.getLastModified();
+                length = connection.getContentLengthLong();
+                if (length >= MIN_COMPRESS_SIZE && length <= MAX_COMPRESS_SIZE) {
+                    log.debug("Compress resource '{}'", resourceUrl);
+                    content = gzip(input, (int) length);
+                }
+            }
+        }
+        // a resource too small or too big is cached without content (it's not checked again)
+        compressedResources.put(resourcePath, new CompressedResource(content, lastModified));
+
+        return content;
+    }
+
+    private void handleCachedResource(String resourcePath, RouteContext routeContext) {
+        String key = getUriPattern() + resourcePath;
+        ResourceCache.Entry entry = resourceCache.get(key);
+
+        URL url = null;
+        try {
+            if (entry != null && !routeContext.getApplication().getPippoSettings().isProd()) {
+                url = getResourceUrl(resourcePath);
+                // only a file can be modified (the resources from jars can't), it's checked without opening it
+                File file = (url != null) ? toFile(url) : null;
+                if (url == null || (file != null && file.lastModified() != entry.getLastModified())) {
+                    // the resource was removed or modified
+                    resourceCache.remove(key);
+                    entry = null;
+                }
+            }
+
+            if (entry == null) {
+                if (url == null) {
+                    url = getResourceUrl(resourcePath);
+                }
+                if (url == null) {
+                    return;
+                }
+
+                entry = loadResource(resourcePath, url, routeContext);
+                if (entry == null) {
+                    // too big
+                    streamResource(getFingerprint(resourcePath), routeContext);
+                    return;
+                }
+                resourceCache.put(key, entry);
+            }
+
+            sendCachedResource(entry, routeContext);
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e, "Failed to stream resource {}", resourcePath);
+        }
+    }
+
+    /*
+     * Returns the url of a precompressed resource or null if it doesn't exist.
+     * In prod mode the result is cached, so a missing variant is not looked up on each request.
+     */
+    private URL findPrecompressedResourceUrl(String resourcePath, RouteContext routeContext) {
+        if (!routeContext.getApplication().getPippoSettings().isProd()) {
+            return getPrecompressedResourceUrl(resourcePath);
+        }
+
+        return precompressedUrls.computeIfAbsent(resourcePath, key -> Optional.ofNullable(getPrecompressedResourceUrl(key))).orElse(null);
+    }
+
+    /*
+     * Reads the resource (and its gzip variant) with a single connection.
+     * Returns null if the resource is too big for cache.
+     */
+    private ResourceCache.Entry loadResource(String resourcePath, URL resourceUrl, RouteContext routeContext) throws IOException {
+        File file = toFile(resourceUrl);
+        if (file != null && file.length() > resourceCache.getMaximumEntryWeight()) {
+            return null;
+        }
+
+        long lastModified;
+        byte[] content;
+        URLConnection connection = resourceUrl.openConnection();
+        try (InputStream input = connection.getInputStream()) {
+            if (connection.getContentLengthLong() > resourceCache.getMaximumEntryWeight()) {
+                return null;
+            }
+
+            lastModified = (file != null) ? file.lastModified() : connection.getLastModified();
+            content = IoUtils.getBytes(input);
+        }
+        if (!resourceCache.accepts(content.length)) {
+            return null;
+        }
+
+        String contentType = routeContext.getApplication().getMimeTypes().getContentType(resourceUrl.getFile());
+        byte[] gzipContent = null;
+        if (!MimeTypes.isCompressed(contentType)) {
+            URL encodedUrl = precompressed ? getPrecompressedResourceUrl(resourcePath + ".gz") : null;
+            if (encodedUrl != null) {
+                try (InputStream input = encodedUrl.openStream()) {
+                    gzipContent = IoUtils.getBytes(input);
+                }
+            } else if (compressMissing && content.length >= MIN_COMPRESS_SIZE) {
+                gzipContent = gzip(new ByteArrayInputStream(content), content.length);
+            }
+        }
+        log.debug("Cache resource '{}'", resourceUrl);
+
+        return new ResourceCache.Entry(content, gzipContent, contentType, lastModified);
+    }
+
+    private void sendCachedResource(ResourceCache.Entry entry, RouteContext routeContext) {
+        Response response = routeContext.getResponse();
+
+        byte[] content = entry.getContent();
+        String etag = entry.getEtag();
+        boolean gzip = false;
+        if (entry.getGzipContent() != null) {
+            response.header(HttpConstants.Header.VARY, HttpConstants.Header.ACCEPT_ENCODING);
+            String acceptEncoding = routeContext.getHeader(HttpConstants.Header.ACCEPT_ENCODING);
+            if (!StringUtils.isNullOrEmpty(acceptEncoding) && acceptsEncoding(acceptEncoding, "gzip")) {
+                gzip = true;
+                content = entry.getGzipContent();
+                etag = getEncodedEtag(etag, "gzip");
+            }
+        }
+
+        routeContext.getApplication().getHttpCacheToolkit().addEtag(routeContext, etag, entry.getLastModified());
+        if (response.getStatus() == HttpConstants.StatusCode.NOT_MODIFIED) {
+            // do not stream anything out, simply return 304
+            response.commit();
+            return;
+        }
+
+        String contentType = entry.getContentType();
+        response.contentType(!StringUtils.isNullOrEmpty(contentType) ? contentType : HttpConstants.ContentType.APPLICATION_OCTET_STREAM);
+        if (gzip) {
+            response.header(HttpConstants.Header.CONTENT_ENCODING, "gzip");
+            response.contentLength(content.length);
+            response.ok().resource(new ByteArrayInputStream(content));
+        } else {
+            response.ok().resource(content, ByteRange.parse(routeContext, content.length));
+        }
+    }
+
+    /**
+     * Sends the content of resource. A file is sent with {@link Response#resource(File, List)}
+     * (zero-copy if it's possible) and the requested ranges are honored if {@code acceptRanges} is true.
+     */
+    protected void sendContent(URL resourceUrl, RouteContext routeContext, boolean acceptRanges) throws IOException {
+        Response response = routeContext.getResponse();
+        File file = toFile(resourceUrl);
+        if (file != null) {
+            if (acceptRanges) {
+                response.resource(file, ByteRange.parse(routeContext, file.length()));
+            } else {
+                // without Accept-Ranges
+                response.resource(file);
+            }
+        } else {
+            URLConnection connection = resourceUrl.openConnection();
+            long contentLength = connection.getContentLengthLong();
+            if (contentLength >= 0) {
+                response.contentLength(contentLength);
+            }
+            response.resource(connection.getInputStream());
+        }
+    }
+
+    static File toFile(URL url) {
+        if (!"file".equals(url.getProtocol())) {
+            return null;
+        }
+
+        try {
+            return Paths.get(url.toURI()).toFile();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static byte[] gzip(InputStream input, int length) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(32, length / 2));
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+            IoUtils.copy(input, gzipOutput);
+        }
+
+        return output.toByteArray();
+    }
+
+    static boolean acceptsEncoding(String acceptEncoding, String encoding) {
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase(encoding) || "*".equals(name)) {
+                // "gzip;q=0" means not acceptable
+                for (int i = 1; i < parts.length; i++) {
+                    String parameter = parts[i].trim();
+                    if (parameter.startsWith("q=")) {
+                        try {
+                            return Float.parseFloat(parameter.substring(2)) > 0;
+                        } catch (NumberFormatException e) {
+                            return false;
+                        }
+                    }
+                }
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static class CompressedResource {
+
+        private final byte[] content;
+        private final long lastModified;
+
+        CompressedResource(byte[] content, long lastModified) {
+            this.content = content;
+            this.lastModified = lastModified;
+        }
+
+    }
+
+    /*
+     * A compressed variant of resource, precompressed (url) or compressed and cached (content).
+     */
+    private static class CompressedVariant {
+
+        private final String encoding;
+        private final URL url;
+        private final byte[] content;
+
+        CompressedVariant(String encoding, URL url, byte[] content) {
+            this.encoding = encoding;
+            this.url = url;
+            this.content = content;
+        }
+
+    }
+
 }
@@ -59,6 +59,20 @@ public class WebjarsResourceHandler extends ClasspathResourceHandler {
 
     @Override
     public URL getResourceUrl(String resourcePath) {
+        URL url = findResourceUrl(resourcePath);
+        if (url == null) {
+            log.warn("Resource '{}' not found", resourcePath);
+        }
+
+        return url;
+    }
+
+    @Override
+    protected URL getPrecompressedResourceUrl(String resourcePath) {
+        return findResourceUrl(resourcePath);
+    }
+
+    private URL findResourceUrl(String resourcePath) {
         if (!isValidResourcePath(resourceBasePath, resourcePath)) {
             log.warn("Request for '{}' which is not located in '{}'", resourcePath, resourceBasePath);
             return null;
@@ -79,12 +93,7 @@ public class WebjarsResourceHandler extends ClasspathResourceHandler {
             }
         }
 
-        URL url = this.getClass().getClassLoader().getResource(resourceName);
-        if (url == null) {
-            log.warn("Resource '{}' not found", resourceName);
-        }
-
-        return url;
+        return this.getClass().getClassLoader().getResource(resourceName);
     }
 
     @Override
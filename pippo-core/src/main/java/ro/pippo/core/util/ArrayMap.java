@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A compact and immutable {@link java.util.Map} backed by an array of keys and an array of values.
+ * The keys array can be shared between instances (for example the names of the path parameters of a route),
+ * so an instance costs only the values array.
+ * The lookup is a linear scan, which is faster than hashing for a few entries.
+ */
+public class ArrayMap<K, V> extends AbstractMap<K, V> {
+
+    private final K[] keys;
+    private final V[] values;
+
+    /**
+     * The arrays are not copied; {@code keys} must contain unique elements and
+     * must have the same length as {@code values}.
+     *
+     * @param keys
+     * @param values
+     */
+    public ArrayMap(K[] keys, V[] values) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("The keys and the values must have the same length");
+        }
+
+        this.keys = keys;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) != -1;
+    }
+
+    @Override
+    public V get(Object key) {
+        int index = indexOf(key);
+
+        return (index != -1) ? values[index] : null;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new Iterator<Entry<K, V>>() {
+
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < keys.length;
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+
+                        Entry<K, V> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+                        index++;
+
+                        return entry;
+                    }
+
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+
+        };
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+}
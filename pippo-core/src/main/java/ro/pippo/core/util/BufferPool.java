@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of buffers (for example {@code byte[]} or direct {@link java.nio.ByteBuffer}s)
+ * shared by all threads, so the number of buffers doesn't grow with the number of threads.
+ * When the pool is empty a new buffer is created and when the pool is full
+ * the released buffer is discarded.
+ */
+public class BufferPool<T> {
+
+    private final Supplier<T> factory;
+    private final BlockingQueue<T> buffers;
+
+    /**
+     * @param capacity the maximum number of idle buffers kept in pool
+     * @param factory creates a new buffer
+     */
+    public BufferPool(int capacity, Supplier<T> factory) {
+        this.factory = factory;
+        this.buffers = new ArrayBlockingQueue<>(Math.max(1, capacity));
+    }
+
+    public T acquire() {
+        T buffer = buffers.poll();
+
+        return (buffer != null) ? buffer : factory.get();
+    }
+
+    public void release(T buffer) {
+        buffers.offer(buffer);
+    }
+
+    /**
+     * Returns the number of idle buffers.
+     */
+    public int size() {
+        return buffers.size();
+    }
+
+}
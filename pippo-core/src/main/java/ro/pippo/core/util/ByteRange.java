@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.util;
+
+import ro.pippo.core.HttpConstants;
+import ro.pippo.core.Response;
+import ro.pippo.core.route.RouteContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A byte range (RFC 7233) of a content, with inclusive bounds.
+ */
+public class ByteRange {
+
+    /**
+     * A request with more ranges is served with the whole content.
+     */
+    public static final int MAX_RANGES = 16;
+
+    private final long start;
+    private final long end;
+
+    public ByteRange(long start, long end) {
+        if (start < 0 || end < start) {
+            throw new IllegalArgumentException("Invalid range " + start + "-" + end);
+        }
+
+        this.start = start;
+        this.end = end;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    public long getLength() {
+        return end - start + 1;
+    }
+
+    /**
+     * Returns the value of {@code Content-Range} header for this range.
+     */
+    public String toContentRange(long contentLength) {
+        return "bytes " + start + "-" + end + "/" + contentLength;
+    }
+
+    /**
+     * Returns the ranges requested for a content with the specified length.
+     * The {@code Range} header is used only for GET requests and only if the {@code If-Range} precondition
+     * (if any) matches the {@code ETag} or the {@code Last-Modified} header of the response.
+     *
+     * @param routeContext
+     * @param contentLength
+     * @return {@code null} if the whole content must be sent, an empty list if no range is satisfiable
+     * or the satisfiable ranges
+     */
+    public static List<ByteRange> parse(RouteContext routeContext, long contentLength) {
+        if (!routeContext.isRequestMethod(HttpConstants.Method.GET)) {
+            return null;
+        }
+
+        String range = routeContext.getHeader(HttpConstants.Header.RANGE);
+        if (StringUtils.isNullOrEmpty(range)) {
+            return null;
+        }
+
+        String ifRange = routeContext.getHeader(HttpConstants.Header.IF_RANGE);
+        if (!StringUtils.isNullOrEmpty(ifRange)) {
+            Response response = routeContext.getResponse();
+            String validator = ifRange.trim();
+            if (validator.startsWith("\"") || validator.startsWith("W/")) {
+                // only a strong entity tag can match
+                if (!validator.startsWith("\"") || !validator.equals(response.getHeader(HttpConstants.Header.ETAG))) {
+                    return null;
+                }
+            } else if (!validator.equals(response.getHeader(HttpConstants.Header.LAST_MODIFIED))) {
+                return null;
+            }
+        }
+
+        return parse(range, contentLength);
+    }
+
+    /**
+     * Parses the value of {@code Range} header for a content with the specified length.
+     * A malformed header, an unit other than "bytes" or too many ranges are ignored.
+     *
+     * @param range
+     * @param contentLength
+     * @return {@code null} if the whole content must be sent, an empty list if no range is satisfiable
+     * or the satisfiable ranges
+     */
+    public static List<ByteRange> parse(String range, long contentLength) {
+        int index = range.indexOf('=');
+        if (index == -1 || !"bytes".equalsIgnoreCase(range.substring(0, index).trim())) {
+            return null;
+        }
+
+        String[] specs = range.substring(index + 1).split(",");
+        if (specs.length > MAX_RANGES) {
+            return null;
+        }
+
+        List<ByteRange> ranges = new ArrayList<>(specs.length);
+        boolean valid = false;
+        for (String spec : specs) {
+            spec = spec.trim();
+            if (spec.isEmpty()) {
+                continue;
+            }
+
+            int dash = spec.indexOf('-');
+            if (dash == -1) {
+                return null;
+            }
+
+            long first;
+            long last;
+            try {
+                if (dash == 0) {
+                    // suffix range (the last n bytes)
+                    long suffixLength = Long.parseLong(spec.substring(1));
+                    if (suffixLength < 0) {
+                        return null;
+                    }
+                    valid = true;
+                    if (suffixLength == 0 || contentLength == 0) {
+                        continue;
+                    }
+                    first = Math.max(0, contentLength - suffixLength);
+                    last = contentLength - 1;
+                } else {
+                    first = Long.parseLong(spec.substring(0, dash));
+                    last = (dash == spec.length() - 1) ? Long.MAX_VALUE : Long.parseLong(spec.substring(dash + 1));
+                    if (first < 0 || last < first) {
+                        return null;
+                    }
+                    valid = true;
+                    if (first >= contentLength) {
+                        continue;
+                    }
+                    last = Math.min(last, contentLength - 1);
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+
+            ranges.add(new ByteRange(first, last));
+        }
+
+        if (!valid) {
+            return null;
+        }
+
+        return ranges.isEmpty() ? Collections.emptyList() : ranges;
+    }
+
+    @Override
+    public String toString() {
+        return start + "-" + end;
+    }
+
+}
@@ -15,6 +15,11 @@
  */
 package ro.pippo.core.util;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 
@@ -23,6 +28,8 @@ import java.util.concurrent.ThreadFactory;
  */
 public class ExecutorUtils {
 
+    private static final Logger log = LoggerFactory.getLogger(ExecutorUtils.class);
+
     public static ThreadFactory defaultThreadFactoryWithPrefix(String prefix) {
         return defaultThreadFactoryWithPrefix(prefix, false);
     }
@@ -31,6 +38,61 @@ public class ExecutorUtils {
         return new PrefixingDefaultThreadFactory(prefix, daemon);
     }
 
+    /**
+     * Returns true if the JVM supports virtual threads (JDK 21+).
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return virtualThreadFactoryWithPrefix("virtual-") != null;
+    }
+
+    /**
+     * Creates a factory of (named) virtual threads or returns {@code null} if the JVM doesn't support
+     * virtual threads (JDK 21+). The factory is created with reflection because Pippo is compiled for Java 8.
+     *
+     * @param prefix the prefix of the thread names
+     * @return the thread factory or {@code null}
+     */
+    public static ThreadFactory virtualThreadFactoryWithPrefix(String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (NoSuchMethodException | ClassNotFoundException e) {
+            log.debug("Virtual threads are not available on Java {}", System.getProperty("java.version"));
+        } catch (Exception e) {
+            // for example on JDK 19-20 without '--enable-preview'
+            log.debug("Virtual threads are not available on Java {}", System.getProperty("java.version"), e);
+        }
+
+        return null;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task or returns {@code null}
+     * if the JVM doesn't support virtual threads (JDK 21+).
+     *
+     * @param prefix the prefix of the thread names
+     * @return the executor or {@code null}
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String prefix) {
+        ThreadFactory threadFactory = virtualThreadFactoryWithPrefix(prefix);
+        if (threadFactory == null) {
+            return null;
+        }
+
+        try {
+            Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+
+            return (ExecutorService) method.invoke(null, threadFactory);
+        } catch (Exception e) {
+            log.debug("Cannot create a virtual thread executor", e);
+
+            return null;
+        }
+    }
+
     private static class PrefixingDefaultThreadFactory implements ThreadFactory {
 
         private final String prefix;
@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Copies a file (or a region of a file) to an output stream without moving the bytes through a small heap buffer.
+ * The most efficient way supported by the output stream is used:
+ * <ul>
+ *     <li>{@code transferFrom(FileChannel)} (Undertow) - sendfile, when the region ends with the file</li>
+ *     <li>{@link WritableByteChannel} - {@link FileChannel#transferTo(long, long, WritableByteChannel)}</li>
+ *     <li>{@code write(ByteBuffer)} (Jetty, Undertow) - a pooled direct buffer</li>
+ *     <li>otherwise a pooled heap buffer</li>
+ * </ul>
+ * The buffers are borrowed from bounded pools shared by all threads (see {@link BufferPool}).
+ * The methods of the server output streams are discovered by reflection (once per class),
+ * so pippo-core doesn't depend on a server.
+ */
+public class FileTransfer {
+
+    private static final Logger log = LoggerFactory.getLogger(FileTransfer.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int POOL_CAPACITY = 32;
+
+    private static final BufferPool<ByteBuffer> DIRECT_BUFFERS = new BufferPool<>(POOL_CAPACITY, () -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+    private static final BufferPool<byte[]> HEAP_BUFFERS = new BufferPool<>(POOL_CAPACITY, () -> new byte[BUFFER_SIZE]);
+
+    private static final ClassValue<MethodHandle> TRANSFER_FROM = new ClassValue<MethodHandle>() {
+
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return findMethod(type, "transferFrom", FileChannel.class);
+        }
+
+    };
+
+    private static final ClassValue<MethodHandle> WRITE_BUFFER = new ClassValue<MethodHandle>() {
+
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return findMethod(type, "write", ByteBuffer.class);
+        }
+
+    };
+
+    private FileTransfer() {
+        // restrict instantiation
+    }
+
+    /**
+     * Copies the whole file to the output stream (the output stream is not closed).
+     *
+     * @return the number of bytes copied
+     */
+    public static long transfer(File file, OutputStream output) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return transfer(channel, 0, channel.size(), output);
+        }
+    }
+
+    /**
+     * Copies {@code count} bytes of the channel starting with {@code position} to the output stream
+     * (the channel and the output stream are not closed).
+     *
+     * @return the number of bytes copied
+     */
+    public static long transfer(FileChannel channel, long position, long count, OutputStream output) throws IOException {
+        if (count <= 0) {
+            return 0;
+        }
+
+        Class<?> outputClass = output.getClass();
+
+        MethodHandle transferFrom = TRANSFER_FROM.get(outputClass);
+        if (transferFrom != null && position + count == channel.size()) {
+            channel.position(position);
+            invoke(transferFrom, output, channel);
+
+            return count;
+        }
+
+        if (output instanceof WritableByteChannel) {
+            WritableByteChannel target = (WritableByteChannel) output;
+            long transferred = 0;
+            while (transferred < count) {
+                long n = channel.transferTo(position + transferred, count - transferred, target);
+                if (n <= 0) {
+                    throw new EOFException("Unexpected end of file");
+                }
+                transferred += n;
+            }
+
+            return transferred;
+        }
+
+        MethodHandle writeBuffer = WRITE_BUFFER.get(outputClass);
+        if (writeBuffer != null) {
+            ByteBuffer buffer = DIRECT_BUFFERS.acquire();
+            try {
+                long transferred = 0;
+                while (transferred < count) {
+                    buffer.clear();
+                    if (count - transferred < buffer.capacity()) {
+                        buffer.limit((int) (count - transferred));
+                    }
+                    int n = channel.read(buffer, position + transferred);
+                    if (n < 0) {
+                        throw new EOFException("Unexpected end of file");
+                    }
+                    buffer.flip();
+                    invoke(writeBuffer, output, buffer);
+                    transferred += n;
+                }
+
+                return transferred;
+            } finally {
+                DIRECT_BUFFERS.release(buffer);
+            }
+        }
+
+        byte[] bytes = HEAP_BUFFERS.acquire();
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long transferred = 0;
+            while (transferred < count) {
+                buffer.clear();
+                if (count - transferred < buffer.capacity()) {
+                    buffer.limit((int) (count - transferred));
+                }
+                int n = channel.read(buffer, position + transferred);
+                if (n < 0) {
+                    throw new EOFException("Unexpected end of file");
+                }
+                output.write(bytes, 0, n);
+                transferred += n;
+            }
+
+            return transferred;
+        } finally {
+            HEAP_BUFFERS.release(bytes);
+        }
+    }
+
+    private static void invoke(MethodHandle methodHandle, OutputStream output, Object argument) throws IOException {
+        try {
+            methodHandle.invoke(output, argument);
+        } catch (IOException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IOException(t);
+        }
+    }
+
+    private static MethodHandle findMethod(Class<?> type, String name, Class<?> parameterType) {
+        if (!OutputStream.class.isAssignableFrom(type) || !Modifier.isPublic(type.getModifiers())) {
+            return null;
+        }
+
+        try {
+            Method method = type.getMethod(name, parameterType);
+            MethodHandle methodHandle = MethodHandles.publicLookup().unreflect(method);
+            log.debug("Use '{}' of '{}' to send files", method, type.getName());
+
+            return methodHandle.asType(MethodType.methodType(void.class, OutputStream.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+}
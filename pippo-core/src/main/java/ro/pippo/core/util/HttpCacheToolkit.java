@@ -32,10 +32,18 @@ public class HttpCacheToolkit {
 
     private static final Logger log = LoggerFactory.getLogger(HttpCacheToolkit.class);
 
-    private final PippoSettings pippoSettings;
+    private final String cacheControl;
+    private final boolean useEtag;
 
     public HttpCacheToolkit(PippoSettings pippoSettings) {
-        this.pippoSettings = pippoSettings;
+        // the settings are read once
+        if (pippoSettings.isProd()) {
+            String maxAge = pippoSettings.getString(PippoConstants.SETTING_HTTP_CACHE_CONTROL, "3600");
+            cacheControl = maxAge.equals("0") ? "no-cache" : "max-age=" + maxAge;
+        } else {
+            cacheControl = "no-cache";
+        }
+        useEtag = pippoSettings.getBoolean(PippoConstants.SETTING_HTTP_USE_ETAG, true);
     }
 
     public boolean isModified(String etag, long lastModified, RouteContext routeContext) {
@@ -60,30 +68,33 @@ public class HttpCacheToolkit {
     }
 
     public void addEtag(RouteContext routeContext, long lastModified) {
-        if (pippoSettings.isProd()) {
-            String maxAge = pippoSettings.getString(PippoConstants.SETTING_HTTP_CACHE_CONTROL, "3600");
-            if (maxAge.equals("0")) {
-                routeContext.setHeader(HttpConstants.Header.CACHE_CONTROL, "no-cache");
-            } else {
-                routeContext.setHeader(HttpConstants.Header.CACHE_CONTROL, "max-age=" + maxAge);
-            }
-        } else {
-            routeContext.setHeader(HttpConstants.Header.CACHE_CONTROL, "no-cache");
-        }
+        // ETag right now is only lastModified long.
+        // maybe we change that in the future.
+        addEtag(routeContext, "\"" + lastModified + "\"", lastModified);
+    }
 
-        // Use etag on demand:
-        String etag = null;
+    /**
+     * Adds the cache headers using the specified ETag (quoted) and sets the status
+     * to {@code 304} if the client has the same version.
+     *
+     * @param routeContext
+     * @param etag the entity tag (for example a hash of content)
+     * @param lastModified the last modified time or {@code 0} if it's unknown
+     */
+    public void addEtag(RouteContext routeContext, String etag, long lastModified) {
+        routeContext.setHeader(HttpConstants.Header.CACHE_CONTROL, cacheControl);
 
-        boolean useEtag = pippoSettings.getBoolean(PippoConstants.SETTING_HTTP_USE_ETAG, true);
+        // Use etag on demand:
         if (useEtag) {
-            // ETag right now is only lastModified long.
-            // maybe we change that in the future.
-            etag = "\"" + lastModified + "\"";
             routeContext.setHeader(HttpConstants.Header.ETAG, etag);
+        } else {
+            etag = null;
         }
 
         if (isModified(etag, lastModified, routeContext)) {
-            routeContext.setHeader(HttpConstants.Header.LAST_MODIFIED, DateUtils.formatForHttpHeader(lastModified));
+            if (lastModified > 0) {
+                routeContext.setHeader(HttpConstants.Header.LAST_MODIFIED, DateUtils.formatForHttpHeader(lastModified));
+            }
         } else if (routeContext.isRequestMethod(HttpConstants.Method.GET)) {
             routeContext.status(HttpConstants.StatusCode.NOT_MODIFIED);
         }
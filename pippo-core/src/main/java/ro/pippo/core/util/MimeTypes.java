@@ -22,8 +22,11 @@ import ro.pippo.core.PippoSettings;
 
 import java.io.InputStream;
 import java.net.URL;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -34,6 +37,20 @@ public class MimeTypes {
 
     private static final Logger log = LoggerFactory.getLogger(MimeTypes.class);
 
+    private static final Set<String> COMPRESSED_MIME_TYPES = new HashSet<>(Arrays.asList(
+        "application/zip",
+        "application/gzip",
+        "application/x-gzip",
+        "application/x-bzip2",
+        "application/x-7z-compressed",
+        "application/x-rar-compressed",
+        "application/java-archive",
+        "application/pdf",
+        "application/font-woff",
+        "font/woff",
+        "font/woff2"
+    ));
+
     private final Properties mimetypes;
     private final Pattern extPattern;
 
@@ -134,6 +151,28 @@ public class MimeTypes {
         }
     }
 
+    /**
+     * Returns true if the content with this type is already compressed
+     * (images, audio, video, archives, woff fonts) and it doesn't make sense to compress it again.
+     *
+     * @param contentType the content type (it can include parameters like charset)
+     * @return true if the content is compressed
+     */
+    public static boolean isCompressed(String contentType) {
+        if (StringUtils.isNullOrEmpty(contentType)) {
+            return false;
+        }
+
+        int index = contentType.indexOf(';');
+        String mimeType = ((index == -1) ? contentType : contentType.substring(0, index)).trim().toLowerCase();
+        if (mimeType.startsWith("image/")) {
+            // svg is text and bmp is not compressed
+            return !mimeType.startsWith("image/svg") && !mimeType.equals("image/bmp");
+        }
+
+        return mimeType.startsWith("audio/") || mimeType.startsWith("video/") || COMPRESSED_MIME_TYPES.contains(mimeType);
+    }
+
     private void init() {
         // Load default mimetypes from the framework
         URL url = ClasspathUtils.locateOnClasspath(PippoConstants.LOCATION_OF_PIPPO_MIMETYPE_PROPERTIES);
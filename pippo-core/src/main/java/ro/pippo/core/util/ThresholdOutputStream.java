@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An {@link OutputStream} that collects the content in a buffer and opens the target stream
+ * when the content exceeds the buffer or when it's closed.
+ * In the second case the length of content is known before the first byte is written to target
+ * (useful to set the {@code Content-Length} of a response).
+ * The buffer can be reused after close.
+ */
+public class ThresholdOutputStream extends OutputStream {
+
+    private final byte[] buffer;
+    private final Target target;
+
+    private int count;
+    private OutputStream output;
+    private boolean closed;
+
+    public ThresholdOutputStream(byte[] buffer, Target target) {
+        this.buffer = buffer;
+        this.target = target;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (output == null && count == buffer.length) {
+            openTarget(-1);
+        }
+
+        if (output != null) {
+            output.write(b);
+        } else {
+            buffer[count++] = (byte) b;
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (output == null && count + len > buffer.length) {
+            openTarget(-1);
+        }
+
+        if (output != null) {
+            output.write(b, off, len);
+        } else {
+            System.arraycopy(b, off, buffer, count, len);
+            count += len;
+        }
+    }
+
+    /**
+     * The buffered content is not flushed (it's written to target on close).
+     */
+    @Override
+    public void flush() throws IOException {
+        if (output != null) {
+            output.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        if (output == null) {
+            openTarget(count);
+        }
+        output.close();
+    }
+
+    private void openTarget(int contentLength) throws IOException {
+        output = target.open(contentLength);
+        if (count > 0) {
+            output.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    /**
+     * The destination of content.
+     */
+    public interface Target {
+
+        /**
+         * Returns the target stream.
+         *
+         * @param contentLength the length of the whole content or -1 if it's not known
+         * @return the target stream
+         * @throws IOException
+         */
+        OutputStream open(int contentLength) throws IOException;
+
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ContentTypeEnginesTest {
+
+    private ContentTypeEngines engines;
+    private ContentTypeEngine textEngine;
+    private ContentTypeEngine jsonEngine;
+
+    @Before
+    public void setUp() {
+        engines = new ContentTypeEngines();
+
+        textEngine = new TextPlainEngine();
+        engines.setContentTypeEngine(textEngine);
+
+        jsonEngine = mock(ContentTypeEngine.class);
+        when(jsonEngine.getContentType()).thenReturn(HttpConstants.ContentType.APPLICATION_JSON);
+        engines.setContentTypeEngine(jsonEngine);
+    }
+
+    @Test
+    public void testMediaTypesOrderedByQuality() {
+        assertEquals(Arrays.asList("application/json", "text/html", "*/*"),
+            engines.getMediaTypes("text/html;q=0.8, Application/JSON, */*;q=0.1"));
+    }
+
+    @Test
+    public void testMediaTypesOrderedBySpecificity() {
+        assertEquals(Arrays.asList("text/html", "text/*", "*/*"),
+            engines.getMediaTypes("*/*, text/*, text/html"));
+    }
+
+    @Test
+    public void testMediaTypesWithoutZeroQuality() {
+        assertEquals(Collections.singletonList("text/plain"), engines.getMediaTypes("application/json;q=0, text/plain"));
+        assertTrue(engines.getMediaTypes(null).isEmpty());
+    }
+
+    @Test
+    public void testMediaTypesAreCached() {
+        String accept = "text/html,application/xhtml+xml,application/xml;q=0.9,image/webp";
+        assertSame(engines.getMediaTypes(accept), engines.getMediaTypes(accept));
+    }
+
+    @Test
+    public void testBestEngineByQuality() {
+        assertSame(jsonEngine, engines.getContentTypeEngine("text/plain;q=0.5,application/json"));
+        assertSame(textEngine, engines.getContentTypeEngine("text/plain,application/json;q=0.5"));
+        assertSame(textEngine, engines.getContentTypeEngine("application/json;q=0,text/plain;q=0.1"));
+        assertNull(engines.getContentTypeEngine("application/json;q=0"));
+    }
+
+    @Test
+    public void testEngineBySuffix() {
+        assertSame(jsonEngine, engines.getContentTypeEngine("json"));
+        assertTrue(engines.hasContentTypeEngine("plain"));
+        assertFalse(engines.hasContentTypeEngine("yaml"));
+    }
+
+    @Test
+    public void testCacheClearedOnRegistration() {
+        assertNull(engines.getContentTypeEngine("application/xml"));
+
+        ContentTypeEngine xmlEngine = mock(ContentTypeEngine.class);
+        when(xmlEngine.getContentType()).thenReturn(HttpConstants.ContentType.APPLICATION_XML);
+        engines.setContentTypeEngine(xmlEngine);
+
+        assertSame(xmlEngine, engines.getContentTypeEngine("application/xml"));
+    }
+
+}
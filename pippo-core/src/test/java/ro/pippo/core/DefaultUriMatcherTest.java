@@ -56,6 +56,16 @@ public class DefaultUriMatcherTest {
         assertEquals(params.get("id"), "3");
     }
 
+    @Test
+    public void testPathParamsWithCapturingGroups() {
+        uriMatcher.addUriPattern("/(en|de)/{category}/{id: ([0-9]+)}");
+        Map<String, String> params = uriMatcher.match("/de/books/12", "/(en|de)/{category}/{id: ([0-9]+)}");
+        assertNotNull(params);
+        assertEquals(params.size(), 2);
+        assertEquals(params.get("category"), "books");
+        assertEquals(params.get("id"), "12");
+    }
+
     @Test
     public void testNoBinding() {
         thrown.expect(PippoRuntimeException.class);
@@ -17,7 +17,11 @@ package ro.pippo.core;
 
 import org.junit.Test;
 
+import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.junit.Assert.*;
@@ -43,6 +47,83 @@ public class RequestTest {
         assertEquals(name, "métier");
     }
 
+    @Test
+    public void lazyParameterTest() {
+        HttpServletRequest servletRequest = mock(HttpServletRequest.class);
+        when(servletRequest.getParameterNames()).thenReturn(Collections.emptyEnumeration());
+
+        Application application = new Application();
+        Request request = new Request(servletRequest, application);
+        verify(servletRequest, never()).getParameterNames();
+
+        assertTrue(request.getParameters().isEmpty());
+        verify(servletRequest).getParameterNames();
+    }
+
+    @Test
+    public void indexedParameterTest() {
+        HttpServletRequest servletRequest = mock(HttpServletRequest.class);
+        when(servletRequest.getParameterNames()).thenReturn(Collections.enumeration(Arrays.asList("setting[1]", "setting[0]", "a[b]")));
+        when(servletRequest.getParameterValues("setting[0]")).thenReturn(new String[] { "x" });
+        when(servletRequest.getParameterValues("setting[1]")).thenReturn(new String[] { "y" });
+        when(servletRequest.getParameterValues("a[b]")).thenReturn(new String[] { "z" });
+
+        Application application = new Application();
+        Request request = new Request(servletRequest, application);
+        assertArrayEquals(new String[] { "x", "y" }, request.getParameter("setting").getValues());
+        assertEquals("z", request.getParameter("a[b]").toString());
+    }
+
+    @Test
+    public void pathParameterTest() {
+        HttpServletRequest servletRequest = mock(HttpServletRequest.class);
+        when(servletRequest.getParameterNames()).thenReturn(Collections.enumeration(Collections.singletonList("name")));
+        when(servletRequest.getParameterValues("name")).thenReturn(new String[] { "pippo" });
+
+        Application application = new Application();
+        Request request = new Request(servletRequest, application);
+        assertEquals(1, request.getParameters().size());
+
+        request.internalSetPathParameters(Collections.singletonMap("id", "3"));
+        assertEquals(3, request.getPathParameter("id").toInt());
+        assertEquals(3, request.getParameter("id").toInt());
+        assertEquals("pippo", request.getParameter("name").toString());
+        assertTrue(request.getQueryParameter("id").isNull());
+    }
+
+    @Test
+    public void createEntityFromBodyTest() throws Exception {
+        HttpServletRequest servletRequest = mock(HttpServletRequest.class);
+        when(servletRequest.getMethod()).thenReturn(HttpConstants.Method.PUT);
+        when(servletRequest.getHeader(HttpConstants.Header.CONTENT_TYPE)).thenReturn(HttpConstants.ContentType.TEXT_PLAIN);
+        when(servletRequest.getContentLength()).thenReturn(-1);
+        ByteArrayInputStream input = new ByteArrayInputStream("métier".getBytes(StandardCharsets.UTF_8));
+        when(servletRequest.getInputStream()).thenReturn(new ServletInputStream() {
+
+            @Override
+            public int read() {
+                return input.read();
+            }
+
+        });
+
+        Application application = new Application();
+        Request request = new Request(servletRequest, application);
+        assertEquals("métier", request.createEntityFromBody(String.class));
+    }
+
+    @Test
+    public void createEntityFromEmptyBodyTest() throws Exception {
+        HttpServletRequest servletRequest = mock(HttpServletRequest.class);
+        when(servletRequest.getMethod()).thenReturn(HttpConstants.Method.PUT);
+        when(servletRequest.getContentLength()).thenReturn(0);
+
+        Application application = new Application();
+        Request request = new Request(servletRequest, application);
+        assertNull(request.createEntityFromBody(String.class));
+        verify(servletRequest, never()).getInputStream();
+    }
+
     @Test
     public void createEntityTest() {
         // mock servlet request
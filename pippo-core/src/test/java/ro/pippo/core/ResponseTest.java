@@ -16,14 +16,21 @@
 package ro.pippo.core;
 
 import org.junit.Test;
+import ro.pippo.core.util.ByteRange;
 
+import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * @author munendrasn
@@ -55,4 +62,120 @@ public class ResponseTest {
         assertNotEquals(500, response.getStatus());
     }
 
+    @Test
+    public void testLongContentLength() {
+        HttpServletResponse servletResponse = mock(HttpServletResponse.class);
+
+        Response response = new Response(servletResponse, new Application());
+        response.contentLength(3L * 1024 * 1024 * 1024);
+
+        verify(servletResponse).setHeader(HttpConstants.Header.CONTENT_LENGTH, "3221225472");
+        verify(servletResponse, never()).setContentLength(anyInt());
+    }
+
+    @Test
+    public void testSendObjectWithContentLength() throws Exception {
+        HttpServletResponse servletResponse = mock(HttpServletResponse.class);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        when(servletResponse.getOutputStream()).thenReturn(new TestServletOutputStream(output));
+        when(servletResponse.getCharacterEncoding()).thenReturn(StandardCharsets.UTF_8.name());
+
+        Response response = new Response(servletResponse, new Application());
+        response.text("métier");
+
+        verify(servletResponse).setContentLength(7);
+        assertEquals("métier", new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSendObjectOverThreshold() throws Exception {
+        HttpServletResponse servletResponse = mock(HttpServletResponse.class);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        when(servletResponse.getOutputStream()).thenReturn(new TestServletOutputStream(output));
+        when(servletResponse.getCharacterEncoding()).thenReturn(StandardCharsets.UTF_8.name());
+
+        PippoSettings pippoSettings = new PippoSettings(RuntimeMode.TEST);
+        pippoSettings.overrideSetting(PippoConstants.SETTING_RESPONSE_CONTENT_LENGTH_THRESHOLD, 4);
+        Response response = new Response(servletResponse, new Application(pippoSettings));
+        response.text("Hello World");
+
+        verify(servletResponse, never()).setContentLength(11);
+        assertEquals("Hello World", new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSendRange() throws Exception {
+        HttpServletResponse servletResponse = mock(HttpServletResponse.class);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        when(servletResponse.getOutputStream()).thenReturn(new TestServletOutputStream(output));
+
+        Response response = new Response(servletResponse, new Application());
+        response.contentType(HttpConstants.ContentType.TEXT_PLAIN);
+        response.resource("Hello World".getBytes(), ByteRange.parse("bytes=6-", 11));
+
+        verify(servletResponse).setStatus(HttpConstants.StatusCode.PARTIAL_CONTENT);
+        verify(servletResponse).setHeader(HttpConstants.Header.CONTENT_RANGE, "bytes 6-10/11");
+        verify(servletResponse).setContentLength(5);
+        assertEquals("World", new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSendMultipleRanges() throws Exception {
+        HttpServletResponse servletResponse = mock(HttpServletResponse.class);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        when(servletResponse.getOutputStream()).thenReturn(new TestServletOutputStream(output));
+
+        Response response = new Response(servletResponse, new Application());
+        response.contentType(HttpConstants.ContentType.TEXT_PLAIN);
+        response.resource("Hello World".getBytes(), ByteRange.parse("bytes=0-4,-5", 11));
+
+        verify(servletResponse).setStatus(HttpConstants.StatusCode.PARTIAL_CONTENT);
+        String body = new String(output.toByteArray(), StandardCharsets.ISO_8859_1);
+        verify(servletResponse).setContentLength(body.length());
+        assertTrue(body.contains("Content-Range: bytes 0-4/11\r\n\r\nHello\r\n"));
+        assertTrue(body.contains("Content-Range: bytes 6-10/11\r\n\r\nWorld\r\n"));
+        assertTrue(body.endsWith("--\r\n"));
+    }
+
+    @Test
+    public void testSendRangeNotSatisfiable() throws Exception {
+        HttpServletResponse servletResponse = mock(HttpServletResponse.class);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        when(servletResponse.getOutputStream()).thenReturn(new TestServletOutputStream(output));
+
+        Response response = new Response(servletResponse, new Application());
+        response.resource("Hello World".getBytes(), ByteRange.parse("bytes=20-", 11));
+
+        verify(servletResponse).setStatus(HttpConstants.StatusCode.RANGE_NOT_SATISFIABLE);
+        verify(servletResponse).setHeader(HttpConstants.Header.CONTENT_RANGE, "bytes */11");
+        assertEquals(0, output.size());
+    }
+
+    @Test
+    public void testLazyFlash() {
+        HttpServletResponse servletResponse = mock(HttpServletResponse.class);
+
+        Response response = new Response(servletResponse, new Application());
+        assertFalse(response.getLocals().containsKey("flash"));
+
+        Flash flash = response.getFlash();
+        assertTrue(flash.isEmpty());
+        assertSame(flash, response.getLocals().get("flash"));
+    }
+
+    private static class TestServletOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream output;
+
+        TestServletOutputStream(ByteArrayOutputStream output) {
+            this.output = output;
+        }
+
+        @Override
+        public void write(int b) {
+            output.write(b);
+        }
+
+    }
+
 }
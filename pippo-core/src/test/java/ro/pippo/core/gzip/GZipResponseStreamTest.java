@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.gzip;
+
+import org.junit.Before;
+import org.junit.Test;
+import ro.pippo.core.HttpConstants;
+import ro.pippo.core.util.IoUtils;
+import ro.pippo.core.util.MimeTypes;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class GZipResponseStreamTest {
+
+    private HttpServletResponse response;
+    private ByteArrayOutputStream output;
+    private DeflaterPool deflaterPool;
+
+    @Before
+    public void before() throws IOException {
+        response = mock(HttpServletResponse.class);
+        output = new ByteArrayOutputStream();
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+
+            @Override
+            public void write(int b) {
+                output.write(b);
+            }
+
+        });
+        when(response.getContentType()).thenReturn(HttpConstants.ContentType.TEXT_PLAIN);
+
+        deflaterPool = new DeflaterPool(2, Deflater.BEST_SPEED);
+    }
+
+    @Test
+    public void testCompress() throws IOException {
+        byte[] content = createContent(100 * 1024);
+
+        GZipResponseStream stream = new GZipResponseStream(response, deflaterPool, 1024, -1);
+        for (int i = 0; i < content.length; i += 1000) {
+            stream.write(content, i, Math.min(1000, content.length - i));
+        }
+        stream.close();
+
+        verify(response).setHeader(HttpConstants.Header.CONTENT_ENCODING, "gzip");
+        verify(response, never()).setContentLength(anyInt());
+        assertArrayEquals(content, gunzip(output.toByteArray()));
+        assertEquals(1, deflaterPool.size());
+    }
+
+    @Test
+    public void testStreaming() throws IOException {
+        byte[] content = createContent(4 * 1024);
+
+        GZipResponseStream stream = new GZipResponseStream(response, deflaterPool, 1024, -1);
+        stream.write(content);
+        assertEquals(0, output.size());
+        stream.flush();
+        assertTrue(output.size() > 0);
+        stream.write(content);
+        stream.close();
+
+        byte[] expected = new byte[2 * content.length];
+        System.arraycopy(content, 0, expected, 0, content.length);
+        System.arraycopy(content, 0, expected, content.length, content.length);
+        assertArrayEquals(expected, gunzip(output.toByteArray()));
+    }
+
+    @Test
+    public void testSmallContent() throws IOException {
+        byte[] content = "Hello World".getBytes(StandardCharsets.UTF_8);
+
+        GZipResponseStream stream = new GZipResponseStream(response, deflaterPool, 1024, -1);
+        stream.write(content);
+        stream.close();
+
+        verify(response, never()).setHeader(eq(HttpConstants.Header.CONTENT_ENCODING), anyString());
+        verify(response).setContentLength(content.length);
+        assertArrayEquals(content, output.toByteArray());
+        assertEquals(0, deflaterPool.size());
+    }
+
+    @Test
+    public void testCompressedContentType() throws IOException {
+        when(response.getContentType()).thenReturn("image/png");
+        byte[] content = createContent(4 * 1024);
+
+        GZipResponseStream stream = new GZipResponseStream(response, deflaterPool, 1024, content.length);
+        stream.write(content);
+        stream.close();
+
+        verify(response, never()).setHeader(eq(HttpConstants.Header.CONTENT_ENCODING), anyString());
+        verify(response).setContentLength(content.length);
+        assertArrayEquals(content, output.toByteArray());
+    }
+
+    @Test
+    public void testIsCompressed() {
+        assertTrue(MimeTypes.isCompressed("image/jpeg"));
+        assertTrue(MimeTypes.isCompressed("font/woff2"));
+        assertTrue(MimeTypes.isCompressed("application/zip"));
+        assertFalse(MimeTypes.isCompressed("image/svg+xml"));
+        assertFalse(MimeTypes.isCompressed("text/html; charset=UTF-8"));
+        assertFalse(MimeTypes.isCompressed(null));
+    }
+
+    private static byte[] createContent(int size) {
+        // text like content (compressible)
+        Random random = new Random(1);
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) ('a' + random.nextInt(8));
+        }
+
+        return content;
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            IoUtils.copy(input, result);
+        }
+
+        return result.toByteArray();
+    }
+
+}
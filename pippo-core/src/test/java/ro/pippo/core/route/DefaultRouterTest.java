@@ -23,10 +23,13 @@ import org.junit.rules.ExpectedException;
 import ro.pippo.core.EmptyHandler;
 import ro.pippo.core.HttpConstants;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.junit.Assert.*;
@@ -45,7 +48,7 @@ public class DefaultRouterTest {
 
     @Before
     public void before() {
-        router = new DefaultRouter();
+        router = createRouter();
     }
 
     @After
@@ -53,6 +56,10 @@ public class DefaultRouterTest {
         router = null;
     }
 
+    protected DefaultRouter createRouter() {
+        return new DefaultRouter();
+    }
+
     @Test
     public void testNullUriPatternRoute() throws Exception {
         Route route = Route.GET(null, emptyHandler);
@@ -99,6 +106,76 @@ public class DefaultRouterTest {
         assertEquals(0, router.getRoutes(HttpConstants.Method.GET).size());
     }
 
+    @Test
+    public void testRemoveRouteWhileMatching() throws Exception {
+        router.addRoute(Route.GET("/user/{id}", emptyHandler));
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread reader = new Thread(() -> {
+                try {
+                    for (int j = 0; running.get(); j++) {
+                        assertEquals(1, router.findRoutes(HttpConstants.Method.GET, "/user/" + j).size());
+                        router.findRoutes(HttpConstants.Method.GET, "/tmp/" + j);
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        try {
+            for (int i = 0; i < 2000 && failure.get() == null; i++) {
+                Route route = Route.GET("/tmp/.*", emptyHandler);
+                router.addRoute(route);
+                router.removeRoute(route);
+            }
+        } finally {
+            running.set(false);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+        }
+
+        assertNull(failure.get());
+    }
+
+    @Test
+    public void testRemoveCompiledRoute() throws Exception {
+        Route route = Route.GET("/contact", emptyHandler);
+        router.addRoute(route);
+        router.addRoute(Route.POST("/contact", emptyHandler));
+
+        assertEquals(1, router.findRoutes(HttpConstants.Method.GET, "/contact").size());
+
+        router.removeRoute(route);
+        assertEquals(1, router.getRoutes().size());
+        assertEquals(0, router.findRoutes(HttpConstants.Method.GET, "/contact").size());
+        assertEquals(1, router.findRoutes(HttpConstants.Method.POST, "/contact").size());
+    }
+
+    @Test
+    public void testAnyRoutesOrder() throws Exception {
+        router.addRoute(Route.ANY("/.*", emptyHandler).named("before"));
+        router.addRoute(Route.GET("/contact", emptyHandler).named("contact"));
+        router.addRoute(Route.ANY("/.*", emptyHandler).named("after"));
+
+        List<RouteMatch> routeMatches = router.findRoutes(HttpConstants.Method.GET, "/contact");
+        assertEquals(3, routeMatches.size());
+        assertEquals("before", routeMatches.get(0).getRoute().getName());
+        assertEquals("contact", routeMatches.get(1).getRoute().getName());
+        assertEquals("after", routeMatches.get(2).getRoute().getName());
+
+        routeMatches = router.findRoutes(HttpConstants.Method.DELETE, "/contact");
+        assertEquals(2, routeMatches.size());
+        assertEquals("before", routeMatches.get(0).getRoute().getName());
+        assertEquals("after", routeMatches.get(1).getRoute().getName());
+    }
+
     @Test
     public void testFindRoutes() throws Exception {
         Route route = Route.GET("/contact", emptyHandler);
@@ -441,7 +518,7 @@ public class DefaultRouterTest {
         assertEquals(0, router.findRoutes(HttpConstants.Method.GET, "/customers/12ab").size());
 
         // regex with escaped construct in a route with variable parts
-        router = new DefaultRouter();
+        router = createRouter();
         router.addRoute(Route.GET("/customers/{id: \\d+}", emptyHandler));
 
         assertEquals(1, router.findRoutes(HttpConstants.Method.GET, "/customers/1234").size());
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.route;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ResourceCacheTest {
+
+    @Test
+    public void testWeightEviction() {
+        ResourceCache resourceCache = new ResourceCache(100, 50);
+        resourceCache.put("a", entry(40));
+        resourceCache.put("b", entry(40));
+        assertNotNull(resourceCache.get("a")); // "b" is the least recently used
+
+        resourceCache.put("c", entry(40));
+        assertEquals(2, resourceCache.size());
+        assertEquals(80, resourceCache.getWeight());
+        assertEquals(1, resourceCache.getEvictionCount());
+        assertNull(resourceCache.get("b"));
+        assertNotNull(resourceCache.get("a"));
+        assertNotNull(resourceCache.get("c"));
+    }
+
+    @Test
+    public void testTooBig() {
+        ResourceCache resourceCache = new ResourceCache(100, 50);
+        assertFalse(resourceCache.accepts(51));
+        resourceCache.put("a", entry(51));
+        assertEquals(0, resourceCache.size());
+        assertNull(resourceCache.get("a"));
+        assertEquals(1, resourceCache.getMissCount());
+    }
+
+    @Test
+    public void testEtag() {
+        ResourceCache.Entry entry = new ResourceCache.Entry("hello".getBytes(), null, "text/plain", 0);
+        assertEquals("\"2cf24dba5fb0a30e26e83b2ac5b9e29e\"", entry.getEtag());
+        assertEquals(entry.getEtag(), new ResourceCache.Entry("hello".getBytes(), null, "text/plain", 1).getEtag());
+    }
+
+    private static ResourceCache.Entry entry(int length) {
+        return new ResourceCache.Entry(new byte[length], null, "application/octet-stream", 0);
+    }
+
+}
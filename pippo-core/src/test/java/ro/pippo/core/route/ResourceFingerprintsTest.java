@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.route;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+public class ResourceFingerprintsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+
+    @Before
+    public void before() throws IOException {
+        file = new File(folder.getRoot(), "app.js");
+        Files.write(file.toPath(), "alert('hello');".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testFingerprint() throws IOException {
+        ResourceFingerprints fingerprints = new ResourceFingerprints();
+        ResourceFingerprints.Fingerprint fingerprint = fingerprints.put("app.js", file.toURI().toURL());
+
+        byte[] content = Files.readAllBytes(file.toPath());
+        assertEquals(new ResourceCache.Entry(content, null, "application/javascript", 0).getEtag(), fingerprint.getEtag());
+        assertEquals(16, fingerprint.getVersion().length());
+        assertEquals(content.length, fingerprint.getLength());
+        assertSame(fingerprint, fingerprints.get("app.js"));
+    }
+
+    @Test
+    public void testModifiedFile() throws IOException {
+        ResourceFingerprints fingerprints = new ResourceFingerprints();
+        fingerprints.put("app.js", file.toURI().toURL());
+
+        Files.write(file.toPath(), "alert('bye');".getBytes(StandardCharsets.UTF_8));
+        assertTrue(file.setLastModified(file.lastModified() + 10000));
+
+        assertNull(fingerprints.get("app.js"));
+        assertEquals(0, fingerprints.size());
+    }
+
+    @Test
+    public void testInjectVersion() {
+        FileResourceHandler handler = new FileResourceHandler("/", folder.getRoot());
+
+        String version = handler.getFingerprint("app.js").getVersion();
+        assertEquals("app-ver-" + version + ".js", handler.injectVersion("app.js"));
+        assertEquals("app.js", handler.removeVersion(handler.injectVersion("app.js")));
+        assertEquals(1, handler.getFingerprints().size());
+        assertEquals("missing.js", handler.injectVersion("missing.js"));
+    }
+
+}
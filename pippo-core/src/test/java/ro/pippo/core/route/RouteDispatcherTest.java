@@ -0,0 +1,272 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.route;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import ro.pippo.core.Application;
+import ro.pippo.core.HttpConstants;
+import ro.pippo.core.Request;
+import ro.pippo.core.Response;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RouteDispatcherTest {
+
+    private Application application;
+    private AtomicInteger finallyCount;
+    private AtomicInteger postDispatchCount;
+    private AsyncContext asyncContext;
+
+    @Before
+    public void setUp() {
+        application = new Application();
+
+        finallyCount = new AtomicInteger();
+
+        postDispatchCount = new AtomicInteger();
+        application.getRoutePostDispatchListeners().add((request, response) -> postDispatchCount.incrementAndGet());
+
+        asyncContext = mock(AsyncContext.class);
+    }
+
+    @Test
+    public void testSyncDispatch() throws Exception {
+        application.GET("/sync", routeContext -> routeContext.status(HttpConstants.StatusCode.OK));
+
+        Response response = dispatch("/sync");
+
+        assertEquals(HttpConstants.StatusCode.OK, response.getStatus());
+        assertEquals(1, finallyCount.get());
+        assertEquals(1, postDispatchCount.get());
+        verify(asyncContext, never()).complete();
+    }
+
+    @Test
+    public void testAsyncDispatch() throws Exception {
+        AtomicReference<AsyncHandle> handle = new AtomicReference<>();
+        application.GET("/async", routeContext -> handle.set(routeContext.async()));
+
+        Response response = dispatch("/async");
+
+        // the container thread is released without completing the response
+        assertTrue(handle.get().getRouteContext().isAsync());
+        assertEquals(0, finallyCount.get());
+        assertEquals(0, postDispatchCount.get());
+        verify(asyncContext, never()).complete();
+        assertNull(RouteDispatcher.getRouteContext());
+
+        // complete the response from another thread
+        Thread thread = new Thread(() -> handle.get().complete(context -> context.status(HttpConstants.StatusCode.ACCEPTED)));
+        thread.start();
+        thread.join();
+
+        assertEquals(HttpConstants.StatusCode.ACCEPTED, response.getStatus());
+        assertEquals(1, finallyCount.get());
+        assertEquals(1, postDispatchCount.get());
+        verify(asyncContext).complete();
+        assertFalse(handle.get().complete());
+    }
+
+    @Test
+    public void testAsyncDispatchWithCompletionStage() throws Exception {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        application.GET("/stage", routeContext -> routeContext.async().complete(future, (context, result) -> {
+            assertEquals(context, RouteDispatcher.getRouteContext());
+            context.setHeader("X-Result", result);
+            context.status(HttpConstants.StatusCode.CREATED);
+        }));
+
+        Response response = dispatch("/stage");
+        assertEquals(0, postDispatchCount.get());
+
+        future.complete("done");
+
+        assertEquals(HttpConstants.StatusCode.CREATED, response.getStatus());
+        assertEquals("done", response.getHeader("X-Result"));
+        assertEquals(1, finallyCount.get());
+        assertEquals(1, postDispatchCount.get());
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    public void testAsyncDispatchCompletedBeforeRelease() throws Exception {
+        application.GET("/completed", routeContext -> {
+            routeContext.async();
+            routeContext.status(HttpConstants.StatusCode.OK);
+            routeContext.async().complete();
+        });
+
+        Response response = dispatch("/completed");
+
+        assertEquals(HttpConstants.StatusCode.OK, response.getStatus());
+        assertEquals(1, finallyCount.get());
+        assertEquals(1, postDispatchCount.get());
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    public void testAsyncDispatchFailure() throws Exception {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        application.GET("/failure", routeContext -> routeContext.async().complete(future));
+
+        Response response = dispatch("/failure");
+        future.completeExceptionally(new IllegalStateException("failure"));
+
+        assertEquals(HttpConstants.StatusCode.INTERNAL_ERROR, response.getStatus());
+        assertEquals(1, finallyCount.get());
+        assertEquals(1, postDispatchCount.get());
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    public void testAsyncDispatchTimeout() throws Exception {
+        AtomicReference<AsyncHandle> handle = new AtomicReference<>();
+        application.GET("/timeout", routeContext -> handle.set(routeContext.async()));
+
+        Response response = dispatch("/timeout");
+        verify(asyncContext).setTimeout(AsyncHandle.DEFAULT_TIMEOUT);
+
+        handle.get().timeout();
+
+        assertTrue(handle.get().isTimedOut());
+        assertEquals(HttpConstants.StatusCode.SERVICE_UNAVAILABLE, response.getStatus());
+        assertEquals(1, postDispatchCount.get());
+        verify(asyncContext).complete();
+        assertFalse(handle.get().complete());
+    }
+
+    @Test
+    public void testAsyncDispatchTimeoutWhileCompleting() throws Exception {
+        AtomicReference<AsyncHandle> handle = new AtomicReference<>();
+        application.GET("/late", routeContext -> handle.set(routeContext.async()));
+
+        Response response = dispatch("/late");
+        ArgumentCaptor<AsyncListener> listener = ArgumentCaptor.forClass(AsyncListener.class);
+        verify(asyncContext).addListener(listener.capture());
+
+        // the worker completes the handle and writes the response slowly
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        Thread worker = new Thread(() -> handle.get().complete(context -> {
+            writing.countDown();
+            try {
+                proceed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            context.status(HttpConstants.StatusCode.OK);
+        }));
+        worker.start();
+        writing.await();
+
+        // the container timeout fires meanwhile
+        AtomicBoolean timeoutReturned = new AtomicBoolean();
+        Thread container = new Thread(() -> {
+            try {
+                listener.getValue().onTimeout(null);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            timeoutReturned.set(true);
+        });
+        container.start();
+        container.join(200);
+
+        // the listener waits for the worker to complete the AsyncContext
+        assertFalse(timeoutReturned.get());
+        verify(asyncContext, never()).complete();
+
+        proceed.countDown();
+        worker.join();
+        container.join();
+
+        assertTrue(timeoutReturned.get());
+        assertFalse(handle.get().isTimedOut());
+        assertEquals(HttpConstants.StatusCode.OK, response.getStatus());
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    public void testAsyncDispatchWriteAfterTimeout() throws Exception {
+        AtomicReference<AsyncHandle> handle = new AtomicReference<>();
+        application.GET("/timeout", routeContext -> handle.set(routeContext.async()));
+
+        Response response = dispatch("/timeout");
+        handle.get().timeout();
+
+        // the worker doesn't write the completed response
+        AtomicBoolean invoked = new AtomicBoolean();
+        assertFalse(handle.get().complete(context -> {
+            invoked.set(true);
+            context.status(HttpConstants.StatusCode.OK);
+        }));
+
+        assertFalse(invoked.get());
+        assertEquals(HttpConstants.StatusCode.SERVICE_UNAVAILABLE, response.getStatus());
+        verify(asyncContext).complete();
+    }
+
+    private Response dispatch(String path) throws Exception {
+        application.ANY("/.*", routeContext -> finallyCount.incrementAndGet()).runAsFinally();
+
+        RouteDispatcher routeDispatcher = new RouteDispatcher(application);
+        routeDispatcher.init();
+
+        Map<String, Object> attributes = new HashMap<>();
+        HttpServletRequest servletRequest = mock(HttpServletRequest.class);
+        when(servletRequest.getMethod()).thenReturn(HttpConstants.Method.GET);
+        when(servletRequest.getRequestURL()).thenReturn(new StringBuffer("http://localhost:8338" + path));
+        when(servletRequest.getRequestURI()).thenReturn(path);
+        when(servletRequest.startAsync()).thenReturn(asyncContext);
+        when(servletRequest.getAttribute(anyString())).then(invocation -> attributes.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+            .when(servletRequest).setAttribute(anyString(), any());
+
+        HttpServletResponse servletResponse = mock(HttpServletResponse.class);
+
+        Request request = new Request(servletRequest, application);
+        Response response = new Response(servletResponse, application);
+        routeDispatcher.dispatch(request, response);
+
+        return response;
+    }
+
+}
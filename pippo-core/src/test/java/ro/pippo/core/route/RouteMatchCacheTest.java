@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.route;
+
+import org.junit.Before;
+import org.junit.Test;
+import ro.pippo.core.EmptyHandler;
+import ro.pippo.core.HttpConstants;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class RouteMatchCacheTest {
+
+    private static final RouteHandler emptyHandler = new EmptyHandler();
+
+    private DefaultRouter router;
+    private RouteMatchCache routeMatchCache;
+
+    @Before
+    public void before() {
+        router = new DefaultRouter();
+        routeMatchCache = new RouteMatchCache(100);
+        router.setRouteMatchCache(routeMatchCache);
+    }
+
+    @Test
+    public void testHit() {
+        router.addRoute(Route.GET("/contact/{id}", emptyHandler));
+
+        List<RouteMatch> routeMatches = router.findRoutes(HttpConstants.Method.GET, "/contact/3");
+        assertEquals(1, routeMatches.size());
+        assertEquals(0, routeMatchCache.getHitCount());
+        assertEquals(1, routeMatchCache.getMissCount());
+        assertEquals(1, routeMatchCache.size());
+
+        routeMatches = router.findRoutes(HttpConstants.Method.GET, "/contact/3");
+        // the cached list is shared (the route context doesn't modify it)
+        assertSame(routeMatches, router.findRoutes(HttpConstants.Method.GET, "/contact/3"));
+        assertEquals(1, routeMatches.size());
+        assertEquals("3", routeMatches.get(0).getPathParameters().get("id"));
+        assertEquals(2, routeMatchCache.getHitCount());
+        assertEquals(2.0 / 3, routeMatchCache.getHitRatio(), 0);
+
+        assertEquals(0, router.findRoutes(HttpConstants.Method.POST, "/contact/3").size());
+        assertEquals(2, routeMatchCache.size());
+    }
+
+    @Test
+    public void testInvalidation() {
+        router.addRoute(Route.GET("/contact", emptyHandler));
+        assertEquals(1, router.findRoutes(HttpConstants.Method.GET, "/contact").size());
+        assertEquals(1, routeMatchCache.size());
+
+        router.addRoute(Route.GET("/.*", emptyHandler));
+        assertEquals(2, router.findRoutes(HttpConstants.Method.GET, "/contact").size());
+        assertEquals(0, routeMatchCache.getHitCount());
+
+        router.removeRoute(Route.GET("/.*", emptyHandler));
+        assertEquals(0, routeMatchCache.size());
+        assertEquals(1, router.findRoutes(HttpConstants.Method.GET, "/contact").size());
+    }
+
+    @Test
+    public void testBypass() {
+        router.addRoute(Route.GET("/contact/{id}", emptyHandler).bind(RouteMatchCache.BYPASS, true));
+        router.addRoute(Route.GET("/about", emptyHandler));
+
+        router.findRoutes(HttpConstants.Method.GET, "/contact/3");
+        router.findRoutes(HttpConstants.Method.GET, "/about");
+        assertEquals(1, routeMatchCache.size());
+        assertNull(routeMatchCache.get(HttpConstants.Method.GET, "/contact/3"));
+    }
+
+    @Test
+    public void testEviction() {
+        RouteMatchCache routeMatchCache = new RouteMatchCache(1);
+        router.setRouteMatchCache(routeMatchCache);
+        router.addRoute(Route.GET("/contact/{id}", emptyHandler));
+
+        router.findRoutes(HttpConstants.Method.GET, "/contact/1");
+        router.findRoutes(HttpConstants.Method.GET, "/contact/2");
+        assertEquals(1, routeMatchCache.size());
+        assertEquals(1, routeMatchCache.getEvictionCount());
+        assertNull(routeMatchCache.get(HttpConstants.Method.GET, "/contact/1"));
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.route;
+
+import org.junit.Test;
+import ro.pippo.core.EmptyHandler;
+import ro.pippo.core.HttpConstants;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Runs all the {@link DefaultRouterTest} tests against {@link TrieRouter}.
+ */
+public class TrieRouterTest extends DefaultRouterTest {
+
+    private static final RouteHandler emptyHandler = new EmptyHandler();
+
+    @Override
+    protected DefaultRouter createRouter() {
+        return new TrieRouter();
+    }
+
+    @Test
+    public void testRoutesOrder() {
+        DefaultRouter router = createRouter();
+        Route before = Route.ANY("/.*", emptyHandler);
+        Route user = Route.GET("/user/{id}", emptyHandler);
+        Route userRegex = Route.GET("/user/{id: [0-9]+}", emptyHandler);
+        Route contact = Route.GET("/user/contact", emptyHandler);
+        Route after = Route.ANY("/user/.*", emptyHandler);
+        router.addRoute(before);
+        router.addRoute(user);
+        router.addRoute(userRegex);
+        router.addRoute(contact);
+        router.addRoute(after);
+
+        List<RouteMatch> routeMatches = router.findRoutes(HttpConstants.Method.GET, "/user/1");
+        assertEquals(4, routeMatches.size());
+        assertSame(before.getRouteHandler(), routeMatches.get(0).getRoute().getRouteHandler());
+        assertEquals("/user/{id}", routeMatches.get(1).getRoute().getUriPattern());
+        assertEquals("1", routeMatches.get(1).getPathParameters().get("id"));
+        assertEquals("/user/{id: [0-9]+}", routeMatches.get(2).getRoute().getUriPattern());
+        assertEquals("1", routeMatches.get(2).getPathParameters().get("id"));
+        assertEquals("/user/.*", routeMatches.get(3).getRoute().getUriPattern());
+
+        routeMatches = router.findRoutes(HttpConstants.Method.GET, "/user/contact");
+        assertEquals(4, routeMatches.size());
+        assertEquals("/user/{id}", routeMatches.get(1).getRoute().getUriPattern());
+        assertEquals("/user/contact", routeMatches.get(2).getRoute().getUriPattern());
+
+        routeMatches = router.findRoutes(HttpConstants.Method.POST, "/user/contact");
+        assertEquals(2, routeMatches.size());
+    }
+
+    @Test
+    public void testEmptySegments() {
+        DefaultRouter router = createRouter();
+        router.addRoute(Route.GET("/", emptyHandler));
+        router.addRoute(Route.GET("/user/{id}", emptyHandler));
+
+        assertEquals(1, router.findRoutes(HttpConstants.Method.GET, "/").size());
+        assertEquals(0, router.findRoutes(HttpConstants.Method.GET, "/user").size());
+        assertEquals(0, router.findRoutes(HttpConstants.Method.GET, "/user/").size());
+        assertEquals(0, router.findRoutes(HttpConstants.Method.GET, "/user/1/").size());
+    }
+
+}
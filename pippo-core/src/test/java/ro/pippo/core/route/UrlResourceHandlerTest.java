@@ -0,0 +1,334 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.route;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import ro.pippo.core.Application;
+import ro.pippo.core.HttpConstants;
+import ro.pippo.core.ParameterValue;
+import ro.pippo.core.PippoSettings;
+import ro.pippo.core.Response;
+import ro.pippo.core.RuntimeMode;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class UrlResourceHandlerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private byte[] content;
+    private ByteArrayOutputStream output;
+    private HttpServletResponse httpServletResponse;
+    private RouteContext routeContext;
+
+    @Before
+    public void before() throws IOException {
+        content = new byte[4 * 1024];
+        Arrays.fill(content, (byte) 'a');
+        Files.write(new File(folder.getRoot(), "app.js").toPath(), content);
+
+        routeContext = createRouteContext(new Application());
+    }
+
+    @Test
+    public void testPrecompressed() throws IOException {
+        try (OutputStream gzipOutput = new GZIPOutputStream(new FileOutputStream(new File(folder.getRoot(), "app.js.gz")))) {
+            gzipOutput.write(content);
+        }
+        when(routeContext.getHeader(HttpConstants.Header.ACCEPT_ENCODING)).thenReturn("gzip, deflate");
+
+        new FileResourceHandler("/", folder.getRoot()).setPrecompressed(true).handle(routeContext);
+
+        verify(httpServletResponse).setHeader(HttpConstants.Header.CONTENT_ENCODING, "gzip");
+        verify(httpServletResponse).setHeader(HttpConstants.Header.VARY, HttpConstants.Header.ACCEPT_ENCODING);
+        // the gzip representation has its own ETag and doesn't support ranges
+        verify(routeContext).setHeader(eq(HttpConstants.Header.ETAG), endsWith("-gzip\""));
+        verify(httpServletResponse, never()).setHeader(eq(HttpConstants.Header.ACCEPT_RANGES), anyString());
+        assertArrayEquals(content, gunzip(output.toByteArray()));
+    }
+
+    @Test
+    public void testPrecompressedBrotli() throws IOException {
+        Files.write(new File(folder.getRoot(), "app.js.br").toPath(), new byte[] { 1, 2, 3 });
+        when(routeContext.getHeader(HttpConstants.Header.ACCEPT_ENCODING)).thenReturn("gzip, br");
+
+        new FileResourceHandler("/", folder.getRoot()).setPrecompressed(true).handle(routeContext);
+
+        verify(httpServletResponse).setHeader(HttpConstants.Header.CONTENT_ENCODING, "br");
+        verify(routeContext).setHeader(eq(HttpConstants.Header.ETAG), endsWith("-br\""));
+        assertArrayEquals(new byte[] { 1, 2, 3 }, output.toByteArray());
+    }
+
+    @Test
+    public void testPrecompressedNotAccepted() throws IOException {
+        try (OutputStream gzipOutput = new GZIPOutputStream(new FileOutputStream(new File(folder.getRoot(), "app.js.gz")))) {
+            gzipOutput.write(content);
+        }
+        when(routeContext.getHeader(HttpConstants.Header.ACCEPT_ENCODING)).thenReturn("gzip;q=0, identity");
+
+        new FileResourceHandler("/", folder.getRoot()).setPrecompressed(true).handle(routeContext);
+
+        verify(httpServletResponse, never()).setHeader(eq(HttpConstants.Header.CONTENT_ENCODING), anyString());
+        verify(httpServletResponse).setHeader(HttpConstants.Header.VARY, HttpConstants.Header.ACCEPT_ENCODING);
+        verify(routeContext, never()).setHeader(eq(HttpConstants.Header.ETAG), endsWith("-gzip\""));
+        assertArrayEquals(content, output.toByteArray());
+    }
+
+    @Test
+    public void testPrecompressedDisabledByDefault() throws IOException {
+        try (OutputStream gzipOutput = new GZIPOutputStream(new FileOutputStream(new File(folder.getRoot(), "app.js.gz")))) {
+            gzipOutput.write(content);
+        }
+        when(routeContext.getHeader(HttpConstants.Header.ACCEPT_ENCODING)).thenReturn("gzip");
+
+        new FileResourceHandler("/", folder.getRoot()).handle(routeContext);
+
+        verify(httpServletResponse, never()).setHeader(eq(HttpConstants.Header.CONTENT_ENCODING), anyString());
+        assertArrayEquals(content, output.toByteArray());
+    }
+
+    @Test
+    public void testPrecompressedResolvedOnce() throws IOException {
+        routeContext = createRouteContext(new Application(new PippoSettings(RuntimeMode.DEV)));
+        try (OutputStream gzipOutput = new GZIPOutputStream(new FileOutputStream(new File(folder.getRoot(), "app.js.gz")))) {
+            gzipOutput.write(content);
+        }
+        when(routeContext.getHeader(HttpConstants.Header.ACCEPT_ENCODING)).thenReturn("gzip");
+        FileResourceHandler handler = spy(new FileResourceHandler("/", folder.getRoot()));
+        handler.setPrecompressed(true);
+
+        handler.handle(routeContext);
+
+        verify(handler, times(1)).getPrecompressedResourceUrl("app.js.gz");
+        verify(httpServletResponse).setHeader(HttpConstants.Header.CONTENT_ENCODING, "gzip");
+        assertArrayEquals(content, gunzip(output.toByteArray()));
+    }
+
+    @Test
+    public void testPrecompressedLookupCachedInProd() throws IOException {
+        routeContext = createRouteContext(new Application(new PippoSettings(RuntimeMode.PROD)));
+        when(routeContext.getHeader(HttpConstants.Header.ACCEPT_ENCODING)).thenReturn("gzip");
+        FileResourceHandler handler = spy(new FileResourceHandler("/", folder.getRoot()));
+        handler.setPrecompressed(true);
+
+        handler.handle(routeContext);
+        routeContext = createRouteContext(routeContext.getApplication());
+        when(routeContext.getHeader(HttpConstants.Header.ACCEPT_ENCODING)).thenReturn("gzip");
+        handler.handle(routeContext);
+
+        // the missing variants are looked up once
+        verify(handler, times(1)).getPrecompressedResourceUrl("app.js.gz");
+        assertArrayEquals(content, output.toByteArray());
+    }
+
+    @Test
+    public void testCompressMissing() throws IOException {
+        when(routeContext.getHeader(HttpConstants.Header.ACCEPT_ENCODING)).thenReturn("gzip");
+
+        FileResourceHandler handler = new FileResourceHandler("/", folder.getRoot());
+        handler.precompress("app.js");
+        handler.handle(routeContext);
+
+        verify(httpServletResponse).setHeader(HttpConstants.Header.CONTENT_ENCODING, "gzip");
+        verify(routeContext).setHeader(eq(HttpConstants.Header.ETAG), endsWith("-gzip\""));
+        assertArrayEquals(content, gunzip(output.toByteArray()));
+    }
+
+    @Test
+    public void testCompressMissingTooSmall() throws IOException {
+        byte[] small = new byte[100];
+        Files.write(new File(folder.getRoot(), "app.js").toPath(), small);
+        when(routeContext.getHeader(HttpConstants.Header.ACCEPT_ENCODING)).thenReturn("gzip");
+
+        new FileResourceHandler("/", folder.getRoot()).setCompressMissing(true).handle(routeContext);
+
+        verify(httpServletResponse, never()).setHeader(eq(HttpConstants.Header.CONTENT_ENCODING), anyString());
+        assertArrayEquals(small, output.toByteArray());
+    }
+
+    @Test
+    public void testCompressMissingRevalidated() throws IOException {
+        routeContext = createRouteContext(new Application(new PippoSettings(RuntimeMode.DEV)));
+        when(routeContext.getHeader(HttpConstants.Header.ACCEPT_ENCODING)).thenReturn("gzip");
+        FileResourceHandler handler = new FileResourceHandler("/", folder.getRoot());
+        handler.setCompressMissing(true).handle(routeContext);
+        assertArrayEquals(content, gunzip(output.toByteArray()));
+
+        // the modified file is compressed again (in dev mode)
+        byte[] modified = new byte[2 * 1024];
+        Arrays.fill(modified, (byte) 'b');
+        File file = new File(folder.getRoot(), "app.js");
+        Files.write(file.toPath(), modified);
+        assertTrue(file.setLastModified(file.lastModified() + 2000));
+
+        routeContext = createRouteContext(routeContext.getApplication());
+        when(routeContext.getHeader(HttpConstants.Header.ACCEPT_ENCODING)).thenReturn("gzip");
+        handler.handle(routeContext);
+        assertArrayEquals(modified, gunzip(output.toByteArray()));
+    }
+
+    @Test
+    public void testResourceCache() throws IOException {
+        ResourceCache resourceCache = new ResourceCache(1024 * 1024);
+        FileResourceHandler handler = new FileResourceHandler("/", folder.getRoot());
+        handler.setResourceCache(resourceCache);
+
+        handler.handle(routeContext);
+        assertArrayEquals(content, output.toByteArray());
+        assertEquals(1, resourceCache.size());
+        assertEquals(content.length, resourceCache.getWeight());
+
+        routeContext = createRouteContext(routeContext.getApplication());
+        handler.handle(routeContext);
+        assertArrayEquals(content, output.toByteArray());
+        assertEquals(1, resourceCache.getHitCount());
+        verify(routeContext).setHeader(HttpConstants.Header.ETAG, resourceCache.get("/{path: .+}app.js").getEtag());
+    }
+
+    @Test
+    public void testResourceCacheRevalidated() throws IOException {
+        routeContext = createRouteContext(new Application(new PippoSettings(RuntimeMode.DEV)));
+        FileResourceHandler handler = new FileResourceHandler("/", folder.getRoot());
+        handler.setResourceCache(new ResourceCache(1024 * 1024));
+        handler.handle(routeContext);
+
+        byte[] modified = new byte[100];
+        File file = new File(folder.getRoot(), "app.js");
+        Files.write(file.toPath(), modified);
+        assertTrue(file.setLastModified(file.lastModified() + 2000));
+
+        routeContext = createRouteContext(routeContext.getApplication());
+        handler.handle(routeContext);
+        assertArrayEquals(modified, output.toByteArray());
+    }
+
+    @Test
+    public void testResourceCacheUnknownContentType() throws IOException {
+        Files.write(new File(folder.getRoot(), "data.unknown").toPath(), content);
+        when(routeContext.getParameter(ResourceHandler.PATH_PARAMETER)).thenReturn(new ParameterValue("data.unknown"));
+        FileResourceHandler handler = new FileResourceHandler("/", folder.getRoot());
+        handler.setResourceCache(new ResourceCache(1024 * 1024));
+
+        handler.handle(routeContext);
+
+        verify(httpServletResponse).setContentType(startsWith(HttpConstants.ContentType.APPLICATION_OCTET_STREAM));
+        assertArrayEquals(content, output.toByteArray());
+    }
+
+    @Test
+    public void testResourceCacheInProd() throws IOException {
+        routeContext = createRouteContext(new Application(new PippoSettings(RuntimeMode.PROD)));
+        FileResourceHandler handler = new FileResourceHandler("/", folder.getRoot());
+        handler.setResourceCache(new ResourceCache(1024 * 1024)).setCompressMissing(true);
+        handler.handle(routeContext);
+
+        // served from cache, without file lookup
+        assertTrue(new File(folder.getRoot(), "app.js").delete());
+        routeContext = createRouteContext(routeContext.getApplication());
+        when(routeContext.getHeader(HttpConstants.Header.ACCEPT_ENCODING)).thenReturn("gzip");
+        handler.handle(routeContext);
+
+        verify(httpServletResponse).setHeader(HttpConstants.Header.CONTENT_ENCODING, "gzip");
+        assertArrayEquals(content, gunzip(output.toByteArray()));
+    }
+
+    @Test
+    public void testRange() throws IOException {
+        when(routeContext.isRequestMethod(HttpConstants.Method.GET)).thenReturn(true);
+        when(routeContext.getHeader(HttpConstants.Header.RANGE)).thenReturn("bytes=100-199");
+
+        new FileResourceHandler("/", folder.getRoot()).handle(routeContext);
+
+        verify(httpServletResponse).setStatus(HttpConstants.StatusCode.PARTIAL_CONTENT);
+        verify(httpServletResponse).setHeader(HttpConstants.Header.ACCEPT_RANGES, "bytes");
+        verify(httpServletResponse).setHeader(HttpConstants.Header.CONTENT_RANGE, "bytes 100-199/" + content.length);
+        assertArrayEquals(Arrays.copyOfRange(content, 100, 200), output.toByteArray());
+    }
+
+    @Test
+    public void testRangeWithStaleIfRange() throws IOException {
+        when(routeContext.isRequestMethod(HttpConstants.Method.GET)).thenReturn(true);
+        when(routeContext.getHeader(HttpConstants.Header.RANGE)).thenReturn("bytes=100-199");
+        when(routeContext.getHeader(HttpConstants.Header.IF_RANGE)).thenReturn("\"stale\"");
+
+        new FileResourceHandler("/", folder.getRoot()).handle(routeContext);
+
+        verify(httpServletResponse, never()).setStatus(HttpConstants.StatusCode.PARTIAL_CONTENT);
+        assertArrayEquals(content, output.toByteArray());
+    }
+
+    @Test
+    public void testAcceptsEncoding() {
+        assertTrue(UrlResourceHandler.acceptsEncoding("gzip, deflate, br", "br"));
+        assertTrue(UrlResourceHandler.acceptsEncoding("*", "gzip"));
+        assertTrue(UrlResourceHandler.acceptsEncoding("GZIP;q=0.5", "gzip"));
+        assertFalse(UrlResourceHandler.acceptsEncoding("gzip;q=0", "gzip"));
+        assertFalse(UrlResourceHandler.acceptsEncoding("deflate", "gzip"));
+    }
+
+    private RouteContext createRouteContext(Application application) throws IOException {
+        output = new ByteArrayOutputStream();
+        httpServletResponse = mock(HttpServletResponse.class);
+        when(httpServletResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+
+            @Override
+            public void write(int b) {
+                output.write(b);
+            }
+
+        });
+
+        Response response = new Response(httpServletResponse, application);
+        RouteContext routeContext = mock(RouteContext.class);
+        when(routeContext.getApplication()).thenReturn(application);
+        when(routeContext.getResponse()).thenReturn(response);
+        when(routeContext.getParameter(ResourceHandler.PATH_PARAMETER)).thenReturn(new ParameterValue("app.js"));
+
+        return routeContext;
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            byte[] buffer = new byte[1024];
+            int n;
+            while ((n = input.read(buffer)) != -1) {
+                result.write(buffer, 0, n);
+            }
+        }
+
+        return result.toByteArray();
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class BufferPoolTest {
+
+    @Test
+    public void testReuse() {
+        BufferPool<byte[]> pool = new BufferPool<>(1, () -> new byte[16]);
+        byte[] buffer = pool.acquire();
+        pool.release(buffer);
+
+        assertEquals(1, pool.size());
+        assertSame(buffer, pool.acquire());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void testBounded() {
+        BufferPool<byte[]> pool = new BufferPool<>(1, () -> new byte[16]);
+        byte[] first = pool.acquire();
+        byte[] second = pool.acquire();
+        assertNotSame(first, second);
+
+        pool.release(first);
+        pool.release(second);
+
+        // the second buffer is discarded
+        assertEquals(1, pool.size());
+        assertSame(first, pool.acquire());
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.util;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ByteRangeTest {
+
+    @Test
+    public void testSingleRange() {
+        List<ByteRange> ranges = ByteRange.parse("bytes=0-99", 1000);
+        assertEquals(1, ranges.size());
+        assertEquals(0, ranges.get(0).getStart());
+        assertEquals(99, ranges.get(0).getEnd());
+        assertEquals(100, ranges.get(0).getLength());
+        assertEquals("bytes 0-99/1000", ranges.get(0).toContentRange(1000));
+    }
+
+    @Test
+    public void testOpenAndSuffixRanges() {
+        List<ByteRange> ranges = ByteRange.parse("bytes=900-, -50", 1000);
+        assertEquals(2, ranges.size());
+        assertEquals("900-999", ranges.get(0).toString());
+        assertEquals("950-999", ranges.get(1).toString());
+
+        // the end is truncated to the content length
+        assertEquals("500-999", ByteRange.parse("bytes=500-5000", 1000).get(0).toString());
+        assertEquals("0-999", ByteRange.parse("bytes=-5000", 1000).get(0).toString());
+    }
+
+    @Test
+    public void testNotSatisfiable() {
+        assertTrue(ByteRange.parse("bytes=1000-", 1000).isEmpty());
+        assertTrue(ByteRange.parse("bytes=2000-3000, -0", 1000).isEmpty());
+    }
+
+    @Test
+    public void testIgnored() {
+        assertNull(ByteRange.parse("items=0-1", 1000));
+        assertNull(ByteRange.parse("bytes=abc", 1000));
+        assertNull(ByteRange.parse("bytes=10-5", 1000));
+        assertNull(ByteRange.parse("bytes=", 1000));
+
+        StringBuilder range = new StringBuilder("bytes=0-0");
+        for (int i = 1; i <= ByteRange.MAX_RANGES; i++) {
+            range.append(',').append(i).append('-').append(i);
+        }
+        assertNull(ByteRange.parse(range.toString(), 1000));
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.core.util;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class FileTransferTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+    private byte[] content;
+
+    @Before
+    public void before() throws IOException {
+        content = new byte[200 * 1024];
+        new Random(1).nextBytes(content);
+        file = folder.newFile("data.bin");
+        Files.write(file.toPath(), content);
+    }
+
+    @Test
+    public void testHeapBuffer() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertEquals(content.length, FileTransfer.transfer(file, output));
+        assertArrayEquals(content, output.toByteArray());
+    }
+
+    @Test
+    public void testWriteByteBuffer() throws IOException {
+        ByteBufferOutputStream output = new ByteBufferOutputStream();
+        assertEquals(content.length, FileTransfer.transfer(file, output));
+        assertArrayEquals(content, output.toByteArray());
+        assertTrue(output.bufferWrites > 0);
+    }
+
+    @Test
+    public void testWritableByteChannel() throws IOException {
+        ChannelOutputStream output = new ChannelOutputStream();
+        assertEquals(content.length, FileTransfer.transfer(file, output));
+        assertArrayEquals(content, output.toByteArray());
+    }
+
+    @Test
+    public void testTransferFrom() throws IOException {
+        TransferFromOutputStream output = new TransferFromOutputStream();
+        assertEquals(content.length, FileTransfer.transfer(file, output));
+        assertArrayEquals(content, output.toByteArray());
+        assertTrue(output.transferred);
+    }
+
+    @Test
+    public void testRegion() throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            TransferFromOutputStream output = new TransferFromOutputStream();
+            assertEquals(100, FileTransfer.transfer(channel, 1000, 100, output));
+            assertArrayEquals(Arrays.copyOfRange(content, 1000, 1100), output.toByteArray());
+            assertFalse(output.transferred);
+
+            ByteBufferOutputStream bufferOutput = new ByteBufferOutputStream();
+            assertEquals(70000, FileTransfer.transfer(channel, 5, 70000, bufferOutput));
+            assertArrayEquals(Arrays.copyOfRange(content, 5, 70005), bufferOutput.toByteArray());
+        }
+    }
+
+    public static class ByteBufferOutputStream extends ByteArrayOutputStream {
+
+        int bufferWrites;
+
+        public void write(ByteBuffer buffer) {
+            bufferWrites++;
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            write(bytes, 0, bytes.length);
+        }
+
+    }
+
+    public static class TransferFromOutputStream extends ByteBufferOutputStream {
+
+        boolean transferred;
+
+        public void transferFrom(FileChannel channel) throws IOException {
+            transferred = true;
+            channel.transferTo(channel.position(), channel.size() - channel.position(), Channels.newChannel(this));
+        }
+
+    }
+
+    public static class ChannelOutputStream extends ByteArrayOutputStream implements WritableByteChannel {
+
+        @Override
+        public int write(ByteBuffer buffer) {
+            int length = buffer.remaining();
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            write(bytes, 0, length);
+
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+    }
+
+}
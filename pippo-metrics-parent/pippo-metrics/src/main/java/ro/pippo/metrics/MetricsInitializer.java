@@ -81,6 +81,9 @@ public class MetricsInitializer implements Initializer {
             log.debug("Registered JVM-Metrics integration");
         }
 
+        // register the route match cache metrics
+        registerAll("router.matchCache", new RouteMatchCacheMetricSet(application));
+
         // MBeans for VisualVM, JConsole, or JMX
         if (pippoSettings.getBoolean("metrics.mbeans.enabled", false)) {
             JmxReporter reporter = JmxReporter.forRegistry(metricRegistry).inDomain(applicationName).build();
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.metrics;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.codahale.metrics.RatioGauge;
+import ro.pippo.core.Application;
+import ro.pippo.core.route.DefaultRouter;
+import ro.pippo.core.route.RouteMatchCache;
+import ro.pippo.core.route.Router;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Gauges for the {@link RouteMatchCache} of application's router.
+ * The cache is resolved on each read, so the gauges report {@code 0} until a cache is set.
+ */
+public class RouteMatchCacheMetricSet implements MetricSet {
+
+    private final Application application;
+
+    public RouteMatchCacheMetricSet(Application application) {
+        this.application = application;
+    }
+
+    @Override
+    public Map<String, Metric> getMetrics() {
+        Map<String, Metric> metrics = new HashMap<>();
+        metrics.put("size", gauge(RouteMatchCache::size));
+        metrics.put("maximumSize", gauge(RouteMatchCache::getMaximumSize));
+        metrics.put("hits", gauge(RouteMatchCache::getHitCount));
+        metrics.put("misses", gauge(RouteMatchCache::getMissCount));
+        metrics.put("evictions", gauge(RouteMatchCache::getEvictionCount));
+        metrics.put("hitRatio", new RatioGauge() {
+
+            @Override
+            protected Ratio getRatio() {
+                RouteMatchCache routeMatchCache = getRouteMatchCache();
+                if (routeMatchCache == null) {
+                    return Ratio.of(0, 0);
+                }
+
+                long hits = routeMatchCache.getHitCount();
+
+                return Ratio.of(hits, hits + routeMatchCache.getMissCount());
+            }
+
+        });
+
+        return metrics;
+    }
+
+    private Gauge<Long> gauge(ToLongFunction<RouteMatchCache> function) {
+        return () -> {
+            RouteMatchCache routeMatchCache = getRouteMatchCache();
+
+            return (routeMatchCache != null) ? function.applyAsLong(routeMatchCache) : 0L;
+        };
+    }
+
+    private RouteMatchCache getRouteMatchCache() {
+        Router router = application.getRouter();
+
+        return (router instanceof DefaultRouter) ? ((DefaultRouter) router).getRouteMatchCache() : null;
+    }
+
+}
@@ -32,6 +32,7 @@ import ro.pippo.core.PippoFilter;
 import ro.pippo.core.PippoRuntimeException;
 import ro.pippo.core.PippoServletContextListener;
 import ro.pippo.core.WebServer;
+import ro.pippo.core.util.ExecutorUtils;
 
 import javax.servlet.DispatcherType;
 import javax.servlet.MultipartConfigElement;
@@ -44,6 +45,7 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.EnumSet;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -105,6 +107,16 @@ public class JettyServer extends AbstractWebServer<JettySettings> {
     }
 
     protected Server createServer() {
+        if (getSettings().isVirtualThreads()) {
+            ExecutorService executor = ExecutorUtils.newVirtualThreadPerTaskExecutor("jetty-");
+            if (executor != null) {
+                log.info("Using virtual threads");
+
+                return new Server(new VirtualThreadPool(executor));
+            }
+            log.warn("Virtual threads are not supported by Java {}, using platform threads", System.getProperty("java.version"));
+        }
+
         if (getSettings().getMaxThreads() > 0) {
             int maxThreads = getSettings().getMaxThreads();
             int minThreads = getSettings().getMinThreads();
@@ -235,6 +247,7 @@ public class JettyServer extends AbstractWebServer<JettySettings> {
         EnumSet<DispatcherType> dispatches = EnumSet.of(DispatcherType.REQUEST, DispatcherType.ERROR);
 
         FilterHolder pippoFilterHolder = new FilterHolder(getPippoFilter());
+        pippoFilterHolder.setAsyncSupported(true);
         handler.addFilter(pippoFilterHolder, pippoFilterPath, dispatches);
         log.debug("Using pippo filter for path '{}'", pippoFilterPath);
     }
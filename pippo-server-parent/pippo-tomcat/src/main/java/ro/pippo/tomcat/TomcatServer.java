@@ -20,6 +20,8 @@ import org.apache.catalina.LifecycleException;
 import org.apache.catalina.Wrapper;
 import org.apache.catalina.connector.Connector;
 import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.coyote.ProtocolHandler;
 import org.kohsuke.MetaInfServices;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,9 +30,11 @@ import ro.pippo.core.PippoRuntimeException;
 import ro.pippo.core.PippoServlet;
 import ro.pippo.core.PippoServletContextListener;
 import ro.pippo.core.WebServer;
+import ro.pippo.core.util.ExecutorUtils;
 import ro.pippo.core.util.StringUtils;
 
 import java.io.File;
+import java.util.concurrent.ExecutorService;
 
 /**
  * @author Daniel Jipa
@@ -41,6 +45,7 @@ public class TomcatServer extends AbstractWebServer<TomcatSettings> {
     private static final Logger log = LoggerFactory.getLogger(TomcatServer.class);
 
     private Tomcat tomcat;
+    private ExecutorService virtualThreadExecutor;
 
     @Override
     public void start() {
@@ -57,6 +62,10 @@ public class TomcatServer extends AbstractWebServer<TomcatSettings> {
             enableSSLConnector(tomcat);
         }
 
+        if (getSettings().isVirtualThreads()) {
+            enableVirtualThreads(tomcat);
+        }
+
         File docBase = new File(System.getProperty("java.io.tmpdir"));
         Context context = tomcat.addContext(getSettings().getContextPath(), docBase.getAbsolutePath());
         context.setAllowCasualMultipartParsing(true);
@@ -69,6 +78,7 @@ public class TomcatServer extends AbstractWebServer<TomcatSettings> {
         wrapper.setName(name);
         wrapper.setLoadOnStartup(1);
         wrapper.setServlet(pippoServlet);
+        wrapper.setAsyncSupported(true);
         context.addChild(wrapper);
         context.addServletMapping(pippoFilterPath, name);
 
@@ -103,6 +113,11 @@ public class TomcatServer extends AbstractWebServer<TomcatSettings> {
                 tomcat.stop();
             } catch (Exception e) {
                 throw new PippoRuntimeException(e, "Cannot stop Tomcat Server");
+            } finally {
+                if (virtualThreadExecutor != null) {
+                    virtualThreadExecutor.shutdown();
+                    virtualThreadExecutor = null;
+                }
             }
         }
     }
@@ -121,6 +136,23 @@ public class TomcatServer extends AbstractWebServer<TomcatSettings> {
         tomcat.setPort(getSettings().getPort());
     }
 
+    private void enableVirtualThreads(Tomcat tomcat) {
+        ProtocolHandler protocolHandler = tomcat.getConnector().getProtocolHandler();
+        if (!(protocolHandler instanceof AbstractProtocol)) {
+            log.warn("Cannot use virtual threads with protocol handler '{}'", protocolHandler.getClass().getName());
+            return;
+        }
+
+        virtualThreadExecutor = ExecutorUtils.newVirtualThreadPerTaskExecutor("tomcat-");
+        if (virtualThreadExecutor == null) {
+            log.warn("Virtual threads are not supported by Java {}, using platform threads", System.getProperty("java.version"));
+            return;
+        }
+
+        log.info("Using virtual threads");
+        ((AbstractProtocol<?>) protocolHandler).setExecutor(virtualThreadExecutor);
+    }
+
     private void enableSSLConnector(Tomcat tomcat) {
         log.info("Using https protocol");
         Connector connector = tomcat.getConnector();
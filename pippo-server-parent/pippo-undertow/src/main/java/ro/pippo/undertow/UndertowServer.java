@@ -38,6 +38,7 @@ import ro.pippo.core.PippoFilter;
 import ro.pippo.core.PippoRuntimeException;
 import ro.pippo.core.PippoServletContextListener;
 import ro.pippo.core.WebServer;
+import ro.pippo.core.util.ExecutorUtils;
 import ro.pippo.undertow.websocket.UndertowWebSocketFilter;
 
 import javax.net.ssl.KeyManager;
@@ -51,6 +52,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
 import java.security.KeyStore;
+import java.util.concurrent.ExecutorService;
 
 /**
  * An implementation of WebServer based on Undertow.
@@ -66,6 +68,7 @@ public class UndertowServer extends AbstractWebServer<UndertowSettings> {
 
     private Undertow server;
     private DeploymentManager pippoDeploymentManager;
+    private ExecutorService virtualThreadExecutor;
 
     @Override
     public void start() {
@@ -98,6 +101,11 @@ public class UndertowServer extends AbstractWebServer<UndertowSettings> {
                 pippoDeploymentManager.undeploy();
             } catch (Exception e) {
                 throw new PippoRuntimeException(e, "Cannot stop Undertow Server");
+            } finally {
+                if (virtualThreadExecutor != null) {
+                    virtualThreadExecutor.shutdown();
+                    virtualThreadExecutor = null;
+                }
             }
         }
     }
@@ -176,6 +184,18 @@ public class UndertowServer extends AbstractWebServer<UndertowSettings> {
         info.setContextPath(getSettings().getContextPath());
         info.setIgnoreFlush(true);
 
+        if (getSettings().isVirtualThreads()) {
+            virtualThreadExecutor = ExecutorUtils.newVirtualThreadPerTaskExecutor("undertow-");
+            if (virtualThreadExecutor != null) {
+                log.info("Using virtual threads");
+                // run the (blocking) servlet requests and the async tasks on virtual threads instead of the XNIO worker threads
+                info.setExecutor(virtualThreadExecutor);
+                info.setAsyncExecutor(virtualThreadExecutor);
+            } else {
+                log.warn("Virtual threads are not supported by Java {}, using platform threads", System.getProperty("java.version"));
+            }
+        }
+
         // inject application as context attribute
         info.addServletContextAttribute(PIPPO_APPLICATION, getApplication());
 
@@ -206,7 +226,9 @@ public class UndertowServer extends AbstractWebServer<UndertowSettings> {
             pippoFilterPath = "/*"; // default value
         }
 
-        info.addFilter(new FilterInfo("PippoFilter", PippoFilter.class, new ImmediateInstanceFactory<>(getPippoFilter())));
+        FilterInfo filterInfo = new FilterInfo("PippoFilter", PippoFilter.class, new ImmediateInstanceFactory<>(getPippoFilter()));
+        filterInfo.setAsyncSupported(true);
+        info.addFilter(filterInfo);
         info.addFilterUrlMapping("PippoFilter", pippoFilterPath, DispatcherType.REQUEST);
         log.debug("Using pippo filter for path '{}'", pippoFilterPath);
     }
@@ -24,6 +24,7 @@ import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ro.pippo.core.PippoRuntimeException;
+import ro.pippo.session.BinarySessionDataTranscoder;
 import ro.pippo.session.SerializationSessionDataTranscoder;
 import ro.pippo.session.SessionDataStorage;
 import ro.pippo.session.SessionDataTranscoder;
@@ -32,6 +33,8 @@ import ro.pippo.session.DefaultSessionData;
 
 /**
  * SessionDataStorage implementation with JDBC.
+ * A {@link BinarySessionDataTranscoder} (for example {@link ro.pippo.session.CompactSessionDataTranscoder})
+ * stores the session as bytes, so the data column must be a {@code BLOB} (the default is a {@code CLOB}).
  *
  * @author Herman Barrantes
  */
@@ -44,12 +47,14 @@ public class JDBCSessionDataStorage implements SessionDataStorage {
     public static final String INSERT = "insert into session (id, time, data) values (?, ?, ?)";
     public static final String UPDATE = "update session set time = ?, data = ? where id = ?";
     public static final String DELETE = "delete from session where id = ?";
+    public static final String TOUCH = "update session set time = ? where id = ?";
     // Variables
     private final DataSource dataSource;
     private final String select;
     private final String insert;
     private final String update;
     private final String delete;
+    private final String touch;
     private final SessionDataTranscoder transcoder;
 
     public JDBCSessionDataStorage(DataSource dataSource) {
@@ -61,11 +66,16 @@ public class JDBCSessionDataStorage implements SessionDataStorage {
     }
 
     public JDBCSessionDataStorage(DataSource dataSource, String select, String insert, String update, String delete, SessionDataTranscoder transcoder) {
+        this(dataSource, select, insert, update, delete, TOUCH, transcoder);
+    }
+
+    public JDBCSessionDataStorage(DataSource dataSource, String select, String insert, String update, String delete, String touch, SessionDataTranscoder transcoder) {
         this.dataSource = dataSource;
         this.select = select;
         this.insert = insert;
         this.update = update;
         this.delete = delete;
+        this.touch = touch;
         this.transcoder = transcoder;
     }
 
@@ -78,7 +88,9 @@ public class JDBCSessionDataStorage implements SessionDataStorage {
     public void save(SessionData sessionData) {
         String id = sessionData.getId();
         Timestamp time = new Timestamp(System.currentTimeMillis());
-        String data = transcoder.encode(sessionData);
+        Object data = (transcoder instanceof BinarySessionDataTranscoder)
+            ? ((BinarySessionDataTranscoder) transcoder).encodeToBytes(sessionData)
+            : transcoder.encode(sessionData);
         if (executeUpdate(update, time, data, id) == 0) {
             executeUpdate(insert, id, time, data);
         }
@@ -86,6 +98,13 @@ public class JDBCSessionDataStorage implements SessionDataStorage {
 
     @Override
     public SessionData get(String sessionId) {
+        if (transcoder instanceof BinarySessionDataTranscoder) {
+            byte[] sessionStored = executeSelectBytes(select, sessionId);
+            if (sessionStored == null) {
+                return null;
+            }
+            return ((BinarySessionDataTranscoder) transcoder).decodeFromBytes(sessionStored);
+        }
         String sessionStored = executeSelect(select, sessionId);
         if (sessionStored == null) {
             return null;
@@ -99,7 +118,23 @@ public class JDBCSessionDataStorage implements SessionDataStorage {
         executeUpdate(delete, sessionId);
     }
 
+    @Override
+    public void touch(SessionData sessionData) {
+        Timestamp time = new Timestamp(System.currentTimeMillis());
+        if (executeUpdate(touch, time, sessionData.getId()) == 0) {
+            save(sessionData);
+        }
+    }
+
     protected String executeSelect(String query, Object... parameters) {
+        return executeSelect(query, resultSet -> resultSet.getString(1), parameters);
+    }
+
+    protected byte[] executeSelectBytes(String query, Object... parameters) {
+        return executeSelect(query, resultSet -> resultSet.getBytes(1), parameters);
+    }
+
+    private <T> T executeSelect(String query, ColumnReader<T> reader, Object... parameters) {
         Connection connection = null;
         PreparedStatement preparedStatement = null;
         ResultSet resultSet = null;
@@ -111,7 +146,7 @@ public class JDBCSessionDataStorage implements SessionDataStorage {
             }
             resultSet = preparedStatement.executeQuery();
             if (resultSet.next()) {
-                return resultSet.getString(1);
+                return reader.read(resultSet);
             }
         } catch (SQLException ex) {
             log.error("Error executing the statement", ex);
@@ -153,4 +188,10 @@ public class JDBCSessionDataStorage implements SessionDataStorage {
         }
     }
 
+    private interface ColumnReader<T> {
+
+        T read(ResultSet resultSet) throws SQLException;
+
+    }
+
 }
@@ -25,6 +25,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import ro.pippo.session.CompactSessionDataTranscoder;
 import ro.pippo.session.SessionData;
 
 /**
@@ -141,4 +142,46 @@ public class JDBCSessionDataStorageTest {
         assertNull(deleted);
     }
 
+    /**
+     * Test of touch method, of class JDBCSessionDataStorage.
+     */
+    @Test
+    public void testTouch() {
+        System.out.println("touch");
+        JDBCSessionDataStorage instance = new JDBCSessionDataStorage(dataSource);
+        SessionData sessionData = instance.create();
+        String sessionId = sessionData.getId();
+        sessionData.put(KEY, VALUE);
+        instance.save(sessionData);
+        instance.touch(sessionData);
+        SessionData touched = instance.get(sessionId);
+        assertEquals(sessionData, touched);
+        String value = touched.get(KEY);
+        assertEquals(VALUE, value);
+    }
+
+    /**
+     * Test of save and get methods with a binary transcoder, of class JDBCSessionDataStorage.
+     */
+    @Test
+    public void testSaveBinary() {
+        System.out.println("saveBinary");
+        JDBCSessionDataStorage instance = new JDBCSessionDataStorage(dataSource,
+                JDBCSessionDataStorage.SELECT.replace("session", "session_binary"),
+                JDBCSessionDataStorage.INSERT.replace("session", "session_binary"),
+                JDBCSessionDataStorage.UPDATE.replace("session", "session_binary"),
+                JDBCSessionDataStorage.DELETE.replace("session", "session_binary"),
+                new CompactSessionDataTranscoder());
+        SessionData sessionData = instance.create();
+        String sessionId = sessionData.getId();
+        sessionData.put(KEY, VALUE);
+        instance.save(sessionData);
+        sessionData.put(KEY, VALUE + VALUE);
+        instance.save(sessionData);
+        SessionData saved = instance.get(sessionId);
+        assertEquals(sessionData, saved);
+        String value = saved.get(KEY);
+        assertEquals(VALUE + VALUE, value);
+    }
+
 }
@@ -3,4 +3,10 @@ CREATE TABLE IF NOT EXISTS session (
     time TIMESTAMP NOT NULL,
     data CLOB NOT NULL,
     PRIMARY KEY(id)
-);
\ No newline at end of file
+);
+CREATE TABLE IF NOT EXISTS session_binary (
+    id VARCHAR2(32) NOT NULL,
+    time TIMESTAMP NOT NULL,
+    data BLOB NOT NULL,
+    PRIMARY KEY(id)
+);
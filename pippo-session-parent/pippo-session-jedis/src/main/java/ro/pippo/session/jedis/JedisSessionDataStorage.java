@@ -15,12 +15,15 @@
  */
 package ro.pippo.session.jedis;
 
+import java.nio.charset.StandardCharsets;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import ro.pippo.session.*;
 
 /**
  * SessionDataStorage implementation with Jedis.
+ * A {@link BinarySessionDataTranscoder} (for example {@link CompactSessionDataTranscoder})
+ * stores the session as bytes, without the Base64 text encoding.
  *
  * @author Herman Barrantes
  */
@@ -72,21 +75,34 @@ public class JedisSessionDataStorage implements SessionDataStorage {
     @Override
     public void save(SessionData sessionData) {
         try (Jedis jedis = sessions.getResource()) {
-            jedis.setex(
-                    sessionData.getId(),
-                    idleTime,
-                    transcoder.encode(sessionData));
+            if (transcoder instanceof BinarySessionDataTranscoder) {
+                jedis.setex(
+                        toBytes(sessionData.getId()),
+                        idleTime,
+                        ((BinarySessionDataTranscoder) transcoder).encodeToBytes(sessionData));
+            } else {
+                jedis.setex(
+                        sessionData.getId(),
+                        idleTime,
+                        transcoder.encode(sessionData));
+            }
         }
     }
 
     @Override
     public SessionData get(String sessionId) {
         try (Jedis jedis = sessions.getResource()) {
+            if (transcoder instanceof BinarySessionDataTranscoder) {
+                byte[] sessionStored = jedis.get(toBytes(sessionId));
+                if (sessionStored == null) {
+                    return null;
+                }
+                return ((BinarySessionDataTranscoder) transcoder).decodeFromBytes(sessionStored);
+            }
             String sessionStored = jedis.get(sessionId);
             if (sessionStored == null) {
                 return null;
             }
-            jedis.expire(sessionId, idleTime);
             SessionData sessionData = transcoder.decode(sessionStored);
             return sessionData;
         }
@@ -99,4 +115,15 @@ public class JedisSessionDataStorage implements SessionDataStorage {
         }
     }
 
+    @Override
+    public void touch(SessionData sessionData) {
+        try (Jedis jedis = sessions.getResource()) {
+            jedis.expire(sessionData.getId(), idleTime);
+        }
+    }
+
+    private static byte[] toBytes(String sessionId) {
+        return sessionId.getBytes(StandardCharsets.UTF_8);
+    }
+
 }
@@ -22,6 +22,7 @@ import org.junit.Test;
 import static org.junit.Assert.*;
 import redis.clients.jedis.JedisPool;
 import redis.embedded.RedisServer;
+import ro.pippo.session.CompactSessionDataTranscoder;
 import ro.pippo.session.SessionData;
 
 /**
@@ -130,4 +131,40 @@ public class JedisSessionDataStorageTest {
         assertNull(deleted);
     }
 
+    /**
+     * Test of touch method, of class JedisSessionDataStorage.
+     */
+    @Test
+    public void testTouch() {
+        System.out.println("touch");
+        JedisSessionDataStorage instance = new JedisSessionDataStorage(jedisPool);
+        SessionData sessionData = instance.create();
+        String sessionId = sessionData.getId();
+        sessionData.put(KEY, VALUE);
+        instance.save(sessionData);
+        instance.touch(sessionData);
+        SessionData touched = instance.get(sessionId);
+        assertEquals(sessionData, touched);
+        String value = touched.get(KEY);
+        assertEquals(VALUE, value);
+    }
+
+    /**
+     * Test of save and get methods with a binary transcoder, of class JedisSessionDataStorage.
+     */
+    @Test
+    public void testSaveBinary() {
+        System.out.println("saveBinary");
+        JedisSessionDataStorage instance = new JedisSessionDataStorage(jedisPool, 60, new CompactSessionDataTranscoder());
+        SessionData sessionData = instance.create();
+        String sessionId = sessionData.getId();
+        sessionData.put(KEY, VALUE);
+        instance.save(sessionData);
+        instance.touch(sessionData);
+        SessionData saved = instance.get(sessionId);
+        assertEquals(sessionData, saved);
+        String value = saved.get(KEY);
+        assertEquals(VALUE, value);
+    }
+
 }
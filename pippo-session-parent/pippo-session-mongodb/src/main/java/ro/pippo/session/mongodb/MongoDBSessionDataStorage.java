@@ -163,4 +163,11 @@ public class MongoDBSessionDataStorage implements SessionDataStorage {
         this.sessions.deleteOne(eq(SESSION_ID, sessionId));
     }
 
+    @Override
+    public void touch(SessionData sessionData) {
+        this.sessions.updateOne(
+                eq(SESSION_ID, sessionData.getId()),
+                set(SESSION_TTL, new Date()));
+    }
+
 }
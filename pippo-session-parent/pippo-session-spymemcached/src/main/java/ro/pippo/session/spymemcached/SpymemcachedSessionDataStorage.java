@@ -16,12 +16,16 @@
 package ro.pippo.session.spymemcached;
 
 import net.spy.memcached.MemcachedClient;
+import ro.pippo.session.BinarySessionDataTranscoder;
 import ro.pippo.session.DefaultSessionData;
 import ro.pippo.session.SessionData;
 import ro.pippo.session.SessionDataStorage;
 
 /**
  * SessionDataStorage implementation with Spymemcached.
+ * By default the session is stored with the serialization of the client.
+ * A {@link BinarySessionDataTranscoder} (for example {@link ro.pippo.session.CompactSessionDataTranscoder})
+ * stores the session as bytes.
  *
  * @author Herman Barrantes
  */
@@ -30,6 +34,7 @@ public class SpymemcachedSessionDataStorage implements SessionDataStorage {
     private static final int IDLE_TIME = DefaultSessionData.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS;
     private final MemcachedClient sessions;
     private final int idleTime;
+    private final BinarySessionDataTranscoder transcoder;
 
     /**
      * Manage session with a SpyMemcached client and 30 minutes idle time.
@@ -50,8 +55,21 @@ public class SpymemcachedSessionDataStorage implements SessionDataStorage {
      * @param idleTime idle time of the session in seconds
      */
     public SpymemcachedSessionDataStorage(final MemcachedClient client, int idleTime) {
+        this(client, idleTime, null);
+    }
+
+    /**
+     * Manage session with a SpyMemcached client, custom idle time in
+     * seconds and transcoder indicated.
+     *
+     * @param client memcached client
+     * @param idleTime idle time of the session in seconds
+     * @param transcoder transcoder or {@code null} for the serialization of the client
+     */
+    public SpymemcachedSessionDataStorage(final MemcachedClient client, int idleTime, BinarySessionDataTranscoder transcoder) {
         this.sessions = client;
         this.idleTime = idleTime;
+        this.transcoder = transcoder;
     }
 
     @Override
@@ -61,12 +79,12 @@ public class SpymemcachedSessionDataStorage implements SessionDataStorage {
 
     @Override
     public void save(SessionData sessionData) {
-        this.sessions.set(sessionData.getId(), idleTime, sessionData);
+        this.sessions.set(sessionData.getId(), idleTime, encode(sessionData));
     }
 
     @Override
     public SessionData get(String sessionId) {
-        return (SessionData) this.sessions.get(sessionId);
+        return decode(this.sessions.get(sessionId));
     }
 
     @Override
@@ -74,4 +92,21 @@ public class SpymemcachedSessionDataStorage implements SessionDataStorage {
         this.sessions.delete(sessionId);
     }
 
+    @Override
+    public void touch(SessionData sessionData) {
+        this.sessions.touch(sessionData.getId(), idleTime);
+    }
+
+    private Object encode(SessionData sessionData) {
+        return (transcoder != null) ? transcoder.encodeToBytes(sessionData) : sessionData;
+    }
+
+    private SessionData decode(Object sessionStored) {
+        if (sessionStored instanceof byte[] && transcoder != null) {
+            return transcoder.decodeFromBytes((byte[]) sessionStored);
+        }
+
+        return (SessionData) sessionStored;
+    }
+
 }
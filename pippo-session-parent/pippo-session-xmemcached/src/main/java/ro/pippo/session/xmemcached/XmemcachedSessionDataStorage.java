@@ -20,12 +20,16 @@ import net.rubyeye.xmemcached.MemcachedClient;
 import net.rubyeye.xmemcached.exception.MemcachedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ro.pippo.session.BinarySessionDataTranscoder;
 import ro.pippo.session.DefaultSessionData;
 import ro.pippo.session.SessionData;
 import ro.pippo.session.SessionDataStorage;
 
 /**
  * SessionDataStorage implementation with Xmemcached.
+ * By default the session is stored with the serialization of the client.
+ * A {@link BinarySessionDataTranscoder} (for example {@link ro.pippo.session.CompactSessionDataTranscoder})
+ * stores the session as bytes.
  *
  * @author Herman Barrantes
  */
@@ -35,6 +39,7 @@ public class XmemcachedSessionDataStorage implements SessionDataStorage {
     private static final int IDLE_TIME = DefaultSessionData.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS;
     private final MemcachedClient sessions;
     private final int idleTime;
+    private final BinarySessionDataTranscoder transcoder;
 
     /**
      * Manage session with a SpyMemcached client and 30 minutes idle time.
@@ -56,8 +61,21 @@ public class XmemcachedSessionDataStorage implements SessionDataStorage {
      * @param idleTime idle time of the session in seconds
      */
     public XmemcachedSessionDataStorage(final MemcachedClient client, int idleTime) {
+        this(client, idleTime, null);
+    }
+
+    /**
+     * Manage session with a Xmemcached client, custom idle time in
+     * seconds and transcoder indicated.
+     *
+     * @param client memcached client
+     * @param idleTime idle time of the session in seconds
+     * @param transcoder transcoder or {@code null} for the serialization of the client
+     */
+    public XmemcachedSessionDataStorage(final MemcachedClient client, int idleTime, BinarySessionDataTranscoder transcoder) {
         this.sessions = client;
         this.idleTime = idleTime;
+        this.transcoder = transcoder;
     }
 
     @Override
@@ -68,7 +86,7 @@ public class XmemcachedSessionDataStorage implements SessionDataStorage {
     @Override
     public void save(SessionData sessionData) {
         try {
-            this.sessions.set(sessionData.getId(), idleTime, sessionData);
+            this.sessions.set(sessionData.getId(), idleTime, encode(sessionData));
         } catch (TimeoutException | InterruptedException | MemcachedException ex) {
             log.error("An error occurred when saved SessionData.", ex);
         }
@@ -77,7 +95,7 @@ public class XmemcachedSessionDataStorage implements SessionDataStorage {
     @Override
     public SessionData get(String sessionId) {
         try {
-            return this.sessions.get(sessionId);
+            return decode(this.sessions.get(sessionId));
         } catch (TimeoutException | InterruptedException | MemcachedException ex) {
             log.error("An error occurred when get SessionData.", ex);
             return null;
@@ -93,4 +111,25 @@ public class XmemcachedSessionDataStorage implements SessionDataStorage {
         }
     }
 
+    @Override
+    public void touch(SessionData sessionData) {
+        try {
+            this.sessions.touch(sessionData.getId(), idleTime);
+        } catch (TimeoutException | InterruptedException | MemcachedException ex) {
+            log.error("An error occurred when touched SessionData.", ex);
+        }
+    }
+
+    private Object encode(SessionData sessionData) {
+        return (transcoder != null) ? transcoder.encodeToBytes(sessionData) : sessionData;
+    }
+
+    private SessionData decode(Object sessionStored) {
+        if (sessionStored instanceof byte[] && transcoder != null) {
+            return transcoder.decodeFromBytes((byte[]) sessionStored);
+        }
+
+        return (SessionData) sessionStored;
+    }
+
 }
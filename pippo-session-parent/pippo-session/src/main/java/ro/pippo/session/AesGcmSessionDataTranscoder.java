@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.session;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ro.pippo.core.PippoRuntimeException;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * A {@link BinarySessionDataTranscoder} that encrypts the session with AES-GCM (authenticated encryption),
+ * so the session is encoded once (with a {@link BinarySessionDataTranscoder},
+ * by default {@link CompactSessionDataTranscoder}) and a tampered session can't be decoded.
+ * It's a good choice for {@code CookieSessionDataStorage}.
+ * <p>
+ * The format is {@code [key id (1 byte)][nonce (12 bytes)][encrypted data and tag]}.
+ * A random nonce is generated for each encode.
+ * The key id allows the rotation of the keys: the sessions are encrypted with the secret key and
+ * decrypted with the key identified by the key id (the secret key or a decryption key, see {@link Builder}).
+ * The text representation is the URL safe Base64 (without padding), valid as a cookie value.
+ * </p>
+ * <p>
+ * A session that can't be decrypted (tampered or encrypted with an unknown key) is decoded to {@code null}.
+ * </p>
+ */
+public class AesGcmSessionDataTranscoder implements BinarySessionDataTranscoder {
+
+    private static final Logger log = LoggerFactory.getLogger(AesGcmSessionDataTranscoder.class);
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int NONCE_LENGTH = 12;
+    private static final int TAG_LENGTH = 16;
+
+    private final int keyId;
+    private final SecretKey[] keys;
+    private final BinarySessionDataTranscoder transcoder;
+    private final SecureRandom random;
+    private final ThreadLocal<Cipher> ciphers;
+
+    private AesGcmSessionDataTranscoder(int keyId, SecretKey[] keys, BinarySessionDataTranscoder transcoder) {
+        this.keyId = keyId;
+        this.keys = keys;
+        this.transcoder = transcoder;
+
+        random = new SecureRandom();
+        ciphers = ThreadLocal.withInitial(AesGcmSessionDataTranscoder::createCipher);
+    }
+
+    @Override
+    public byte[] encodeToBytes(SessionData sessionData) {
+        byte[] data = transcoder.encodeToBytes(sessionData);
+
+        byte[] encrypted = new byte[1 + NONCE_LENGTH + data.length + TAG_LENGTH];
+        encrypted[0] = (byte) keyId;
+        byte[] nonce = new byte[NONCE_LENGTH];
+        random.nextBytes(nonce);
+        System.arraycopy(nonce, 0, encrypted, 1, NONCE_LENGTH);
+
+        try {
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.ENCRYPT_MODE, keys[keyId], new GCMParameterSpec(TAG_LENGTH * 8, nonce));
+            cipher.updateAAD(encrypted, 0, 1);
+            cipher.doFinal(data, 0, data.length, encrypted, 1 + NONCE_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new PippoRuntimeException(e);
+        }
+
+        return encrypted;
+    }
+
+    @Override
+    public SessionData decodeFromBytes(byte[] data) {
+        if (data.length < 1 + NONCE_LENGTH + TAG_LENGTH) {
+            log.debug("Cannot decrypt session: too short");
+            return null;
+        }
+
+        SecretKey key = keys[data[0] & 0xFF];
+        if (key == null) {
+            log.debug("Cannot decrypt session: unknown key id {}", data[0] & 0xFF);
+            return null;
+        }
+
+        byte[] decrypted;
+        try {
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, data, 1, NONCE_LENGTH));
+            cipher.updateAAD(data, 0, 1);
+            decrypted = cipher.doFinal(data, 1 + NONCE_LENGTH, data.length - 1 - NONCE_LENGTH);
+        } catch (GeneralSecurityException e) {
+            log.debug("Cannot decrypt session: {}", e.toString());
+            return null;
+        }
+
+        return transcoder.decodeFromBytes(decrypted);
+    }
+
+    @Override
+    public String encode(SessionData sessionData) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(encodeToBytes(sessionData));
+    }
+
+    @Override
+    public SessionData decode(String data) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(data);
+        } catch (IllegalArgumentException e) {
+            log.debug("Cannot decrypt session: {}", e.getMessage());
+            return null;
+        }
+
+        return decodeFromBytes(bytes);
+    }
+
+    private static Cipher createCipher() {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new PippoRuntimeException(e);
+        }
+    }
+
+    public static class Builder {
+
+        private int keyId = -1;
+        private SecretKey[] keys = new SecretKey[256];
+        private BinarySessionDataTranscoder transcoder;
+
+        /**
+         * The key used to encrypt (and decrypt) the sessions.
+         *
+         * @param keyId the id of the key (0 - 255)
+         * @param secretKey the key (16, 24 or 32 bytes)
+         */
+        public Builder secretKey(int keyId, byte[] secretKey) {
+            this.keyId = keyId;
+            return decryptionKey(keyId, secretKey);
+        }
+
+        public Builder secretKey(int keyId, String secretKey) {
+            return secretKey(keyId, secretKey.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * An additional key used to decrypt the sessions (for example the previous secret key).
+         *
+         * @param keyId the id of the key (0 - 255)
+         * @param secretKey the key (16, 24 or 32 bytes)
+         */
+        public Builder decryptionKey(int keyId, byte[] secretKey) {
+            if (keyId < 0 || keyId > 255) {
+                throw new PippoRuntimeException("Key id must be between 0 and 255");
+            }
+
+            int length = secretKey.length;
+            if (length != 16 && length != 24 && length != 32) {
+                throw new PippoRuntimeException("Key must have 16, 24 or 32 bytes");
+            }
+
+            keys[keyId] = new SecretKeySpec(secretKey, "AES");
+            return this;
+        }
+
+        public Builder decryptionKey(int keyId, String secretKey) {
+            return decryptionKey(keyId, secretKey.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public Builder transcoder(BinarySessionDataTranscoder transcoder) {
+            this.transcoder = transcoder;
+            return this;
+        }
+
+        public AesGcmSessionDataTranscoder build() {
+            if (keyId < 0) {
+                throw new PippoRuntimeException("secretKey is required");
+            }
+
+            if (transcoder == null) {
+                transcoder = new CompactSessionDataTranscoder();
+            }
+
+            return new AesGcmSessionDataTranscoder(keyId, keys.clone(), transcoder);
+        }
+
+    }
+
+}
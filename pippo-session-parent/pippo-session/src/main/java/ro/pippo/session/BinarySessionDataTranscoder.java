@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.session;
+
+import java.util.Base64;
+
+/**
+ * A {@link SessionDataTranscoder} that encodes {@link SessionData}s to bytes.
+ * The storages that accept bytes (for example Redis, Memcached or a BLOB column) use
+ * {@link #encodeToBytes(SessionData)} and {@link #decodeFromBytes(byte[])} directly,
+ * the other storages use the Base64 text representation.
+ */
+public interface BinarySessionDataTranscoder extends SessionDataTranscoder {
+
+    byte[] encodeToBytes(SessionData sessionData);
+
+    SessionData decodeFromBytes(byte[] data);
+
+    @Override
+    default String encode(SessionData sessionData) {
+        return Base64.getEncoder().encodeToString(encodeToBytes(sessionData));
+    }
+
+    @Override
+    default SessionData decode(String data) {
+        return decodeFromBytes(Base64.getDecoder().decode(data));
+    }
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.session;
+
+import ro.pippo.core.PippoRuntimeException;
+import ro.pippo.core.util.WhitelistObjectInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * A {@link BinarySessionDataTranscoder} with a compact binary format, without the class descriptors
+ * of the java serialization.
+ * The format contains the id, the timestamps, the max inactive interval and the attributes.
+ * The {@code String}s and the boxed primitives are written with a type tag,
+ * any other attribute value is encoded with a fallback {@link ObjectCodec}
+ * (by default the java serialization, see {@link SerializationObjectCodec}).
+ * The data is always decoded to a {@link DefaultSessionData}.
+ */
+public class CompactSessionDataTranscoder implements BinarySessionDataTranscoder {
+
+    private static final byte VERSION = 1;
+
+    private static final byte OBJECT = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte FLOAT = 6;
+    private static final byte SHORT = 7;
+    private static final byte BYTE = 8;
+    private static final byte CHARACTER = 9;
+
+    private final ObjectCodec fallbackCodec;
+
+    public CompactSessionDataTranscoder() {
+        this(new SerializationObjectCodec());
+    }
+
+    public CompactSessionDataTranscoder(ObjectCodec fallbackCodec) {
+        this.fallbackCodec = fallbackCodec;
+    }
+
+    @Override
+    public byte[] encodeToBytes(SessionData sessionData) {
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream(256);
+             DataOutputStream output = new DataOutputStream(outputStream)) {
+            output.writeByte(VERSION);
+            writeString(output, sessionData.getId());
+            output.writeLong(sessionData.getCreationTime());
+            output.writeLong(sessionData.getLastAccessedTime());
+            output.writeInt(sessionData.getMaxInactiveInterval());
+
+            Set<String> names = sessionData.getNames();
+            writeLength(output, names.size());
+            for (String name : names) {
+                writeString(output, name);
+                writeValue(output, sessionData.get(name));
+            }
+            output.flush();
+
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e);
+        }
+    }
+
+    @Override
+    public SessionData decodeFromBytes(byte[] data) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = input.readByte();
+            if (version != VERSION) {
+                throw new PippoRuntimeException("Unknown session format version {}", version);
+            }
+
+            DefaultSessionData sessionData = new DefaultSessionData(readString(input));
+            sessionData.setCreationTime(input.readLong());
+            sessionData.setLastAccessedTime(input.readLong());
+            sessionData.setMaxInactiveInterval(input.readInt());
+
+            int count = readLength(input);
+            if (count > input.available()) {
+                throw new PippoRuntimeException("Malformed attributes count {}", count);
+            }
+
+            for (int i = 0; i < count; i++) {
+                String name = readString(input);
+                sessionData.put(name, readValue(input));
+            }
+            sessionData.setDirty(false);
+
+            return sessionData;
+        } catch (IOException e) {
+            throw new PippoRuntimeException(e, "Cannot decode session. A new one will be created.");
+        }
+    }
+
+    private void writeValue(DataOutputStream output, Object value) throws IOException {
+        if (value instanceof String) {
+            output.writeByte(STRING);
+            writeString(output, (String) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            output.writeByte(CHARACTER);
+            output.writeChar((Character) value);
+        } else {
+            output.writeByte(OBJECT);
+            byte[] bytes = fallbackCodec.encode(value);
+            writeLength(output, bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    private Object readValue(DataInputStream input) throws IOException {
+        byte tag = input.readByte();
+        switch (tag) {
+            case STRING:
+                return readString(input);
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case BOOLEAN:
+                return input.readBoolean();
+            case DOUBLE:
+                return input.readDouble();
+            case FLOAT:
+                return input.readFloat();
+            case SHORT:
+                return input.readShort();
+            case BYTE:
+                return input.readByte();
+            case CHARACTER:
+                return input.readChar();
+            case OBJECT:
+                return fallbackCodec.decode(readBytes(input));
+            default:
+                throw new PippoRuntimeException("Unknown type tag {}", tag);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeLength(output, bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        return new String(readBytes(input), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a length prefixed array of bytes.
+     * The length is checked against the remaining input, so a malformed length doesn't allocate a huge array.
+     */
+    private static byte[] readBytes(DataInputStream input) throws IOException {
+        int length = readLength(input);
+        if (length > input.available()) {
+            throw new PippoRuntimeException("Malformed length {} (only {} bytes available)", length, input.available());
+        }
+
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+
+        return bytes;
+    }
+
+    /**
+     * Writes a non negative int as a variable length number (one byte for values less than 128).
+     */
+    private static void writeLength(DataOutputStream output, int length) throws IOException {
+        while ((length & ~0x7F) != 0) {
+            output.writeByte((length & 0x7F) | 0x80);
+            length >>>= 7;
+        }
+        output.writeByte(length);
+    }
+
+    private static int readLength(DataInputStream input) throws IOException {
+        int length = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = input.readByte();
+            length |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (length < 0) {
+                    break;
+                }
+
+                return length;
+            }
+        }
+
+        throw new PippoRuntimeException("Malformed length");
+    }
+
+    /**
+     * Encodes the attribute values that are not {@code String}s or boxed primitives.
+     */
+    public interface ObjectCodec {
+
+        byte[] encode(Object value);
+
+        Object decode(byte[] data);
+
+    }
+
+    /**
+     * An {@link ObjectCodec} that uses the java serialization.
+     * The classes are checked against the whitelist of {@link WhitelistObjectInputStream} on decode.
+     */
+    public static class SerializationObjectCodec implements ObjectCodec {
+
+        @Override
+        public byte[] encode(Object value) {
+            try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                 ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+                objectOutputStream.writeObject(value);
+                objectOutputStream.flush();
+
+                return outputStream.toByteArray();
+            } catch (IOException e) {
+                throw new PippoRuntimeException(e);
+            }
+        }
+
+        @Override
+        public Object decode(byte[] data) {
+            try (ByteArrayInputStream inputStream = new ByteArrayInputStream(data);
+                 WhitelistObjectInputStream objectInputStream = new WhitelistObjectInputStream(inputStream)) {
+                return objectInputStream.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                throw new PippoRuntimeException(e);
+            }
+        }
+
+    }
+
+}
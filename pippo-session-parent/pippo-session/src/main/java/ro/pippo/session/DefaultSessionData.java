@@ -15,6 +15,8 @@
  */
 package ro.pippo.session;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -40,11 +42,21 @@ public class DefaultSessionData implements SessionData
     private long lastAccessedTime;
     private int maxInactiveInterval;
 
+    private transient boolean dirty;
+
     public DefaultSessionData() {
-        id = UUID.randomUUID().toString().replace( "-", "");
+        this(UUID.randomUUID().toString().replace( "-", ""));
+    }
+
+    /**
+     * Used by the transcoders to restore a session.
+     */
+    DefaultSessionData(String id) {
+        this.id = id;
         attributes = new HashMap<>();
         creationTime = lastAccessedTime = System.currentTimeMillis();
         maxInactiveInterval = DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS;
+        dirty = true;
     }
 
     @Override
@@ -52,9 +64,19 @@ public class DefaultSessionData implements SessionData
         return id;
     }
 
+    /**
+     * A mutable value (for example a list or a flash) could be modified in place by the caller,
+     * so the data becomes dirty.
+     */
+    @Override
     @SuppressWarnings("unchecked")
     public <T> T get(String name) {
-        return (T) attributes.get(name);
+        Object value = attributes.get(name);
+        if (value != null && !isImmutable(value)) {
+            dirty = true;
+        }
+
+        return (T) value;
     }
 
     @Override
@@ -68,13 +90,17 @@ public class DefaultSessionData implements SessionData
             remove(name);
         } else {
             attributes.put(name, value);
+            dirty = true;
         }
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T remove(String name) {
-        T t = get(name);
-        attributes.remove(name);
+        T t = (T) attributes.remove(name);
+        if (t != null) {
+            dirty = true;
+        }
 
         return t;
     }
@@ -87,6 +113,7 @@ public class DefaultSessionData implements SessionData
     @Override
     public void setCreationTime(long creationTime) {
         this.creationTime = creationTime;
+        dirty = true;
     }
 
     @Override
@@ -101,7 +128,10 @@ public class DefaultSessionData implements SessionData
 
     @Override
     public void setMaxInactiveInterval(int interval) {
-        this.maxInactiveInterval = interval;
+        if (maxInactiveInterval != interval) {
+            maxInactiveInterval = interval;
+            dirty = true;
+        }
     }
 
     @Override
@@ -114,6 +144,16 @@ public class DefaultSessionData implements SessionData
         return isExpired(System.currentTimeMillis());
     }
 
+    @Override
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    @Override
+    public void setDirty(boolean dirty) {
+        this.dirty = dirty;
+    }
+
     boolean isExpired(long now) {
         if (maxInactiveInterval < 0) {
             return false;
@@ -122,6 +162,21 @@ public class DefaultSessionData implements SessionData
         return now - TimeUnit.SECONDS.toMillis( maxInactiveInterval) >= lastAccessedTime;
     }
 
+    private static boolean isImmutable(Object value) {
+        return value instanceof String
+            || value instanceof Integer
+            || value instanceof Long
+            || value instanceof Boolean
+            || value instanceof Double
+            || value instanceof Float
+            || value instanceof Short
+            || value instanceof Byte
+            || value instanceof Character
+            || value instanceof BigInteger
+            || value instanceof BigDecimal
+            || value instanceof Enum;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -15,18 +15,83 @@
  */
 package ro.pippo.session;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ro.pippo.core.util.ExecutorUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Keeps the sessions in memory.
+ * The expired sessions are removed in bulk at a fixed interval, by default by the request that
+ * saves a session after the interval elapsed (no thread is started).
+ * Optionally, the sweep runs on a sweeper (a single daemon thread) that must be stopped with {@link #destroy()}.
+ * Optionally, the number of sessions is bounded and the least recently accessed session
+ * is evicted when a new session doesn't fit (the sessions are kept in access order, so the eviction is O(1)).
+ * The counters ({@link #getActiveCount()}, {@link #getCreatedCount()}, {@link #getExpiredCount()},
+ * {@link #getEvictedCount()}) can be exposed as metrics.
+ *
  * @author Decebal Suiu
  */
 public class MemorySessionDataStorage implements SessionDataStorage {
 
+    private static final Logger log = LoggerFactory.getLogger(MemorySessionDataStorage.class);
+
+    /**
+     * The default interval (in seconds) of the sweeper.
+     */
+    public static final long DEFAULT_SWEEP_INTERVAL = 60;
+
     private final Map<String, SessionData> sessions;
+    // the sessions in access order (least recently accessed first), only if the number of sessions is bounded
+    private final LinkedHashMap<String, SessionData> accessOrder;
+    private final int maxSessions;
+    private final long sweepInterval;
+    private final AtomicLong nextSweepTime;
+    private final ScheduledExecutorService sweeper;
+
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong expiredCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
 
     public MemorySessionDataStorage() {
+        this(DEFAULT_SWEEP_INTERVAL, 0);
+    }
+
+    /**
+     * @param sweepInterval the interval (in seconds) of the sweep; the sweep is disabled if it's less or equal to 0
+     * @param maxSessions the maximum number of sessions; the number is not bounded if it's less or equal to 0
+     */
+    public MemorySessionDataStorage(long sweepInterval, int maxSessions) {
+        this(sweepInterval, maxSessions, false);
+    }
+
+    /**
+     * @param sweepInterval the interval (in seconds) of the sweep; the sweep is disabled if it's less or equal to 0
+     * @param maxSessions the maximum number of sessions; the number is not bounded if it's less or equal to 0
+     * @param sweeperThread if true the sweep runs on a daemon thread (call {@link #destroy()} to stop it),
+     * otherwise it runs on the thread that saves a session
+     */
+    public MemorySessionDataStorage(long sweepInterval, int maxSessions, boolean sweeperThread) {
+        this.maxSessions = maxSessions;
+        this.sweepInterval = TimeUnit.SECONDS.toMillis(sweepInterval);
         sessions = new ConcurrentHashMap<>();
+        accessOrder = (maxSessions > 0) ? new LinkedHashMap<>(16, 0.75f, true) : null;
+        nextSweepTime = new AtomicLong(System.currentTimeMillis() + this.sweepInterval);
+
+        if (sweepInterval > 0 && sweeperThread) {
+            sweeper = Executors.newSingleThreadScheduledExecutor(ExecutorUtils.defaultThreadFactoryWithPrefix("session-sweeper-", true));
+            sweeper.scheduleWithFixedDelay(this::sweep, sweepInterval, sweepInterval, TimeUnit.SECONDS);
+        } else {
+            sweeper = null;
+        }
     }
 
     @Override
@@ -36,7 +101,27 @@ public class MemorySessionDataStorage implements SessionDataStorage {
 
     @Override
     public void save(SessionData sessionData) {
-        sessions.put(sessionData.getId(), sessionData);
+        String sessionId = sessionData.getId();
+        SessionData previous;
+        if (accessOrder == null) {
+            previous = sessions.put(sessionId, sessionData);
+        } else {
+            synchronized (accessOrder) {
+                previous = sessions.put(sessionId, sessionData);
+                accessOrder.put(sessionId, sessionData);
+                if (previous == null) {
+                    evictOldest();
+                }
+            }
+        }
+
+        if (previous == null) {
+            createdCount.incrementAndGet();
+        }
+
+        if (sweeper == null && sweepInterval > 0) {
+            sweepIfDue();
+        }
     }
 
     @Override
@@ -47,19 +132,145 @@ public class MemorySessionDataStorage implements SessionDataStorage {
         }
 
         if (sessionData.isExpired()) {
-            delete(sessionId);
+            if (remove(sessionId, sessionData)) {
+                expiredCount.incrementAndGet();
+            }
 
             return null;
         }
 
         sessionData.setLastAccessedTime(System.currentTimeMillis());
+        if (accessOrder != null) {
+            synchronized (accessOrder) {
+                // moves the session at the end of the access order
+                accessOrder.get(sessionId);
+            }
+        }
 
         return sessionData;
     }
 
     @Override
     public void delete(String sessionId) {
-        sessions.remove(sessionId);
+        if (accessOrder == null) {
+            sessions.remove(sessionId);
+        } else {
+            synchronized (accessOrder) {
+                sessions.remove(sessionId);
+                accessOrder.remove(sessionId);
+            }
+        }
+    }
+
+    @Override
+    public void touch(SessionData sessionData) {
+        // the last accessed time is updated by get
+    }
+
+    /**
+     * Removes all expired sessions.
+     * It's invoked periodically (see {@link #MemorySessionDataStorage(long, int, boolean)}).
+     */
+    public void sweep() {
+        try {
+            int count = 0;
+            for (SessionData sessionData : sessions.values()) {
+                if (sessionData.isExpired() && remove(sessionData.getId(), sessionData)) {
+                    count++;
+                }
+            }
+
+            if (count > 0) {
+                expiredCount.addAndGet(count);
+                log.debug("Removed {} expired sessions", count);
+            }
+        } catch (Exception e) {
+            // don't kill the sweeper
+            log.error(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stops the sweeper.
+     */
+    public void destroy() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the number of sessions in memory.
+     */
+    public int getActiveCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Returns the number of saved new sessions.
+     */
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * Returns the number of sessions removed because they expired.
+     */
+    public long getExpiredCount() {
+        return expiredCount.get();
+    }
+
+    /**
+     * Returns the number of sessions removed to make room for new sessions.
+     */
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    /**
+     * Sweeps on the current thread if the sweep interval elapsed (only one thread wins the sweep).
+     */
+    private void sweepIfDue() {
+        long now = System.currentTimeMillis();
+        long next = nextSweepTime.get();
+        if (now >= next && nextSweepTime.compareAndSet(next, now + sweepInterval)) {
+            sweep();
+        }
+    }
+
+    private boolean remove(String sessionId, SessionData sessionData) {
+        if (accessOrder == null) {
+            return sessions.remove(sessionId, sessionData);
+        }
+
+        synchronized (accessOrder) {
+            if (sessions.remove(sessionId, sessionData)) {
+                accessOrder.remove(sessionId);
+
+                return true;
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * Evicts the least recently accessed sessions while the number of sessions exceeds the maximum.
+     * It's invoked with the lock of the access order.
+     */
+    private void evictOldest() {
+        Iterator<SessionData> iterator = accessOrder.values().iterator();
+        while (accessOrder.size() > maxSessions && iterator.hasNext()) {
+            SessionData sessionData = iterator.next();
+            iterator.remove();
+            sessions.remove(sessionData.getId(), sessionData);
+            if (sessionData.isExpired()) {
+                expiredCount.incrementAndGet();
+            } else {
+                evictedCount.incrementAndGet();
+                log.debug("Evicted session '{}'", sessionData.getId());
+            }
+        }
     }
 
 }
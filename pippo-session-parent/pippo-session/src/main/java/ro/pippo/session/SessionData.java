@@ -53,4 +53,18 @@ public interface SessionData extends Serializable {
     int getMaxInactiveInterval();
 
     boolean isExpired();
+
+    /**
+     * Returns true if the data was modified since it was created, loaded or saved
+     * (the storage saves only the dirty data, see {@link SessionDataStorage#touch(SessionData)}).
+     * The default implementation returns always true.
+     */
+    default boolean isDirty() {
+        return true;
+    }
+
+    default void setDirty(boolean dirty) {
+        // do nothing
+    }
+
 }
@@ -30,4 +30,14 @@ public interface SessionDataStorage {
 
     void delete(String sessionId);
 
+    /**
+     * Refreshes the expiration of a session that was not modified (see {@link SessionData#isDirty()}).
+     * It's invoked at the end of the request instead of {@link #save(SessionData)} and it's a good place
+     * for a cheaper operation (for example a {@code EXPIRE} in Redis).
+     * The default implementation saves the session.
+     */
+    default void touch(SessionData sessionData) {
+        save(sessionData);
+    }
+
 }
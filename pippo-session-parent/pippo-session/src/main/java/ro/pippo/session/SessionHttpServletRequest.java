@@ -21,19 +21,36 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
 /**
+ * A session that was not modified (see {@link SessionData#isDirty()}) is refreshed in the storage
+ * with {@link SessionDataStorage#touch(SessionData)} at the end of each request.
+ * If a touch interval is specified, the session is refreshed (saved with the new last accessed time)
+ * only if the interval passed since the last refresh, trading a bounded imprecision of the expiration
+ * for less writes in the storage.
+ *
  * @author Decebal Suiu
  */
 public class SessionHttpServletRequest extends HttpServletRequestWrapper {
 
     private final SessionManager sessionManager;
+    private final long touchInterval;
 
     private PippoHttpSession currentSession;
     private Boolean requestedSessionIdValid;
 
     public SessionHttpServletRequest(HttpServletRequest request, SessionManager sessionManager) {
+        this(request, sessionManager, 0);
+    }
+
+    /**
+     * @param request
+     * @param sessionManager
+     * @param touchInterval the minimum interval (in milliseconds) between two refreshes of a session that was not modified
+     */
+    public SessionHttpServletRequest(HttpServletRequest request, SessionManager sessionManager, long touchInterval) {
         super(request);
 
         this.sessionManager = sessionManager;
+        this.touchInterval = touchInterval;
     }
 
     @Override
@@ -46,6 +63,7 @@ public class SessionHttpServletRequest extends HttpServletRequestWrapper {
         if (requestedSessionId != null) {
             SessionData session = getSessionDataStorage().get(requestedSessionId);
             if (session != null) {
+                session.setDirty(false);
                 requestedSessionIdValid = true;
                 currentSession = createSession(session);
                 currentSession.setNew(false);
@@ -127,7 +145,14 @@ public class SessionHttpServletRequest extends HttpServletRequestWrapper {
             }
         } else {
             SessionData sessionData = wrappedSession.getSessionData();
-            getSessionDataStorage().save(sessionData);
+            long now = System.currentTimeMillis();
+            if (sessionData.isDirty() || (touchInterval > 0 && now - sessionData.getLastAccessedTime() >= touchInterval)) {
+                sessionData.setLastAccessedTime(now);
+                getSessionDataStorage().save(sessionData);
+                sessionData.setDirty(false);
+            } else if (touchInterval <= 0) {
+                getSessionDataStorage().touch(sessionData);
+            }
             if (!isRequestedSessionIdValid() || !sessionData.getId().equals(getRequestedSessionId())) {
                 getSessionStrategy().onNewSession(this, response, sessionData);
             }
@@ -29,17 +29,25 @@ import javax.servlet.http.HttpServletResponse;
  */
 public class SessionRequestResponseFactory extends RequestResponseFactory {
 
+    /**
+     * The minimum interval between two refreshes of the expiration of a session that was not modified
+     * (for example "60 SECONDS"). By default (0) the session is refreshed at each request.
+     */
+    public static final String TOUCH_INTERVAL = "session.touchInterval";
+
     private final SessionManager sessionManager;
+    private final long touchInterval;
 
     public SessionRequestResponseFactory(Application application, SessionManager sessionManager) {
         super(application);
 
         this.sessionManager = sessionManager;
+        touchInterval = application.getPippoSettings().getDurationInMilliseconds(TOUCH_INTERVAL, 0);
     }
 
     @Override
     public RequestResponse createRequestResponse(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
-        SessionHttpServletRequest sessionHttpServletRequest = new SessionHttpServletRequest(httpServletRequest, sessionManager);
+        SessionHttpServletRequest sessionHttpServletRequest = new SessionHttpServletRequest(httpServletRequest, sessionManager, touchInterval);
         Request request = new Request(sessionHttpServletRequest, application);
         Response response = new Response(httpServletResponse, application);
         response.getFinalizeListeners().add(r -> sessionHttpServletRequest.commitSession(httpServletResponse));
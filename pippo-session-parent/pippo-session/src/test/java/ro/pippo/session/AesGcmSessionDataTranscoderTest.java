@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.session;
+
+import org.junit.Before;
+import org.junit.Test;
+import ro.pippo.core.PippoRuntimeException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AesGcmSessionDataTranscoderTest {
+
+    private static final String OLD_KEY = "PasswordPassword";
+    private static final String KEY = "NewPasswordNewPasswordNewPasswor";
+
+    private SessionData sessionData;
+
+    @Before
+    public void setUp() {
+        sessionData = new DefaultSessionData();
+        sessionData.put("KEY", "VALUE");
+    }
+
+    @Test
+    public void testEncodeDecode() {
+        AesGcmSessionDataTranscoder transcoder = new AesGcmSessionDataTranscoder.Builder().secretKey(1, KEY).build();
+
+        String data = transcoder.encode(sessionData);
+        assertTrue(data.matches("[A-Za-z0-9_-]+"));
+        assertFalse(data.contains("VALUE"));
+
+        SessionData decoded = transcoder.decode(data);
+        assertEquals(sessionData.getId(), decoded.getId());
+        assertEquals("VALUE", decoded.get("KEY"));
+    }
+
+    @Test
+    public void testRandomNonce() {
+        AesGcmSessionDataTranscoder transcoder = new AesGcmSessionDataTranscoder.Builder().secretKey(1, KEY).build();
+
+        assertNotEquals(transcoder.encode(sessionData), transcoder.encode(sessionData));
+    }
+
+    @Test
+    public void testTamperedData() {
+        AesGcmSessionDataTranscoder transcoder = new AesGcmSessionDataTranscoder.Builder().secretKey(1, KEY).build();
+
+        byte[] data = transcoder.encodeToBytes(sessionData);
+        data[data.length / 2] ^= 1;
+        assertNull(transcoder.decodeFromBytes(data));
+
+        assertNull(transcoder.decodeFromBytes(new byte[10]));
+        assertNull(transcoder.decode("not base64!"));
+    }
+
+    @Test
+    public void testKeyRotation() {
+        AesGcmSessionDataTranscoder oldTranscoder = new AesGcmSessionDataTranscoder.Builder().secretKey(0, OLD_KEY).build();
+        byte[] oldData = oldTranscoder.encodeToBytes(sessionData);
+
+        AesGcmSessionDataTranscoder transcoder = new AesGcmSessionDataTranscoder.Builder()
+            .secretKey(1, KEY)
+            .decryptionKey(0, OLD_KEY)
+            .build();
+        assertEquals("VALUE", transcoder.decodeFromBytes(oldData).get("KEY"));
+
+        byte[] data = transcoder.encodeToBytes(sessionData);
+        assertEquals(1, data[0]);
+        // the old transcoder doesn't know the new key
+        assertNull(oldTranscoder.decodeFromBytes(data));
+    }
+
+    @Test(expected = PippoRuntimeException.class)
+    public void testInvalidKeyLength() {
+        new AesGcmSessionDataTranscoder.Builder().secretKey(1, "short");
+    }
+
+    @Test(expected = PippoRuntimeException.class)
+    public void testSecretKeyIsRequired() {
+        new AesGcmSessionDataTranscoder.Builder().decryptionKey(0, OLD_KEY).build();
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.session;
+
+import org.junit.Test;
+import ro.pippo.core.Flash;
+import ro.pippo.core.PippoRuntimeException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CompactSessionDataTranscoderTest {
+
+    private final CompactSessionDataTranscoder transcoder = new CompactSessionDataTranscoder();
+
+    @Test
+    public void testEncodeDecode() {
+        SessionData sessionData = new DefaultSessionData();
+        sessionData.setMaxInactiveInterval(600);
+        sessionData.setLastAccessedTime(sessionData.getCreationTime() + 1000);
+        sessionData.put("string", "pippo ăîș");
+        sessionData.put("int", 1);
+        sessionData.put("long", 2L);
+        sessionData.put("boolean", true);
+        sessionData.put("double", 3.5);
+        sessionData.put("float", 4.5F);
+        sessionData.put("short", (short) 5);
+        sessionData.put("byte", (byte) 6);
+        sessionData.put("char", 'p');
+        sessionData.put("list", new ArrayList<>(Arrays.asList("a", "b")));
+        Flash flash = new Flash();
+        flash.error("error");
+        sessionData.put("flash", flash);
+
+        SessionData decoded = transcoder.decodeFromBytes(transcoder.encodeToBytes(sessionData));
+
+        assertEquals(sessionData.getId(), decoded.getId());
+        assertEquals(sessionData.getCreationTime(), decoded.getCreationTime());
+        assertEquals(sessionData.getLastAccessedTime(), decoded.getLastAccessedTime());
+        assertEquals(600, decoded.getMaxInactiveInterval());
+        assertEquals(sessionData.getNames(), decoded.getNames());
+        for (String name : sessionData.getNames()) {
+            if (!"flash".equals(name)) {
+                assertEquals(name, (Object) sessionData.get(name), decoded.get(name));
+            }
+        }
+        Flash decodedFlash = decoded.get("flash");
+        assertEquals("error", decodedFlash.getError());
+    }
+
+    @Test
+    public void testDecodedSessionIsNotDirty() {
+        SessionData sessionData = new DefaultSessionData();
+        sessionData.put("name", "pippo");
+
+        assertFalse(transcoder.decodeFromBytes(transcoder.encodeToBytes(sessionData)).isDirty());
+    }
+
+    @Test
+    public void testEncodeDecodeString() {
+        SessionData sessionData = new DefaultSessionData();
+        sessionData.put("name", "pippo");
+
+        String data = transcoder.encode(sessionData);
+
+        assertEquals("pippo", transcoder.decode(data).get("name"));
+    }
+
+    @Test
+    public void testSmallerThanSerialization() {
+        SessionData sessionData = new DefaultSessionData();
+        sessionData.put("username", "decebal");
+        sessionData.put("visits", 10);
+
+        int compactLength = transcoder.encodeToBytes(sessionData).length;
+        int serializationLength = Base64.getDecoder().decode(new SerializationSessionDataTranscoder().encode(sessionData)).length;
+        assertTrue(compactLength * 4 < serializationLength);
+    }
+
+    @Test(expected = PippoRuntimeException.class)
+    public void testDecodeTruncated() {
+        SessionData sessionData = new DefaultSessionData();
+        sessionData.put("name", "pippo");
+        byte[] data = transcoder.encodeToBytes(sessionData);
+
+        transcoder.decodeFromBytes(Arrays.copyOf(data, data.length - 2));
+    }
+
+    @Test(expected = PippoRuntimeException.class)
+    public void testDecodeOversizedLength() {
+        // version and an id with a length prefix of 2147483647 bytes
+        byte[] data = {1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'i', 'd'};
+
+        transcoder.decodeFromBytes(data);
+    }
+
+}
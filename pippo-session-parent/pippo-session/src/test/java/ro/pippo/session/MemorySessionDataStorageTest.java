@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.session;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class MemorySessionDataStorageTest {
+
+    private MemorySessionDataStorage storage;
+
+    @After
+    public void tearDown() {
+        storage.destroy();
+    }
+
+    @Test
+    public void testSweep() {
+        storage = new MemorySessionDataStorage(0, 0);
+        SessionData active = save(System.currentTimeMillis());
+        SessionData expired = save(System.currentTimeMillis() - 2000);
+        expired.setMaxInactiveInterval(1);
+
+        storage.sweep();
+
+        assertEquals(1, storage.getActiveCount());
+        assertEquals(2, storage.getCreatedCount());
+        assertEquals(1, storage.getExpiredCount());
+        assertNotNull(storage.get(active.getId()));
+        assertNull(storage.get(expired.getId()));
+    }
+
+    @Test
+    public void testSweeper() throws Exception {
+        storage = new MemorySessionDataStorage(1, 0, true);
+        SessionData expired = save(System.currentTimeMillis());
+        expired.setMaxInactiveInterval(0);
+
+        for (int i = 0; i < 50 && storage.getActiveCount() > 0; i++) {
+            Thread.sleep(100);
+        }
+
+        assertEquals(0, storage.getActiveCount());
+        assertEquals(1, storage.getExpiredCount());
+    }
+
+    @Test
+    public void testSweepOnSave() throws Exception {
+        storage = new MemorySessionDataStorage(1, 0);
+        SessionData expired = save(System.currentTimeMillis());
+        expired.setMaxInactiveInterval(0);
+
+        Thread.sleep(1100);
+        save(System.currentTimeMillis());
+
+        assertEquals(1, storage.getActiveCount());
+        assertEquals(1, storage.getExpiredCount());
+    }
+
+    @Test
+    public void testEvictOldest() {
+        storage = new MemorySessionDataStorage(0, 2);
+        long now = System.currentTimeMillis();
+        SessionData oldest = save(now - 2000);
+        SessionData newer = save(now - 1000);
+
+        // saving an existing session doesn't evict
+        storage.save(newer);
+        assertEquals(2, storage.getActiveCount());
+        assertEquals(0, storage.getEvictedCount());
+
+        SessionData newest = save(now);
+
+        assertEquals(2, storage.getActiveCount());
+        assertEquals(3, storage.getCreatedCount());
+        assertEquals(1, storage.getEvictedCount());
+        assertNull(storage.get(oldest.getId()));
+        assertNotNull(storage.get(newer.getId()));
+        assertNotNull(storage.get(newest.getId()));
+    }
+
+    @Test
+    public void testEvictLeastRecentlyAccessed() {
+        storage = new MemorySessionDataStorage(0, 2);
+        long now = System.currentTimeMillis();
+        SessionData first = save(now);
+        SessionData second = save(now);
+
+        // the access moves the first session after the second
+        assertNotNull(storage.get(first.getId()));
+        save(now);
+
+        assertEquals(1, storage.getEvictedCount());
+        assertNull(storage.get(second.getId()));
+        assertNotNull(storage.get(first.getId()));
+    }
+
+    private SessionData save(long lastAccessedTime) {
+        SessionData sessionData = storage.create();
+        sessionData.setLastAccessedTime(lastAccessedTime);
+        storage.save(sessionData);
+
+        return sessionData;
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ro.pippo.session;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SessionHttpServletRequestTest {
+
+    private SessionDataStorage sessionDataStorage;
+    private SessionStrategy sessionStrategy;
+    private SessionData sessionData;
+
+    @Before
+    public void setUp() {
+        sessionDataStorage = spy(new MemorySessionDataStorage());
+        sessionStrategy = mock(SessionStrategy.class);
+
+        sessionData = sessionDataStorage.create();
+        sessionData.put("name", "pippo");
+        sessionData.put("list", new ArrayList<>());
+        sessionDataStorage.save(sessionData);
+        clearInvocations(sessionDataStorage);
+    }
+
+    @Test
+    public void testNewSessionIsDirty() {
+        assertTrue(new DefaultSessionData().isDirty());
+    }
+
+    @Test
+    public void testUnmodifiedSessionIsTouched() {
+        SessionHttpServletRequest request = createRequest(sessionData.getId());
+        HttpSession session = request.getSession();
+        session.getAttribute("name");
+        session.setMaxInactiveInterval(session.getMaxInactiveInterval());
+        request.commitSession(mock(HttpServletResponse.class));
+
+        verify(sessionDataStorage).touch(sessionData);
+        verify(sessionDataStorage, never()).save(any());
+    }
+
+    @Test
+    public void testModifiedSessionIsSaved() {
+        SessionHttpServletRequest request = createRequest(sessionData.getId());
+        request.getSession().setAttribute("name", "pippo2");
+        request.commitSession(mock(HttpServletResponse.class));
+
+        verify(sessionDataStorage).save(sessionData);
+        verify(sessionDataStorage, never()).touch(any());
+        assertFalse(sessionData.isDirty());
+    }
+
+    @Test
+    public void testSessionWithRemovedAttributeIsSaved() {
+        SessionHttpServletRequest request = createRequest(sessionData.getId());
+        request.getSession().removeAttribute("name");
+        request.commitSession(mock(HttpServletResponse.class));
+
+        verify(sessionDataStorage).save(sessionData);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSessionWithMutableAttributeIsSaved() {
+        SessionHttpServletRequest request = createRequest(sessionData.getId());
+        List<String> list = (List<String>) request.getSession().getAttribute("list");
+        list.add("pippo");
+        request.commitSession(mock(HttpServletResponse.class));
+
+        verify(sessionDataStorage).save(sessionData);
+    }
+
+    @Test
+    public void testCreatedSessionIsSaved() {
+        SessionHttpServletRequest request = createRequest(null);
+        HttpSession session = request.getSession();
+        request.commitSession(mock(HttpServletResponse.class));
+
+        verify(sessionDataStorage).save(((PippoHttpSession) session).getSessionData());
+        verify(sessionStrategy).onNewSession(any(), any(), any());
+    }
+
+    @Test
+    public void testUnmodifiedSessionIsNotTouchedInTouchInterval() {
+        SessionHttpServletRequest request = createRequest(sessionData.getId(), 60000);
+        request.getSession().getAttribute("name");
+        sessionData.setLastAccessedTime(System.currentTimeMillis() - 1000);
+        request.commitSession(mock(HttpServletResponse.class));
+
+        verify(sessionDataStorage, never()).touch(any());
+        verify(sessionDataStorage, never()).save(any());
+    }
+
+    @Test
+    public void testUnmodifiedSessionIsRefreshedAfterTouchInterval() {
+        SessionHttpServletRequest request = createRequest(sessionData.getId(), 60000);
+        request.getSession().getAttribute("name");
+        long lastAccessedTime = System.currentTimeMillis() - 61000;
+        sessionData.setLastAccessedTime(lastAccessedTime);
+        request.commitSession(mock(HttpServletResponse.class));
+
+        verify(sessionDataStorage).save(sessionData);
+        assertTrue(sessionData.getLastAccessedTime() > lastAccessedTime);
+    }
+
+    @Test
+    public void testModifiedSessionIsSavedInTouchInterval() {
+        SessionHttpServletRequest request = createRequest(sessionData.getId(), 60000);
+        request.getSession().setAttribute("name", "pippo2");
+        request.commitSession(mock(HttpServletResponse.class));
+
+        verify(sessionDataStorage).save(sessionData);
+    }
+
+    private SessionHttpServletRequest createRequest(String sessionId) {
+        return createRequest(sessionId, 0);
+    }
+
+    private SessionHttpServletRequest createRequest(String sessionId, long touchInterval) {
+        HttpServletRequest httpServletRequest = mock(HttpServletRequest.class);
+        SessionManager sessionManager = new SessionManager(sessionDataStorage, sessionStrategy);
+        SessionHttpServletRequest request = new SessionHttpServletRequest(httpServletRequest, sessionManager, touchInterval);
+        when(sessionStrategy.getRequestedSessionId(request)).thenReturn(sessionId);
+
+        return request;
+    }
+
+}